@@ -0,0 +1,64 @@
+#!/usr/bin/env bash
+# =====================================================================================
+# compare-modes.sh
+# -------------------------
+# Reproducible platform-thread vs virtual-thread comparison of the be service.
+#
+# For each mode the packaged app is started, warmed up and driven by LoadHarness with the
+# same concurrency / duration; reports land in target/perf/<mode>.json and are printed
+# side by side at the end.
+#
+# Requirements: the datasource configured through the usual SPRING_DATASOURCE_* env vars,
+# and an existing account (LOGIN_EMAIL / LOGIN_PASSWORD).
+# The login rate limiter is lifted (same overrides as PerfSuite): every virtual user logs
+# in with the one account from one IP, so the default limits would answer mostly 429 and
+# the comparison would measure the limiter instead of the threading model.
+#
+# Usage: perf/compare-modes.sh [concurrency] [duration-seconds]
+# =====================================================================================
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+CONCURRENCY=${1:-200}
+DURATION=${2:-30}
+PORT=${PORT:-8989}
+LOGIN_EMAIL=${LOGIN_EMAIL:?set LOGIN_EMAIL}
+LOGIN_PASSWORD=${LOGIN_PASSWORD:?set LOGIN_PASSWORD}
+GET_PATHS=${GET_PATHS:-/actuator/health /api/catalog/subjects?size=20 /api/catalog/subjects?size=20&sort=name}
+NO_LOGIN_LIMIT="--security.login-rate-limit.ip.per-minute=100000000 --security.login-rate-limit.ip.burst=100000000 \
+  --security.login-rate-limit.email.per-minute=100000000 --security.login-rate-limit.email.burst=100000000"
+
+./mvnw -q -DskipTests package
+./mvnw -q -Pjmh test-compile
+JAR=$(ls target/be-*.jar | grep -v original | head -n 1)
+mkdir -p target/perf
+
+get_args=""
+for path in $GET_PATHS; do
+  get_args="$get_args --get $path"
+done
+
+for mode in platform vthreads; do
+  profile_arg=""
+  if [ "$mode" = "vthreads" ]; then
+    profile_arg="--spring.profiles.active=vthreads"
+  fi
+
+  java --enable-preview -jar "$JAR" --server.port="$PORT" $profile_arg $NO_LOGIN_LIMIT \
+    > "target/perf/$mode.log" 2>&1 &
+  app_pid=$!
+  trap 'kill $app_pid 2>/dev/null || true' EXIT
+
+  until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do
+    sleep 1
+  done
+
+  ./mvnw -q -Pjmh exec:exec@load-harness -Dload.args="--label $mode --base-url http://localhost:$PORT \
+    --concurrency $CONCURRENCY --duration $DURATION --email $LOGIN_EMAIL --password $LOGIN_PASSWORD \
+    $get_args --report target/perf/$mode.json"
+
+  kill "$app_pid"
+  wait "$app_pid" 2>/dev/null || true
+done
+
+./mvnw -q -Pjmh exec:exec@load-harness -Dload.args="--compare target/perf/platform.json target/perf/vthreads.json"
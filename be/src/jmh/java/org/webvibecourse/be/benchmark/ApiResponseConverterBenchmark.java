@@ -0,0 +1,119 @@
+package org.webvibecourse.be.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.webvibecourse.be.config.ApiResponseHttpMessageConverter;
+import org.webvibecourse.be.dto.response.ApiResponse;
+import org.webvibecourse.be.dto.response.TokenResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.OffsetDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * =====================================================================================
+ * ApiResponseConverterBenchmark
+ * -------------------------
+ * ns and bytes allocated per response (build the envelope + write it), login payload.
+ * <p>
+ * ✔ defaultConverter   : OffsetDateTime.now().toString() + MappingJackson2HttpMessageConverter
+ * ✔ streamingConverter : CoarseClock timestamp + ApiResponseHttpMessageConverter
+ * ✔ errorEnvelope      : data-less error response, streaming converter
+ * <p>
+ * ./mvnw -Pjmh test-compile exec:exec -Djmh.args="ApiResponseConverterBenchmark -prof gc"
+ * =====================================================================================
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApiResponseConverterBenchmark {
+
+    private MappingJackson2HttpMessageConverter jacksonConverter;
+    private ApiResponseHttpMessageConverter streamingConverter;
+    private TokenResponse tokens;
+    private ReusableOutputMessage output;
+
+    @Setup
+    public void setup() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        jacksonConverter = new MappingJackson2HttpMessageConverter(objectMapper);
+        streamingConverter = new ApiResponseHttpMessageConverter(objectMapper);
+        tokens = TokenResponse.builder()
+                .accessToken("eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJzdHVkZW50QHdlYnZpYmUuZGV2Iiwicm9sZSI6IlNUVURFTlQifQ.sig")
+                .refreshToken("eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJzdHVkZW50QHdlYnZpYmUuZGV2In0.sig")
+                .accessTokenExpiryAt(System.currentTimeMillis())
+                .refreshTokenExpiryAt(System.currentTimeMillis())
+                .role("STUDENT")
+                .build();
+        output = new ReusableOutputMessage();
+
+        // Sanity check: same envelope structure from both converters
+        defaultConverter();
+        streamingConverter();
+    }
+
+    @Benchmark
+    public int defaultConverter() throws IOException {
+        ApiResponse<TokenResponse> response = ApiResponse.<TokenResponse>builder()
+                .status("success")
+                .timestamp(OffsetDateTime.now().toString())
+                .message("Success")
+                .data(tokens)
+                .build();
+        output.reset();
+        jacksonConverter.write(response, MediaType.APPLICATION_JSON, output);
+        return output.body.size();
+    }
+
+    @Benchmark
+    public int streamingConverter() throws IOException {
+        output.reset();
+        streamingConverter.write(ApiResponse.success(tokens), MediaType.APPLICATION_JSON, output);
+        return output.body.size();
+    }
+
+    @Benchmark
+    public int errorEnvelope() throws IOException {
+        output.reset();
+        streamingConverter.write(ApiResponse.error("Invalid email or password"), MediaType.APPLICATION_JSON, output);
+        return output.body.size();
+    }
+
+    private static final class ReusableOutputMessage implements HttpOutputMessage {
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(1024);
+        private final HttpHeaders headers = new HttpHeaders();
+
+        void reset() {
+            body.reset();
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package org.webvibecourse.be.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.webvibecourse.be.Enum.Role;
+import org.webvibecourse.be.dto.response.ImportReport;
+import org.webvibecourse.be.perf.OfflineApp;
+import org.webvibecourse.be.service.BulkImportService;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * =====================================================================================
+ * BulkImportBenchmark
+ * -------------------------
+ * Wall time of importing 100k rows from CSV (offline profile: in-memory H2, MySQL mode).
+ * <p>
+ * ✔ importUsers    : full user pipeline, BCrypt cost 4 (import.hash-threads = cores / 2)
+ * ✔ importSubjects : no hashing, isolates validation + the batched write path
+ * ✔ batchSize      : hibernate.jdbc.batch_size, 1 = one INSERT round trip per row
+ * <p>
+ * rows/s = 100000 / score.
+ * ./mvnw -Pjmh test-compile exec:exec -Djmh.args="BulkImportBenchmark"
+ * =====================================================================================
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class BulkImportBenchmark {
+
+    private static final int ROWS = 100_000;
+
+    @Param({"1", "100"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private BulkImportService bulkImportService;
+    private byte[] users;
+    private byte[] subjects;
+    private int iteration;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = OfflineApp.start(
+                "--security.password.bcrypt-strength=4",
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize);
+        bulkImportService = context.getBean(BulkImportService.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void generate() {
+        // Fresh emails every iteration: the previous ones are already imported
+        int run = iteration++;
+        StringBuilder builder = new StringBuilder(ROWS * 64).append("email,password,fullName,role\n");
+        for (int i = 0; i < ROWS; i++) {
+            builder.append("user").append(run).append('-').append(i).append("@import.test,")
+                    .append("secret-").append(i).append(",Imported User ").append(i).append(',')
+                    .append(i % 10 == 0 ? "TEACHER" : "STUDENT").append('\n');
+        }
+        users = builder.toString().getBytes(StandardCharsets.UTF_8);
+
+        builder.setLength(0);
+        builder.append("name,description\n");
+        for (int i = 0; i < ROWS; i++) {
+            builder.append("Imported subject ").append(run).append('-').append(i)
+                    .append(",\"Description, number ").append(i).append("\"\n");
+        }
+        subjects = builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ImportReport importUsers() throws IOException {
+        return check(bulkImportService.importUsers(new ByteArrayInputStream(users), BulkImportService.Format.CSV, Role.SUPERADMIN));
+    }
+
+    @Benchmark
+    public ImportReport importSubjects() throws IOException {
+        return check(bulkImportService.importSubjects(
+                new ByteArrayInputStream(subjects), BulkImportService.Format.CSV));
+    }
+
+    private static ImportReport check(ImportReport report) {
+        if (report.getImported() != ROWS) {
+            throw new IllegalStateException("Imported " + report.getImported() + " of " + ROWS
+                    + ": " + report.getErrors());
+        }
+        return report;
+    }
+}
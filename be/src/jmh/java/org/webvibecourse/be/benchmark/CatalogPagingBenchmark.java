@@ -0,0 +1,119 @@
+package org.webvibecourse.be.benchmark;
+
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.webvibecourse.be.dto.response.CursorPageResponse;
+import org.webvibecourse.be.dto.response.SubjectSummaryResponse;
+import org.webvibecourse.be.perf.CatalogDataGenerator;
+import org.webvibecourse.be.perf.OfflineApp;
+import org.webvibecourse.be.service.CatalogService;
+import org.webvibecourse.be.service.CatalogService.SortBy;
+import org.webvibecourse.be.util.KeysetCursor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * =====================================================================================
+ * CatalogPagingBenchmark
+ * -------------------------
+ * Latency of fetching page N of the subject listing (20 rows), keyset vs OFFSET,
+ * on 200k generated subjects (offline profile: in-memory H2, MySQL mode).
+ * <p>
+ * ✔ keyset*  : CatalogService with the cursor of page N-1 → flat in N
+ * ✔ offset*  : same projection with OFFSET N*20 → grows linearly with N
+ * <p>
+ * ./mvnw -Pjmh test-compile exec:exec -Djmh.args="CatalogPagingBenchmark"
+ * =====================================================================================
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class CatalogPagingBenchmark {
+
+    private static final int ROWS = 200_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1", "100", "1000", "9000"})
+    public int page;
+
+    private ConfigurableApplicationContext context;
+    private CatalogService catalogService;
+    private EntityManager entityManager;
+    private String idCursor;
+    private String nameCursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // Query cache off: every invocation must reach the database to compare the two plans
+        context = OfflineApp.start("--spring.jpa.properties.hibernate.cache.use_query_cache=false");
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        CatalogDataGenerator.seedSubjects(jdbc, ROWS, 42L);
+        catalogService = context.getBean(CatalogService.class);
+        entityManager = context.getBean(EntityManager.class);
+
+        // Cursor = last row of page N-1 (what the client got from the previous response)
+        int offset = (page - 1) * PAGE_SIZE;
+        if (offset > 0) {
+            Long id = jdbc.queryForObject(
+                    "select id from subjects order by id limit 1 offset ?", Long.class, offset - 1);
+            idCursor = KeysetCursor.ofId(id).encode();
+            Map<String, Object> last = jdbc.queryForMap(
+                    "select name, id from subjects order by name, id limit 1 offset ?", offset - 1);
+            nameCursor = KeysetCursor.ofName((String) last.get("name"), ((Number) last.get("id")).longValue())
+                    .encode();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CursorPageResponse<SubjectSummaryResponse> keysetById() {
+        return catalogService.listSubjects(null, idCursor, PAGE_SIZE, SortBy.ID);
+    }
+
+    @Benchmark
+    public CursorPageResponse<SubjectSummaryResponse> keysetByName() {
+        return catalogService.listSubjects(null, nameCursor, PAGE_SIZE, SortBy.NAME);
+    }
+
+    @Benchmark
+    public List<SubjectSummaryResponse> offsetById() {
+        return offset("order by s.id");
+    }
+
+    @Benchmark
+    public List<SubjectSummaryResponse> offsetByName() {
+        return offset("order by s.name, s.id");
+    }
+
+    private List<SubjectSummaryResponse> offset(String orderBy) {
+        return entityManager.createQuery(
+                        "select new org.webvibecourse.be.dto.response.SubjectSummaryResponse(s.id, s.name) "
+                                + "from Subject s " + orderBy, SubjectSummaryResponse.class)
+                .setFirstResult((page - 1) * PAGE_SIZE)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList();
+    }
+}
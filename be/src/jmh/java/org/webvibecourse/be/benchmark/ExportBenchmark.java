@@ -0,0 +1,119 @@
+package org.webvibecourse.be.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.webvibecourse.be.perf.CatalogDataGenerator;
+import org.webvibecourse.be.perf.OfflineApp;
+import org.webvibecourse.be.service.ExportService;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * =====================================================================================
+ * ExportBenchmark
+ * -------------------------
+ * Full export of 1M generated subjects in a fork limited to -Xmx128m: the export must
+ * stream (a findAll() of the table alone would not fit). The database is a file-backed
+ * H2 (MySQL mode) so the rows live on disk, not in the same heap.
+ * <p>
+ * Each invocation checks the row count and prints the live heap (after the last GC).
+ * <p>
+ * ./mvnw -Pjmh test-compile exec:exec -Djmh.args="ExportBenchmark"
+ * =====================================================================================
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx128m")
+public class ExportBenchmark {
+
+    private static final int ROWS = 1_000_000;
+
+    @Param({"CSV", "NDJSON"})
+    public ExportService.Format format;
+
+    private ConfigurableApplicationContext context;
+    private ExportService exportService;
+    private Path databaseDir;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        databaseDir = Files.createTempDirectory("export-benchmark");
+        context = OfflineApp.start(
+                "--spring.datasource.url=jdbc:h2:file:" + databaseDir.resolve("webvibe")
+                        + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;CACHE_SIZE=8192");
+        // seeded over JDBC after startup: the subject search index stays empty
+        CatalogDataGenerator.seedSubjects(context.getBean(JdbcTemplate.class), ROWS, 42L);
+        exportService = context.getBean(ExportService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        try (var files = Files.walk(databaseDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public long export() throws IOException {
+        CountingOutputStream output = new CountingOutputStream();
+        long rows = exportService.export(ExportService.Dataset.SUBJECTS, format, output);
+        if (rows != ROWS) {
+            throw new IllegalStateException("Exported " + rows + " of " + ROWS + " rows");
+        }
+        System.out.printf("%n%d rows, %d MB written, live heap %d MB%n",
+                rows, output.bytes >> 20, liveHeap() >> 20);
+        return output.bytes;
+    }
+
+    private static long liveHeap() {
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.getCollectionUsage() != null) {
+                used += pool.getCollectionUsage().getUsed();
+            }
+        }
+        return used;
+    }
+
+    /**
+     * Discards the export, counting its size.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+        long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+        }
+    }
+}
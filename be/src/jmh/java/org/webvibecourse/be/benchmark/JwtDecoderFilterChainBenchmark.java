@@ -0,0 +1,90 @@
+package org.webvibecourse.be.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
+import org.webvibecourse.be.config.CachingJwtDecoder;
+import org.webvibecourse.be.config.JwtService;
+import org.webvibecourse.be.config.SecurityConfig;
+import org.webvibecourse.be.service.impl.TokenRevocationServiceImpl;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * =====================================================================================
+ * JwtDecoderFilterChainBenchmark
+ * -------------------------
+ * Per-request latency of the resource-server authentication step
+ * (BearerTokenAuthenticationFilter → JwtAuthenticationProvider → JwtDecoder → converter)
+ * for a client that sends the same access token on every request.
+ * <p>
+ * decoder = nimbus  : previous NimbusJwtDecoder (re-verifies + re-decodes every request)
+ * decoder = unified : CachingJwtDecoder backed by JwtService + VerifiedTokenCache
+ * <p>
+ * ./mvnw -Pjmh test-compile exec:exec -Djmh.args="JwtDecoderFilterChainBenchmark -prof gc"
+ * =====================================================================================
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtDecoderFilterChainBenchmark {
+
+    @Param({"nimbus", "unified"})
+    public String decoder;
+
+    private BearerTokenAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setup() {
+        JwtService jwtService = JwtServiceBenchmark.newJwtService();
+        JwtDecoder jwtDecoder = "nimbus".equals(decoder)
+                ? NimbusJwtDecoder.withSecretKey(new SecretKeySpec(
+                        "a-string-secret-at-least-256-bits-long".getBytes(), "HmacSHA256")).build()
+                : new CachingJwtDecoder(jwtService, new TokenRevocationServiceImpl(
+                        100_000, 172800000L, 604800000L, new SimpleMeterRegistry()));
+
+        JwtAuthenticationProvider provider = new JwtAuthenticationProvider(jwtDecoder);
+        provider.setJwtAuthenticationConverter(new SecurityConfig().jwtAuthenticationConverter());
+        filter = new BearerTokenAuthenticationFilter(new ProviderManager(provider));
+
+        authorization = "Bearer " + jwtService.generateAccessToken("student@webvibe.dev", 42L, "STUDENT");
+    }
+
+    @Benchmark
+    public MockHttpServletResponse authenticateRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/catalog/subjects");
+        request.addHeader("Authorization", authorization);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, new MockFilterChain());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+}
@@ -0,0 +1,113 @@
+package org.webvibecourse.be.benchmark;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.webvibecourse.be.config.JwtKeyRing;
+import org.webvibecourse.be.config.JwtService;
+import org.webvibecourse.be.config.ParsedToken;
+import org.webvibecourse.be.config.VerifiedTokenCache;
+import org.webvibecourse.be.repository.impl.InMemorySigningKeyStore;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * =====================================================================================
+ * JwtServiceBenchmark
+ * -------------------------
+ * Throughput of the JWT hot paths used by login and by every authenticated request:
+ * ✔ access token generation
+ * ✔ refresh token generation
+ * ✔ claim extraction (signature verify + JSON decode)
+ * ✔ cached parse / validateToken (repeat request with the same access token)
+ * <p>
+ * Run with the gc profiler (default jmh.args) to get bytes allocated per operation
+ * (gc.alloc.rate.norm):
+ * ./mvnw -Pjmh test-compile exec:exec -Djmh.args="JwtServiceBenchmark -prof gc"
+ * =====================================================================================
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private String accessToken;
+
+    @Setup
+    public void setup() {
+        jwtService = newJwtService();
+        accessToken = jwtService.generateAccessToken("student@webvibe.dev", 42L, "STUDENT");
+    }
+
+    /**
+     * Build a JwtService outside of Spring with the same values as application.properties.
+     */
+    static JwtService newJwtService() {
+        return newJwtService("ES256");
+    }
+
+    /**
+     * @param algorithm jwt.signing.algorithm (ES256 = in-memory key ring, HS256 = jwt.secret)
+     */
+    static JwtService newJwtService(String algorithm) {
+        return newJwtService(algorithm, "compact");
+    }
+
+    /**
+     * @param algorithm jwt.signing.algorithm
+     * @param profile   jwt.token-profile (standard | compact)
+     */
+    static JwtService newJwtService(String algorithm, String profile) {
+        JwtKeyRing keyRing = new JwtKeyRing(new InMemorySigningKeyStore(), 604800000L, 3600000L, 604800000L);
+        JwtService service = new JwtService(new VerifiedTokenCache(10_000, new SimpleMeterRegistry()),
+                new SimpleMeterRegistry(), keyRing);
+        ReflectionTestUtils.setField(service, "secret", "a-string-secret-at-least-256-bits-long");
+        ReflectionTestUtils.setField(service, "accessExpiration", 172800000L);
+        ReflectionTestUtils.setField(service, "refreshExpiration", 604800000L);
+        ReflectionTestUtils.setField(service, "signingAlgorithm", algorithm);
+        ReflectionTestUtils.setField(service, "acceptHs256", true);
+        ReflectionTestUtils.setField(service, "tokenProfile", profile);
+        ReflectionTestUtils.setField(service, "compactIncludeEmail", false);
+        ReflectionTestUtils.invokeMethod(service, "init");
+        return service;
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtService.generateAccessToken("student@webvibe.dev", 42L, "STUDENT");
+    }
+
+    @Benchmark
+    public String generateRefreshToken() {
+        return jwtService.generateRefreshToken("student@webvibe.dev", 42L, "STUDENT");
+    }
+
+    @Benchmark
+    public Claims extractClaims() {
+        return jwtService.extractClaims(accessToken);
+    }
+
+    @Benchmark
+    public ParsedToken parseCached() {
+        return jwtService.parse(accessToken);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtService.validateToken(accessToken, "student@webvibe.dev");
+    }
+}
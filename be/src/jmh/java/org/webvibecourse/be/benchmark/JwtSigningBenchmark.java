@@ -0,0 +1,132 @@
+package org.webvibecourse.be.benchmark;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.webvibecourse.be.config.JwtService;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.Signature;
+import java.security.spec.ECGenParameterSpec;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * =====================================================================================
+ * JwtSigningBenchmark
+ * -------------------------
+ * Sign / verify throughput per signing algorithm.
+ * <p>
+ * ✔ token*     : full JwtService path (build + sign, verify + decode; verified-token
+ * cache bypassed) for HS256 (jwt.secret) and ES256 (key ring)
+ * ✔ primitive* : the bare JCA operation over a token-sized input, including Ed25519,
+ * which the JWT library in use (jjwt 0.11) cannot sign tokens with
+ * <p>
+ * ./mvnw -Pjmh test-compile exec:exec -Djmh.args="JwtSigningBenchmark"
+ * =====================================================================================
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtSigningBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Tokens {
+
+        @Param({"HS256", "ES256"})
+        public String algorithm;
+
+        JwtService jwtService;
+        String accessToken;
+
+        @Setup
+        public void setup() {
+            jwtService = JwtServiceBenchmark.newJwtService(algorithm);
+            accessToken = jwtService.generateAccessToken("student@webvibe.dev", 42L, "STUDENT");
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Primitives {
+
+        @Param({"HmacSHA256", "SHA256withECDSA", "Ed25519"})
+        public String algorithm;
+
+        byte[] input;
+        byte[] signature;
+        Mac mac;
+        Signature signer;
+        Signature verifier;
+
+        @Setup
+        public void setup() throws GeneralSecurityException {
+            // header.payload of a typical access token
+            input = ("eyJraWQiOiJ4eHh4eHh4eHh4eHh4eHh4eHh4eHh4eHh4eHh4eHh4eHh4eHh4eHgiLCJhbGciOiJFUzI1NiJ9."
+                    + "eyJqdGkiOiIxZjJlM2Q0Yy01YjZhLTQ3OTgtODk2OC01YTRiM2MyZDFlMGYiLCJzdWIiOiJzdHVkZW50QHdl"
+                    + "YnZpYmUuZGV2IiwidXNlcklkIjo0Miwicm9sZSI6IlNUVURFTlQiLCJpYXQiOjE3MDAwMDAwMDAsImV4cCI6"
+                    + "MTcwMDE3MjgwMH0").getBytes(StandardCharsets.US_ASCII);
+            if ("HmacSHA256".equals(algorithm)) {
+                mac = Mac.getInstance(algorithm);
+                mac.init(new SecretKeySpec("a-string-secret-at-least-256-bits-long".getBytes(StandardCharsets.UTF_8), algorithm));
+                signature = mac.doFinal(input);
+                return;
+            }
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("Ed25519".equals(algorithm) ? "Ed25519" : "EC");
+            if (!"Ed25519".equals(algorithm)) {
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+            }
+            KeyPair pair = generator.generateKeyPair();
+            signer = Signature.getInstance(algorithm);
+            signer.initSign(pair.getPrivate());
+            verifier = Signature.getInstance(algorithm);
+            verifier.initVerify(pair.getPublic());
+            signer.update(input);
+            signature = signer.sign();
+        }
+    }
+
+    @Benchmark
+    public String tokenSign(Tokens state) {
+        return state.jwtService.generateAccessToken("student@webvibe.dev", 42L, "STUDENT");
+    }
+
+    @Benchmark
+    public Claims tokenVerify(Tokens state) {
+        return state.jwtService.extractClaims(state.accessToken);
+    }
+
+    @Benchmark
+    public byte[] primitiveSign(Primitives state) throws GeneralSecurityException {
+        if (state.mac != null) {
+            return state.mac.doFinal(state.input);
+        }
+        state.signer.update(state.input);
+        return state.signer.sign();
+    }
+
+    @Benchmark
+    public boolean primitiveVerify(Primitives state) throws GeneralSecurityException {
+        if (state.mac != null) {
+            // HMAC "verification" recomputes the MAC (constant-time compare)
+            return MessageDigest.isEqual(state.mac.doFinal(state.input), state.signature);
+        }
+        state.verifier.update(state.input);
+        return state.verifier.verify(state.signature);
+    }
+}
@@ -0,0 +1,86 @@
+package org.webvibecourse.be.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.webvibecourse.be.config.LoginTrace;
+import org.webvibecourse.be.perf.OfflineApp;
+import org.webvibecourse.be.repository.LoginAuditStore;
+import org.webvibecourse.be.repository.LoginAuditStore.LoginAuditEvent;
+import org.webvibecourse.be.service.LoginAuditService;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * =====================================================================================
+ * LoginAuditBenchmark
+ * -------------------------
+ * Sustained login attempts/ms the audit trail can absorb, 4 threads logging in at once
+ * (offline profile: in-memory H2, MySQL mode).
+ * <p>
+ * ✔ buffered   : LoginAuditService.record (ring buffer + background group commit).
+ * audit.login.overflow=block, so nothing is dropped and the score is bounded by
+ * what the writer commits, not by how fast events can be discarded
+ * ✔ synchronous: what writing on the request thread would cost, one transaction
+ * (INSERT + last-login UPDATE) per attempt
+ * ./mvnw -Pjmh test-compile exec:exec -Djmh.args="LoginAuditBenchmark"
+ * =====================================================================================
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class LoginAuditBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private LoginAuditService loginAuditService;
+    private LoginAuditStore loginAuditStore;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = OfflineApp.start("--audit.login.overflow=block", "--audit.login.block-timeout-ms=60000");
+        loginAuditService = context.getBean(LoginAuditService.class);
+        loginAuditStore = context.getBean(LoginAuditStore.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("INSERT INTO users (id, email, password, full_name, role, status, created_at)"
+                + " VALUES (1, 'bench@webvibe.dev', 'x', 'Bench', 0, 1, CURRENT_TIMESTAMP)");
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE TABLE login_audit");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void buffered() {
+        loginAuditService.record(1L, "bench@webvibe.dev", "10.0.0.1", LoginTrace.Outcome.SUCCESS);
+    }
+
+    @Benchmark
+    public void synchronous() {
+        loginAuditStore.write(List.of(new LoginAuditEvent(
+                1L, "bench@webvibe.dev", "10.0.0.1", LoginTrace.Outcome.SUCCESS.tag(), System.currentTimeMillis())));
+    }
+}
@@ -0,0 +1,61 @@
+package org.webvibecourse.be.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.webvibecourse.be.util.RateLimiter;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * =====================================================================================
+ * RateLimiterBenchmark
+ * -------------------------
+ * Cost of RateLimiter.tryAcquire() under concurrent load (8 threads).
+ * <p>
+ * ✔ keys = 1       : every thread CASes the same bucket (worst-case contention)
+ * ✔ keys = 10000   : spread load, the typical "many IPs / emails" case
+ * ✔ keys = 1000000 : more keys than maxKeys, exercises the overflow buckets
+ * <p>
+ * ./mvnw -Pjmh test-compile exec:exec -Djmh.args="RateLimiterBenchmark -prof gc"
+ * =====================================================================================
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class RateLimiterBenchmark {
+
+    @Param({"1", "10000", "1000000"})
+    public int keys;
+
+    private RateLimiter limiter;
+    private String[] keySpace;
+
+    @Setup
+    public void setup() {
+        limiter = new RateLimiter(60, 1, TimeUnit.MINUTES, 20, 100_000);
+        keySpace = new String[keys];
+        for (int i = 0; i < keys; i++) {
+            keySpace[i] = "10.0." + (i >>> 8) + "." + (i & 0xFF);
+        }
+    }
+
+    @Benchmark
+    public long tryAcquire() {
+        return limiter.tryAcquire(keySpace[ThreadLocalRandom.current().nextInt(keys)], System.nanoTime());
+    }
+}
@@ -0,0 +1,88 @@
+package org.webvibecourse.be.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.webvibecourse.be.config.ParsedToken;
+import org.webvibecourse.be.service.impl.TokenRevocationServiceImpl;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * =====================================================================================
+ * RevocationCheckBenchmark
+ * -------------------------
+ * Cost of TokenRevocationService.isRevoked() on the request hot path, under concurrent
+ * load (8 threads), with an empty denylist and with a large one.
+ * <p>
+ * ✔ notRevoked : typical request, cleared by the Bloom filter
+ * ✔ revoked    : Bloom hit confirmed by the exact denylist
+ * <p>
+ * ./mvnw -Pjmh test-compile exec:exec -Djmh.args="RevocationCheckBenchmark -prof gc"
+ * =====================================================================================
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class RevocationCheckBenchmark {
+
+    private static final int TOKENS = 1024;
+
+    @Param({"0", "50000"})
+    public int revokedEntries;
+
+    private TokenRevocationServiceImpl revocationService;
+    private ParsedToken[] activeTokens;
+    private ParsedToken[] revokedTokens;
+
+    @Setup
+    public void setup() {
+        long now = System.currentTimeMillis();
+        long exp = now + TimeUnit.HOURS.toMillis(48);
+        revocationService = new TokenRevocationServiceImpl(
+                100_000, TimeUnit.HOURS.toMillis(48), TimeUnit.DAYS.toMillis(7), new SimpleMeterRegistry());
+
+        for (int i = 0; i < revokedEntries; i++) {
+            revocationService.revokeToken(UUID.randomUUID().toString(), 1_000_000L + i, exp);
+        }
+
+        activeTokens = new ParsedToken[TOKENS];
+        revokedTokens = new ParsedToken[TOKENS];
+        for (int i = 0; i < TOKENS; i++) {
+            activeTokens[i] = token(UUID.randomUUID().toString(), i, now, exp);
+            String jti = UUID.randomUUID().toString();
+            revocationService.revokeToken(jti, (long) i, exp);
+            revokedTokens[i] = token(jti, i, now, exp);
+        }
+    }
+
+    private static ParsedToken token(String jti, long userId, long iat, long exp) {
+        return new ParsedToken(jti, "user" + userId + "@webvibe.dev", userId, "STUDENT", ParsedToken.Use.ACCESS, iat, exp, null);
+    }
+
+    @Benchmark
+    public boolean notRevoked() {
+        return revocationService.isRevoked(activeTokens[ThreadLocalRandom.current().nextInt(TOKENS)]);
+    }
+
+    @Benchmark
+    public boolean revoked() {
+        return revocationService.isRevoked(revokedTokens[ThreadLocalRandom.current().nextInt(TOKENS)]);
+    }
+}
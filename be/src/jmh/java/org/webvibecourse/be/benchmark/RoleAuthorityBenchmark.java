@@ -0,0 +1,95 @@
+package org.webvibecourse.be.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.webvibecourse.be.Enum.Role;
+import org.webvibecourse.be.config.RoleClaimAuthoritiesConverter;
+import org.webvibecourse.be.entity.User;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * =====================================================================================
+ * RoleAuthorityBenchmark
+ * -------------------------
+ * Per-call cost of the role / authority model on the authentication path.
+ * Run with -prof gc: every current path must report gc.alloc.rate.norm ≈ 0 B/op.
+ * <p>
+ * ✔ fromCode          : Role lookup by code (O(1) table)
+ * ✔ userAuthorities   : User.getAuthorities() (preallocated list)
+ * ✔ jwtAuthorities    : "role" claim → authorities (RoleClaimAuthoritiesConverter)
+ * ✔ legacy*           : previous implementation (values() scan, new list + string)
+ * <p>
+ * ./mvnw -Pjmh test-compile exec:exec -Djmh.args="RoleAuthorityBenchmark -prof gc"
+ * =====================================================================================
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoleAuthorityBenchmark {
+
+    public int code = 3;
+    private User user;
+    private Jwt jwt;
+    private RoleClaimAuthoritiesConverter converter;
+
+    @Setup
+    public void setup() {
+        user = User.builder().id(1L).email("admin@webvibe.dev").password("x").role(code).status(1).build();
+        jwt = Jwt.withTokenValue("token")
+                .header("alg", "HS256")
+                .subject("admin@webvibe.dev")
+                .claim("role", "SUPERADMIN")
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(3600))
+                .build();
+        converter = new RoleClaimAuthoritiesConverter();
+    }
+
+    @Benchmark
+    public Role fromCode() {
+        return Role.fromCode(code);
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> userAuthorities() {
+        return user.getAuthorities();
+    }
+
+    @Benchmark
+    public Collection<GrantedAuthority> jwtAuthorities() {
+        return converter.convert(jwt);
+    }
+
+    @Benchmark
+    public Role legacyFromCode() {
+        for (Role role : Role.values()) {
+            if (role.getCode() == code) {
+                return role;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> legacyUserAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + legacyFromCode().getCode()));
+    }
+}
@@ -0,0 +1,61 @@
+package org.webvibecourse.be.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+import org.webvibecourse.be.entity.User;
+import org.webvibecourse.be.rsql.FilterWhitelists;
+import org.webvibecourse.be.rsql.RsqlFilterService;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * =====================================================================================
+ * RsqlFilterBenchmark
+ * -------------------------
+ * Cost of turning a typical admin dashboard filter into a Specification.
+ * <p>
+ * ✔ cached    : repeated filter, served from the compiled-filter cache
+ * ✔ miss      : a distinct filter on every call → parse + validate + convert
+ * <p>
+ * ./mvnw -Pjmh test-compile exec:exec -Djmh.args="RsqlFilterBenchmark -prof gc"
+ * =====================================================================================
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RsqlFilterBenchmark {
+
+    private static final String FILTER =
+            "role=in=(ADMIN,TEACHER);status==1;createdAt=ge=2025-01-01T00:00:00Z;email=like=an*";
+
+    private RsqlFilterService service;
+    private long sequence;
+
+    @Setup
+    public void setup() {
+        service = new RsqlFilterService(1_000, new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public Specification<User> cached() {
+        return service.toSpecification(FilterWhitelists.USER, FILTER);
+    }
+
+    @Benchmark
+    public Specification<User> miss() {
+        return service.toSpecification(FilterWhitelists.USER, FILTER + ";id=gt=" + sequence++);
+    }
+}
@@ -0,0 +1,107 @@
+package org.webvibecourse.be.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.webvibecourse.be.perf.CatalogDataGenerator;
+import org.webvibecourse.be.search.InvertedIndex;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * =====================================================================================
+ * SubjectSearchBenchmark
+ * -------------------------
+ * Query latency of the subject search index on 100k generated subjects.
+ * <p>
+ * ✔ search       : ranked ids for a free-text query (top 20)
+ * ✔ autocomplete : name prefix suggestions (top 10)
+ * ✔ scan         : baseline, what LIKE '%q%' has to do for every row (contains() on
+ * name + description in memory, i.e. without any I/O)
+ * ✔ upsert       : incremental update of one subject (entity event path)
+ * <p>
+ * The generated vocabulary is small (25 topics x 5 levels), so every query term has
+ * thousands of postings: a worst case for the merge, not a best case.
+ * Heap held by the postings is printed at setup.
+ * <p>
+ * ./mvnw -Pjmh test-compile exec:exec -Djmh.args="SubjectSearchBenchmark -prof gc"
+ * =====================================================================================
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SubjectSearchBenchmark {
+
+    private static final int SUBJECTS = 100_000;
+
+    @Param({"java", "machine learning adv", "statistics 42"})
+    public String query;
+
+    private InvertedIndex index;
+    private String[] names;
+    private String[] descriptions;
+    private String prefix;
+    private long sequence;
+
+    @Setup
+    public void setup() {
+        index = new InvertedIndex(1, 12);
+        names = new String[SUBJECTS];
+        descriptions = new String[SUBJECTS];
+        SplittableRandom random = new SplittableRandom(42L);
+        for (int i = 0; i < SUBJECTS; i++) {
+            String[] subject = CatalogDataGenerator.subject(random, i);
+            names[i] = subject[0];
+            descriptions[i] = subject[1];
+            index.addIfAbsent(i + 1, subject[0], subject[1]);
+        }
+        index.trimToSize();
+        // Autocomplete input: the query with its last word cut short ("machine learning ad")
+        prefix = query.substring(0, query.length() - 1);
+        System.out.printf("%n%d subjects, %d terms, %d KB of postings%n",
+                index.size(), index.terms(), index.postingsBytes() / 1024);
+    }
+
+    @Benchmark
+    public InvertedIndex.Hits search() {
+        return index.search(query, 20);
+    }
+
+    @Benchmark
+    public List<InvertedIndex.Suggestion> autocomplete() {
+        return index.autocomplete(prefix, 10);
+    }
+
+    @Benchmark
+    public int scan() {
+        String needle = query.toLowerCase(Locale.ROOT);
+        int matches = 0;
+        for (int i = 0; i < SUBJECTS; i++) {
+            if (names[i].toLowerCase(Locale.ROOT).contains(needle)
+                    || descriptions[i].toLowerCase(Locale.ROOT).contains(needle)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public void upsert() {
+        int i = (int) (sequence++ % SUBJECTS);
+        index.upsert(i + 1, names[i], descriptions[i]);
+    }
+}
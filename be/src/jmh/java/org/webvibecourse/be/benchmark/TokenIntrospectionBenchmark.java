@@ -0,0 +1,116 @@
+package org.webvibecourse.be.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.webvibecourse.be.config.JwtService;
+import org.webvibecourse.be.config.ParsedToken;
+import org.webvibecourse.be.config.VerifiedTokenCache;
+import org.webvibecourse.be.dto.response.TokenIntrospectionResponse;
+import org.webvibecourse.be.service.impl.TokenIntrospectionServiceImpl;
+import org.webvibecourse.be.service.impl.TokenRevocationServiceImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * =====================================================================================
+ * TokenIntrospectionBenchmark
+ * -------------------------
+ * Tokens/sec of the introspection service, one call per token vs one batch call.
+ * <p>
+ * ✔ singleCalls        : BATCH calls of one token each (what a caller without the batch
+ * API does, minus the HTTP round trip per token)
+ * ✔ batch              : one call with BATCH distinct tokens (parallel verification)
+ * ✔ batchWithDuplicates: one call with every token twice (each verified once)
+ * <p>
+ * cached=false bypasses the verified-token cache, i.e. tokens the instance has not seen
+ * yet (first fan-out after a restart, or tokens only the gateway ever sees).
+ * The parallel speed-up is bounded by the number of cores of the machine.
+ * ./mvnw -Pjmh test-compile exec:exec -Djmh.args="TokenIntrospectionBenchmark"
+ * =====================================================================================
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenIntrospectionBenchmark {
+
+    private static final int BATCH = 200;
+
+    @Param({"HS256", "ES256"})
+    public String algorithm;
+
+    @Param({"true", "false"})
+    public boolean cached;
+
+    private TokenIntrospectionServiceImpl introspectionService;
+    private List<String> tokens;
+    private List<String> tokensTwice;
+
+    @Setup
+    public void setup() {
+        JwtService jwtService = JwtServiceBenchmark.newJwtService(algorithm);
+        if (!cached) {
+            ReflectionTestUtils.setField(jwtService, "verifiedTokenCache", new VerifiedTokenCache(1, new SimpleMeterRegistry()) {
+                @Override
+                public ParsedToken get(String token, Function<String, ParsedToken> verifier) {
+                    return verifier.apply(token);
+                }
+            });
+        }
+        TokenRevocationServiceImpl revocationService = new TokenRevocationServiceImpl(
+                100_000, TimeUnit.HOURS.toMillis(48), TimeUnit.DAYS.toMillis(7), new SimpleMeterRegistry());
+        introspectionService = new TokenIntrospectionServiceImpl(
+                jwtService, revocationService, 0, 1000, 16, new SimpleMeterRegistry());
+
+        tokens = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            tokens.add(jwtService.generateAccessToken("student" + i + "@webvibe.dev", (long) i, "STUDENT"));
+        }
+        tokensTwice = new ArrayList<>(tokens);
+        tokensTwice.addAll(tokens);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ReflectionTestUtils.invokeMethod(introspectionService, "shutdown");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void singleCalls(Blackhole blackhole) {
+        for (String token : tokens) {
+            blackhole.consume(introspectionService.introspect(List.of(token)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public List<TokenIntrospectionResponse> batch() {
+        return introspectionService.introspect(tokens);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(2 * BATCH)
+    public List<TokenIntrospectionResponse> batchWithDuplicates() {
+        return introspectionService.introspect(tokensTwice);
+    }
+}
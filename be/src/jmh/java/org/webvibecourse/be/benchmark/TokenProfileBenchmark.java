@@ -0,0 +1,64 @@
+package org.webvibecourse.be.benchmark;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.webvibecourse.be.config.JwtService;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * =====================================================================================
+ * TokenProfileBenchmark
+ * -------------------------
+ * Standard vs compact token profile (jwt.token-profile):
+ * ✔ Authorization header bytes per request, printed at setup ("Bearer " + token)
+ * ✔ parse ns/op: signature verification + claim decoding (verified-token cache bypassed)
+ * <p>
+ * HS256 isolates the decoding cost; with ES256 the signature check dominates.
+ * ./mvnw -Pjmh test-compile exec:exec -Djmh.args="TokenProfileBenchmark"
+ * =====================================================================================
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenProfileBenchmark {
+
+    @Param({"standard", "compact"})
+    public String profile;
+
+    @Param({"HS256", "ES256"})
+    public String algorithm;
+
+    private JwtService jwtService;
+    private String accessToken;
+
+    @Setup
+    public void setup() {
+        jwtService = JwtServiceBenchmark.newJwtService(algorithm, profile);
+        accessToken = jwtService.generateAccessToken("student.with.a.long.name@webvibe.dev", 123456L, "STUDENT");
+        String refreshToken = jwtService.generateRefreshToken("student.with.a.long.name@webvibe.dev", 123456L, "STUDENT");
+        System.out.printf("%n[%s/%s] Authorization header: %d bytes (access), refresh token: %d bytes%n",
+                profile, algorithm,
+                ("Bearer " + accessToken).getBytes(StandardCharsets.US_ASCII).length,
+                refreshToken.getBytes(StandardCharsets.US_ASCII).length);
+    }
+
+    @Benchmark
+    public Claims parse() {
+        return jwtService.extractClaims(accessToken);
+    }
+}
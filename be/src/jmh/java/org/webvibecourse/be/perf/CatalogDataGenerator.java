@@ -0,0 +1,84 @@
+package org.webvibecourse.be.perf;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.webvibecourse.be.config.IdSequenceAligner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * =====================================================================================
+ * CatalogDataGenerator
+ * -------------------------
+ * Deterministic catalog seed data (same seed → same rows), inserted with JDBC batches.
+ * Ids are assigned here (after the current max id), then the table's id sequence is
+ * moved past them, as IdSequenceAligner does at startup.
+ * <p>
+ * Names are drawn from a small vocabulary, so name-sorted listings contain many
+ * duplicate names and exercise the (name, id) tie-break of the keyset cursor.
+ * =====================================================================================
+ */
+public final class CatalogDataGenerator {
+
+    private static final String[] TOPICS = {
+            "Algebra", "Biology", "Chemistry", "Data Structures", "Economics", "French", "Geometry",
+            "History", "Java", "Kotlin", "Literature", "Machine Learning", "Networks", "Operating Systems",
+            "Physics", "Quantum Computing", "React", "Statistics", "TypeScript", "UX Design",
+            "Vietnamese", "Web Development", "Xamarin", "Yoga", "Zoology"
+    };
+    private static final String[] LEVELS = {"Basics", "Intermediate", "Advanced", "Masterclass", "Bootcamp"};
+    private static final int BATCH_SIZE = 1_000;
+
+    private CatalogDataGenerator() {
+    }
+
+    public static void seedCategories(JdbcTemplate jdbc, int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        insert(jdbc, "categories", "insert into categories (id, name) values (?, ?)", count,
+                i -> new Object[]{TOPICS[random.nextInt(TOPICS.length)] + " " + (i % 97)});
+    }
+
+    public static void seedSubjects(JdbcTemplate jdbc, int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        insert(jdbc, "subjects", "insert into subjects (id, name, description) values (?, ?, ?)", count,
+                i -> subject(random, i));
+    }
+
+    /**
+     * One generated subject row: {name, description} (also used without a database,
+     * e.g. to fill the search index directly).
+     */
+    public static String[] subject(SplittableRandom random, int index) {
+        String name = TOPICS[random.nextInt(TOPICS.length)] + " " + LEVELS[random.nextInt(LEVELS.length)]
+                + " " + random.nextInt(1_000);
+        return new String[]{name, "Generated subject #" + index + " covering " + name.toLowerCase()};
+    }
+
+    private static void insert(JdbcTemplate jdbc, String table, String sql, int count, RowFactory rows) {
+        long firstId = jdbc.queryForObject("select coalesce(max(id), 0) from " + table, Long.class) + 1;
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            Object[] values = rows.row(i);
+            Object[] row = new Object[values.length + 1];
+            row[0] = firstId + i;
+            System.arraycopy(values, 0, row, 1, values.length);
+            batch.add(row);
+            if (batch.size() == BATCH_SIZE) {
+                jdbc.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbc.batchUpdate(sql, batch);
+        }
+        // offline profile only (H2 native sequence)
+        jdbc.execute("alter sequence " + table + "_seq restart with "
+                + (firstId + count + IdSequenceAligner.ALLOCATION_SIZE));
+    }
+
+    @FunctionalInterface
+    private interface RowFactory {
+        Object[] row(int index);
+    }
+}
@@ -0,0 +1,205 @@
+package org.webvibecourse.be.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * =====================================================================================
+ * LoadHarness
+ * -------------------------
+ * Closed-loop HTTP load generator for a running be instance.
+ * Each scenario is driven separately by N concurrent clients (virtual threads) for a
+ * fixed duration after a warm-up; throughput and latency percentiles are reported.
+ * <p>
+ * Scenarios
+ * ✔ login        : POST /api/auth/login with --email / --password
+ * ✔ GET <path>   : one scenario per --get option (e.g. catalog listings)
+ * <p>
+ * Usage (see perf/compare-modes.sh):
+ * ./mvnw -Pjmh test-compile exec:exec@load-harness -Dload.args="--label platform
+ * --base-url http://localhost:8989 --concurrency 64 --duration 30 --report target/perf/platform.json"
+ * <p>
+ * Compare two reports:
+ * -Dload.args="--compare target/perf/platform.json target/perf/vthreads.json"
+ * =====================================================================================
+ */
+public class LoadHarness {
+
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 3 && "--compare".equals(args[0])) {
+            compare(new File(args[1]), new File(args[2]));
+            return;
+        }
+
+        Options options = Options.parse(args);
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        List<Scenario> scenarios = new ArrayList<>();
+        if (options.email != null) {
+            String body = "{\"email\":\"" + options.email + "\",\"password\":\"" + options.password + "\"}";
+            scenarios.add(new Scenario("login", () -> HttpRequest.newBuilder(URI.create(options.baseUrl + "/api/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build()));
+        }
+        for (String path : options.getPaths) {
+            scenarios.add(new Scenario("GET " + path, () -> HttpRequest.newBuilder(URI.create(options.baseUrl + path))
+                    .GET()
+                    .build()));
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("label", options.label);
+        report.put("concurrency", options.concurrency);
+        report.put("durationSeconds", options.durationSeconds);
+        Map<String, Object> results = new LinkedHashMap<>();
+        for (Scenario scenario : scenarios) {
+            run(client, scenario, options, options.warmupSeconds); // warm-up, discarded
+            Map<String, Object> result = run(client, scenario, options, options.durationSeconds);
+            results.put(scenario.name, result);
+            System.out.printf("%-10s %-40s %10.1f req/s  p50 %8.2f ms  p99 %8.2f ms  errors %d%n",
+                    options.label, scenario.name, result.get("throughput"), result.get("p50Ms"),
+                    result.get("p99Ms"), result.get("errors"));
+        }
+        report.put("scenarios", results);
+
+        if (options.reportFile != null) {
+            File file = new File(options.reportFile);
+            if (file.getParentFile() != null) {
+                file.getParentFile().mkdirs();
+            }
+            JSON.writeValue(file, report);
+        }
+    }
+
+    /**
+     * Drive one scenario with N closed-loop clients for the given duration.
+     */
+    static Map<String, Object> run(HttpClient client, Scenario scenario, Options options, int seconds)
+            throws InterruptedException {
+        Recorder recorder = new Recorder(TimeUnit.SECONDS.toNanos(60), 3);
+        LongAdder ok = new LongAdder();
+        LongAdder errors = new LongAdder();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.concurrency; i++) {
+                workers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(
+                                    scenario.request.build(), HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() < 400) {
+                                ok.increment();
+                            } else {
+                                errors.increment();
+                            }
+                        } catch (IOException e) {
+                            errors.increment();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        recorder.recordValue(Math.min(System.nanoTime() - start, TimeUnit.SECONDS.toNanos(60)));
+                    }
+                });
+            }
+        }
+
+        Histogram histogram = recorder.getIntervalHistogram();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("requests", ok.sum() + errors.sum());
+        result.put("errors", errors.sum());
+        result.put("throughput", (ok.sum() + errors.sum()) / (double) seconds);
+        result.put("p50Ms", histogram.getValueAtPercentile(50) / 1e6);
+        result.put("p99Ms", histogram.getValueAtPercentile(99) / 1e6);
+        result.put("maxMs", histogram.getMaxValue() / 1e6);
+        return result;
+    }
+
+    /**
+     * Print two reports side by side (e.g. platform vs virtual threads).
+     */
+    @SuppressWarnings("unchecked")
+    static void compare(File left, File right) throws IOException {
+        Map<String, Object> a = JSON.readValue(left, Map.class);
+        Map<String, Object> b = JSON.readValue(right, Map.class);
+        Map<String, Map<String, Number>> as = (Map<String, Map<String, Number>>) a.get("scenarios");
+        Map<String, Map<String, Number>> bs = (Map<String, Map<String, Number>>) b.get("scenarios");
+
+        System.out.printf("%-40s %22s %22s%n", "scenario", a.get("label") + " (req/s | p99)", b.get("label") + " (req/s | p99)");
+        for (String name : as.keySet()) {
+            Map<String, Number> ra = as.get(name);
+            Map<String, Number> rb = bs.get(name);
+            if (rb == null) {
+                continue;
+            }
+            System.out.printf("%-40s %10.1f | %7.2fms %10.1f | %7.2fms%n", name,
+                    ra.get("throughput").doubleValue(), ra.get("p99Ms").doubleValue(),
+                    rb.get("throughput").doubleValue(), rb.get("p99Ms").doubleValue());
+        }
+    }
+
+    record Scenario(String name, RequestFactory request) {
+    }
+
+    @FunctionalInterface
+    interface RequestFactory {
+        HttpRequest build();
+    }
+
+    static final class Options {
+        String label = "run";
+        String baseUrl = "http://localhost:8989";
+        int concurrency = 64;
+        int durationSeconds = 30;
+        int warmupSeconds = 10;
+        String email;
+        String password;
+        final List<String> getPaths = new ArrayList<>();
+        String reportFile;
+
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--label" -> options.label = args[++i];
+                    case "--base-url" -> options.baseUrl = args[++i];
+                    case "--concurrency" -> options.concurrency = Integer.parseInt(args[++i]);
+                    case "--duration" -> options.durationSeconds = Integer.parseInt(args[++i]);
+                    case "--warmup" -> options.warmupSeconds = Integer.parseInt(args[++i]);
+                    case "--email" -> options.email = args[++i];
+                    case "--password" -> options.password = args[++i];
+                    case "--get" -> options.getPaths.add(args[++i]);
+                    case "--report" -> options.reportFile = args[++i];
+                    default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+                }
+            }
+            return options;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package org.webvibecourse.be.perf;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.webvibecourse.be.BeApplication;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * =====================================================================================
+ * OfflineApp
+ * -------------------------
+ * Starts the full application on the "offline" profile (in-memory H2, MySQL mode,
+ * schema created by Hibernate) on a random port, for benchmarks and perf harnesses that
+ * must run without a MySQL server.
+ * =====================================================================================
+ */
+public final class OfflineApp {
+
+    private OfflineApp() {
+    }
+
+    /**
+     * @param args extra Spring Boot arguments (e.g. "--spring.profiles.active=offline,vthreads")
+     */
+    public static ConfigurableApplicationContext start(String... args) {
+        List<String> all = new ArrayList<>();
+        all.add("--server.port=0");
+        all.add("--logging.level.root=WARN");
+        all.addAll(List.of(args));
+        return new SpringApplicationBuilder(BeApplication.class)
+                .profiles("offline")
+                .run(all.toArray(String[]::new));
+    }
+
+    /**
+     * @return port the embedded server listens on
+     */
+    public static int port(ConfigurableApplicationContext context) {
+        return Integer.parseInt(context.getEnvironment().getProperty("local.server.port", "0"));
+    }
+}
@@ -0,0 +1,335 @@
+package org.webvibecourse.be.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.webvibecourse.be.config.IdSequenceAligner;
+import org.webvibecourse.be.service.SubjectSearchIndex;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * =====================================================================================
+ * PerfSuite
+ * -------------------------
+ * Self-contained macro load test and performance regression gate. Needs no MySQL and no
+ * network: the application runs in-process on the "offline" profile (H2, MySQL mode) and
+ * is driven over localhost.
+ * <p>
+ * Steps
+ * ✔ seed     : --users accounts (one shared BCrypt hash), --categories and --subjects
+ * rows (CatalogDataGenerator, fixed seed), subjects added to the search index
+ * ✔ drive    : each scenario runs alone with --concurrency closed-loop clients for
+ * --duration seconds after --warmup seconds (LoadHarness.run)
+ * ✔ report   : throughput and p50 / p99 / max per scenario, as JSON (--report)
+ * ✔ gate     : compared with the stored baseline (--baseline), exit code 1 when a scenario
+ * <p>
+ * - loses more than --threshold of its throughput (fraction, default 0.20)
+ * - gets slower at p50 by more than --threshold, or at p99 by more than --p99-threshold
+ * (default 0.50, tails are noisier), and in both cases by more than --min-delta-ms
+ * - returns errors, or is missing from the run
+ * <p>
+ * The baseline is only meaningful on the machine that recorded it, so none is committed
+ * (perf/baseline.json is git-ignored): record it on the machine that runs the gate with
+ * --update-baseline. A baseline from another core count, concurrency or dataset is not
+ * compared at all: exit code 2, re-record it.
+ * <p>
+ * Login and auth limits are opened up for the run (rate limits, hashing queue), so the
+ * login scenario measures BCrypt + token issuing rather than 429 / 503 answers.
+ * <p>
+ * Usage:
+ * ./mvnw -Pjmh test-compile exec:exec@perf-suite
+ * ./mvnw -Pjmh test-compile exec:exec@perf-suite -Dperf.args="--update-baseline"
+ * =====================================================================================
+ */
+public class PerfSuite {
+
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    static final String PASSWORD = "perf-secret";
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+
+        ConfigurableApplicationContext context = OfflineApp.start(
+                "--security.login-rate-limit.ip.per-minute=100000000",
+                "--security.login-rate-limit.ip.burst=100000000",
+                "--security.login-rate-limit.email.per-minute=100000000",
+                "--security.login-rate-limit.email.burst=100000000",
+                "--security.password.hash-queue-capacity=" + Math.max(options.concurrency, 1));
+        Map<String, Object> report;
+        try {
+            seed(context, options);
+            report = drive(OfflineApp.port(context), options);
+        } finally {
+            context.close();
+        }
+
+        File reportFile = new File(options.reportFile);
+        write(reportFile, report);
+        System.out.println("Report: " + reportFile);
+
+        File baselineFile = new File(options.baselineFile);
+        if (options.updateBaseline) {
+            write(baselineFile, report);
+            System.out.println("Baseline updated: " + baselineFile);
+            return;
+        }
+        if (!baselineFile.isFile()) {
+            System.out.println("No baseline at " + baselineFile + ", nothing to compare (record one with --update-baseline)");
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, Object> baseline = JSON.readValue(baselineFile, Map.class);
+        String mismatch = mismatch(baseline, report);
+        if (mismatch != null) {
+            System.out.println("\nBaseline " + baselineFile + " is not comparable with this run: " + mismatch
+                    + "\nRecord one on this machine with --update-baseline");
+            System.exit(2);
+        }
+        List<String> regressions = compare(baseline, report, options);
+        if (!regressions.isEmpty()) {
+            System.out.println();
+            regressions.forEach(regression -> System.out.println("REGRESSION " + regression));
+            System.exit(1);
+        }
+        System.out.println("\nNo regression against " + baselineFile);
+    }
+
+    // ======================= SEED =======================
+
+    static void seed(ConfigurableApplicationContext context, Options options) throws InterruptedException {
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        String hash = new BCryptPasswordEncoder(
+                context.getEnvironment().getProperty("security.password.bcrypt-strength", Integer.class, 10))
+                .encode(PASSWORD);
+        List<Object[]> users = new ArrayList<>(options.users);
+        for (int i = 1; i <= options.users; i++) {
+            users.add(new Object[]{(long) i, email(i), hash, "Perf user " + i, i % 10 == 0 ? 1 : 0});
+        }
+        jdbc.batchUpdate("insert into users (id, email, password, full_name, role, status, created_at) "
+                + "values (?, ?, ?, ?, ?, 1, current_timestamp)", users);
+        jdbc.execute("alter sequence users_seq restart with " + (options.users + 1 + IdSequenceAligner.ALLOCATION_SIZE));
+
+        CatalogDataGenerator.seedCategories(jdbc, options.categories, 42L);
+        CatalogDataGenerator.seedSubjects(jdbc, options.subjects, 42L);
+
+        // rows inserted behind JPA's back: add them to the index once its startup build is done
+        SubjectSearchIndex index = context.getBean(SubjectSearchIndex.class);
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(1);
+        while (!index.isReady() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        jdbc.query("select id, name, description from subjects", (RowCallbackHandler) row ->
+                index.upsert(row.getLong("id"), row.getString("name"), row.getString("description")));
+    }
+
+    private static String email(int index) {
+        return "perf-user-" + index + "@webvibe.local";
+    }
+
+    // ======================= DRIVE =======================
+
+    static Map<String, Object> drive(int port, Options options) throws InterruptedException {
+        String baseUrl = "http://localhost:" + port;
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        AtomicInteger nextUser = new AtomicInteger();
+        AtomicInteger nextSubject = new AtomicInteger();
+        List<LoadHarness.Scenario> scenarios = List.of(
+                new LoadHarness.Scenario("login", () -> {
+                    String body = "{\"email\":\"" + email(Math.floorMod(nextUser.getAndIncrement(), options.users) + 1)
+                            + "\",\"password\":\"" + PASSWORD + "\"}";
+                    return HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(body))
+                            .build();
+                }),
+                get(baseUrl, "GET /api/catalog/categories?size=20", () -> "/api/catalog/categories?size=20"),
+                get(baseUrl, "GET /api/catalog/subjects?size=20", () -> "/api/catalog/subjects?size=20"),
+                get(baseUrl, "GET /api/catalog/subjects?size=20&sort=name", () -> "/api/catalog/subjects?size=20&sort=name"),
+                get(baseUrl, "GET /api/catalog/subjects/{id}",
+                        () -> "/api/catalog/subjects/" + (Math.floorMod(nextSubject.getAndIncrement(), options.subjects) + 1)),
+                get(baseUrl, "GET /api/catalog/subjects/search?q=java", () -> "/api/catalog/subjects/search?q=java"),
+                get(baseUrl, "GET /api/catalog/subjects/autocomplete?q=mach", () -> "/api/catalog/subjects/autocomplete?q=mach"));
+
+        LoadHarness.Options load = new LoadHarness.Options();
+        load.concurrency = options.concurrency;
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        for (LoadHarness.Scenario scenario : scenarios) {
+            LoadHarness.run(client, scenario, load, options.warmupSeconds); // warm-up, discarded
+            Map<String, Object> result = LoadHarness.run(client, scenario, load, options.durationSeconds);
+            results.put(scenario.name(), result);
+            System.out.printf("%-45s %10.1f req/s  p50 %8.2f ms  p99 %8.2f ms  errors %d%n",
+                    scenario.name(), result.get("throughput"), result.get("p50Ms"), result.get("p99Ms"),
+                    result.get("errors"));
+        }
+
+        Map<String, Object> environment = new LinkedHashMap<>();
+        environment.put("cores", Runtime.getRuntime().availableProcessors());
+        environment.put("maxHeapMb", Runtime.getRuntime().maxMemory() / (1024 * 1024));
+        environment.put("java", System.getProperty("java.version"));
+        environment.put("os", System.getProperty("os.name") + " " + System.getProperty("os.arch"));
+
+        Map<String, Object> dataset = new LinkedHashMap<>();
+        dataset.put("users", options.users);
+        dataset.put("categories", options.categories);
+        dataset.put("subjects", options.subjects);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("label", options.label);
+        report.put("concurrency", options.concurrency);
+        report.put("durationSeconds", options.durationSeconds);
+        report.put("environment", environment);
+        report.put("dataset", dataset);
+        report.put("scenarios", results);
+        return report;
+    }
+
+    private static LoadHarness.Scenario get(String baseUrl, String name, PathFactory path) {
+        return new LoadHarness.Scenario(name, () -> HttpRequest.newBuilder(URI.create(baseUrl + path.next()))
+                .GET()
+                .build());
+    }
+
+    @FunctionalInterface
+    private interface PathFactory {
+        String next();
+    }
+
+    // ======================= GATE =======================
+
+    /**
+     * @return why the baseline cannot be compared with this run, null if it can
+     */
+    @SuppressWarnings("unchecked")
+    static String mismatch(Map<String, Object> baseline, Map<String, Object> current) {
+        Map<String, Object> baseEnvironment = (Map<String, Object>) baseline.getOrDefault("environment", Map.of());
+        Map<String, Object> environment = (Map<String, Object>) current.get("environment");
+        if (!environment.get("cores").equals(baseEnvironment.get("cores"))) {
+            return "recorded on " + baseEnvironment.get("cores") + " cores, this machine has " + environment.get("cores");
+        }
+        if (!current.get("concurrency").equals(baseline.get("concurrency"))
+                || !current.get("dataset").equals(baseline.get("dataset"))) {
+            return "recorded with concurrency " + baseline.get("concurrency") + " and dataset " + baseline.get("dataset")
+                    + ", this run: " + current.get("concurrency") + " / " + current.get("dataset");
+        }
+        return null;
+    }
+
+    /**
+     * @return one line per regression, empty if the run is within the thresholds
+     */
+    @SuppressWarnings("unchecked")
+    static List<String> compare(Map<String, Object> baseline, Map<String, Object> current, Options options) {
+        Map<String, Map<String, Number>> base = (Map<String, Map<String, Number>>) baseline.get("scenarios");
+        Map<String, Map<String, Number>> now = (Map<String, Map<String, Number>>) current.get("scenarios");
+        List<String> regressions = new ArrayList<>();
+        System.out.printf("%n%-45s %21s %21s %21s%n", "scenario", "req/s (base -> now)", "p50 ms", "p99 ms");
+        for (Map.Entry<String, Map<String, Number>> entry : base.entrySet()) {
+            String name = entry.getKey();
+            Map<String, Number> b = entry.getValue();
+            Map<String, Number> r = now.get(name);
+            if (r == null) {
+                regressions.add(name + ": missing from this run");
+                continue;
+            }
+            double baseThroughput = b.get("throughput").doubleValue();
+            double throughput = r.get("throughput").doubleValue();
+            System.out.printf("%-45s %9.1f -> %9.1f %9.2f -> %9.2f %9.2f -> %9.2f%n", name,
+                    baseThroughput, throughput,
+                    b.get("p50Ms").doubleValue(), r.get("p50Ms").doubleValue(),
+                    b.get("p99Ms").doubleValue(), r.get("p99Ms").doubleValue());
+
+            if (throughput < baseThroughput * (1 - options.threshold)) {
+                regressions.add(String.format("%s: throughput %.1f -> %.1f req/s (%+.0f%%, limit -%.0f%%)", name,
+                        baseThroughput, throughput, change(baseThroughput, throughput), options.threshold * 100));
+            }
+            latency(regressions, name, "p50", b.get("p50Ms").doubleValue(), r.get("p50Ms").doubleValue(),
+                    options.threshold, options.minDeltaMs);
+            latency(regressions, name, "p99", b.get("p99Ms").doubleValue(), r.get("p99Ms").doubleValue(),
+                    options.p99Threshold, options.minDeltaMs);
+            if (r.get("errors").longValue() > 0) {
+                regressions.add(name + ": " + r.get("errors") + " errors");
+            }
+        }
+        return regressions;
+    }
+
+    private static void latency(List<String> regressions, String name, String percentile,
+                                double base, double now, double threshold, double minDeltaMs) {
+        if (now > base * (1 + threshold) && now - base > minDeltaMs) {
+            regressions.add(String.format("%s: %s %.2f -> %.2f ms (%+.0f%%, limit +%.0f%%)", name, percentile,
+                    base, now, change(base, now), threshold * 100));
+        }
+    }
+
+    private static double change(double base, double now) {
+        return base == 0 ? 0 : (now - base) / base * 100;
+    }
+
+    private static void write(File file, Map<String, Object> report) throws IOException {
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        JSON.writeValue(file, report);
+    }
+
+    static final class Options {
+        String label = "perf-suite";
+        int concurrency = 16;
+        int durationSeconds = 15;
+        int warmupSeconds = 10;
+        int users = 200;
+        int categories = 500;
+        int subjects = 20_000;
+        String reportFile = "target/perf/suite.json";
+        String baselineFile = "perf/baseline.json";
+        double threshold = 0.20;
+        double p99Threshold = 0.50;
+        double minDeltaMs = 1.0;
+        boolean updateBaseline;
+
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--label" -> options.label = args[++i];
+                    case "--concurrency" -> options.concurrency = Integer.parseInt(args[++i]);
+                    case "--duration" -> options.durationSeconds = Integer.parseInt(args[++i]);
+                    case "--warmup" -> options.warmupSeconds = Integer.parseInt(args[++i]);
+                    case "--users" -> options.users = Integer.parseInt(args[++i]);
+                    case "--categories" -> options.categories = Integer.parseInt(args[++i]);
+                    case "--subjects" -> options.subjects = Integer.parseInt(args[++i]);
+                    case "--report" -> options.reportFile = args[++i];
+                    case "--baseline" -> options.baselineFile = args[++i];
+                    case "--threshold" -> options.threshold = Double.parseDouble(args[++i]);
+                    case "--p99-threshold" -> options.p99Threshold = Double.parseDouble(args[++i]);
+                    case "--min-delta-ms" -> options.minDeltaMs = Double.parseDouble(args[++i]);
+                    case "--update-baseline" -> options.updateBaseline = true;
+                    default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+                }
+            }
+            return options;
+        }
+    }
+}
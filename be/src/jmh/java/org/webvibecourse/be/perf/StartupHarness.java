@@ -0,0 +1,249 @@
+package org.webvibecourse.be.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+/**
+ * =====================================================================================
+ * StartupHarness
+ * -------------------------
+ * Time-to-first-successful-login of a freshly launched JVM: process start → first
+ * POST /api/auth/login answered 200, polled every few ms. Offline: each JVM runs on the
+ * in-memory H2 of the "offline" profile and StartupProbe seeds the login account.
+ * <p>
+ * Modes (interleaved, N runs each, median / min / max reported)
+ * ✔ default   : the regular fat jar (nested jars, reflection-based context, springdoc on)
+ * ✔ extracted : extracted jar + lib/ only
+ * ✔ aot       : extracted, AOT-processed context (-Dspring.aot.enabled=true, profile "fast")
+ * ✔ fast      : aot + AppCDS archive, i.e. what the fast-startup profile ships
+ * <p>
+ * The archive built by the fast-startup profile is tied to its -jar classpath; the probe
+ * needs H2 and its own jar on the classpath, so the harness runs its own training run
+ * (log in once, exit) for that classpath first.
+ * <p>
+ * Usage (after ./mvnw -Pfast-startup -DskipTests package):
+ * ./mvnw -Pjmh test-compile exec:exec@startup-harness -Dstartup.args="--runs 5 --report target/perf/startup.json"
+ * =====================================================================================
+ */
+public class StartupHarness {
+
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        File fatJar = new File(options.fatJar);
+        File extractedJar = new File(options.extractedJar);
+        if (!fatJar.isFile() || !extractedJar.isFile()) {
+            throw new IllegalStateException("Missing " + fatJar + " / " + extractedJar
+                    + ": build with ./mvnw -Pfast-startup -DskipTests package first");
+        }
+        File work = new File(options.workDir);
+        work.mkdirs();
+
+        File h2Jar = new File(org.h2.Driver.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        File probeJar = probeJar(new File(work, "startup-probe.jar"));
+        String passwordHash = new BCryptPasswordEncoder(10).encode(StartupProbe.PASSWORD);
+        String extractedClasspath = String.join(File.pathSeparator,
+                extractedJar.getAbsolutePath(), h2Jar.getAbsolutePath(), probeJar.getAbsolutePath());
+        File archive = new File(work, "startup-probe.jsa");
+
+        if (options.modes.contains("fast")) {
+            List<String> training = new ArrayList<>(List.of("java", "-XX:ArchiveClassesAtExit=" + archive));
+            training.addAll(jvmArgs("aot", passwordHash));
+            training.addAll(List.of("-cp", extractedClasspath, StartupProbe.class.getName(), "--train"));
+            training.addAll(appArgs("aot", freePort()));
+            Process process = start(training, new File(work, "training.log"));
+            if (!process.waitFor(5, TimeUnit.MINUTES) || process.exitValue() != 0 || !archive.isFile()) {
+                process.destroyForcibly();
+                throw new IllegalStateException("CDS training run failed, see " + new File(work, "training.log"));
+            }
+        }
+
+        Map<String, List<Double>> timings = new LinkedHashMap<>();
+        options.modes.forEach(mode -> timings.put(mode, new ArrayList<>()));
+        for (int run = 1; run <= options.runs; run++) {
+            for (String mode : options.modes) {
+                int port = freePort();
+                List<String> command = new ArrayList<>(List.of("java"));
+                if ("fast".equals(mode)) {
+                    command.add("-XX:SharedArchiveFile=" + archive);
+                }
+                command.addAll(jvmArgs(mode, passwordHash));
+                if ("default".equals(mode)) {
+                    // fat jar: Spring Boot's launcher, probe and H2 added through loader.path
+                    command.addAll(List.of(
+                            "-Dloader.path=" + h2Jar.getAbsolutePath() + "," + probeJar.getAbsolutePath(),
+                            "-Dloader.main=" + StartupProbe.class.getName(),
+                            "-cp", fatJar.getAbsolutePath(), "org.springframework.boot.loader.launch.PropertiesLauncher"));
+                } else {
+                    command.addAll(List.of("-cp", extractedClasspath, StartupProbe.class.getName()));
+                }
+                command.addAll(appArgs(mode, port));
+
+                File log = new File(work, mode + "-" + run + ".log");
+                long start = System.nanoTime();
+                Process process = start(command, log);
+                try {
+                    double millis = awaitFirstLogin(process, port, start, options.timeoutSeconds);
+                    timings.get(mode).add(millis);
+                    System.out.printf("run %d %-10s %8.0f ms%n", run, mode, millis);
+                } finally {
+                    process.destroy();
+                    if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                        process.destroyForcibly();
+                    }
+                }
+            }
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("runs", options.runs);
+        Map<String, Object> results = new LinkedHashMap<>();
+        System.out.printf("%n%-10s %10s %10s %10s%n", "mode", "median", "min", "max");
+        for (Map.Entry<String, List<Double>> entry : timings.entrySet()) {
+            List<Double> values = entry.getValue().stream().sorted().toList();
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("medianMs", values.get(values.size() / 2));
+            result.put("minMs", values.getFirst());
+            result.put("maxMs", values.getLast());
+            result.put("samplesMs", entry.getValue());
+            results.put(entry.getKey(), result);
+            System.out.printf("%-10s %7.0f ms %7.0f ms %7.0f ms%n", entry.getKey(),
+                    result.get("medianMs"), result.get("minMs"), result.get("maxMs"));
+        }
+        report.put("timeToFirstLogin", results);
+
+        if (options.reportFile != null) {
+            File file = new File(options.reportFile);
+            if (file.getParentFile() != null) {
+                file.getParentFile().mkdirs();
+            }
+            JSON.writeValue(file, report);
+        }
+    }
+
+    private static List<String> jvmArgs(String mode, String passwordHash) {
+        List<String> args = new ArrayList<>(List.of("--enable-preview", "-Dstartup.password-hash=" + passwordHash));
+        if ("aot".equals(mode) || "fast".equals(mode)) {
+            args.add("-Dspring.aot.enabled=true");
+        }
+        return args;
+    }
+
+    private static List<String> appArgs(String mode, int port) {
+        boolean aot = "aot".equals(mode) || "fast".equals(mode);
+        return List.of("--server.port=" + port,
+                "--spring.profiles.active=" + (aot ? "offline,fast" : "offline"));
+    }
+
+    /**
+     * Poll the login endpoint until it answers 200; connection refused / 4xx mean "not yet".
+     */
+    static double awaitFirstLogin(Process process, int port, long start, int timeoutSeconds) throws Exception {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"" + StartupProbe.EMAIL + "\",\"password\":\"" + StartupProbe.PASSWORD + "\"}"))
+                .build();
+        long deadline = start + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with " + process.exitValue());
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return (System.nanoTime() - start) / 1e6;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(5);
+        }
+        throw new IllegalStateException("No successful login within " + timeoutSeconds + " s");
+    }
+
+    private static Process start(List<String> command, File log) throws IOException {
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+    }
+
+    /**
+     * CDS only archives classes loaded from jars: package the probe class on its own.
+     */
+    private static File probeJar(File file) throws IOException {
+        String entry = StartupProbe.class.getName().replace('.', '/') + ".class";
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().putValue("Manifest-Version", "1.0");
+        try (OutputStream out = Files.newOutputStream(file.toPath());
+             JarOutputStream jar = new JarOutputStream(out, manifest);
+             InputStream in = StartupProbe.class.getClassLoader().getResourceAsStream(entry)) {
+            jar.putNextEntry(new JarEntry(entry));
+            in.transferTo(jar);
+            jar.closeEntry();
+        }
+        return file;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    static final class Options {
+        String fatJar = "target/be-0.0.1-SNAPSHOT.jar";
+        String extractedJar = "target/startup/be-0.0.1-SNAPSHOT.jar";
+        String workDir = "target/startup-bench";
+        List<String> modes = List.of("default", "fast");
+        int runs = 5;
+        int timeoutSeconds = 180;
+        String reportFile;
+
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--fat-jar" -> options.fatJar = args[++i];
+                    case "--extracted-jar" -> options.extractedJar = args[++i];
+                    case "--work-dir" -> options.workDir = args[++i];
+                    case "--modes" -> options.modes = Arrays.asList(args[++i].split(","));
+                    case "--runs" -> options.runs = Integer.parseInt(args[++i]);
+                    case "--timeout" -> options.timeoutSeconds = Integer.parseInt(args[++i]);
+                    case "--report" -> options.reportFile = args[++i];
+                    default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+                }
+            }
+            for (String mode : options.modes) {
+                if (!List.of("default", "extracted", "aot", "fast").contains(mode)) {
+                    throw new IllegalArgumentException("Unknown mode " + mode);
+                }
+            }
+            return options;
+        }
+    }
+}
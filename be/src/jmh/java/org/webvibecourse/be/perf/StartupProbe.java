@@ -0,0 +1,67 @@
+package org.webvibecourse.be.perf;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.webvibecourse.be.BeApplication;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * =====================================================================================
+ * StartupProbe
+ * -------------------------
+ * Main class of the JVMs launched by StartupHarness: starts the application, then seeds
+ * the account the harness logs in with (the offline H2 database starts empty).
+ * <p>
+ * ✔ the BCrypt hash comes from -Dstartup.password-hash (computed once by the harness,
+ * so no hashing is charged to the startup time)
+ * ✔ --train : log in once, then exit; used for the harness's own CDS training run
+ * <p>
+ * Packaged alone into a jar by the harness: no nested classes, no other class of this module.
+ * =====================================================================================
+ */
+public final class StartupProbe {
+
+    public static final String EMAIL = "startup@webvibe.local";
+    public static final String PASSWORD = "startup-secret";
+
+    private StartupProbe() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> springArgs = new ArrayList<>(List.of(args));
+        boolean train = springArgs.remove("--train");
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BeApplication.class)
+                .main(BeApplication.class) // AOT: the generated initializer is looked up by main class
+                .run(springArgs.toArray(String[]::new));
+        context.getBean(JdbcTemplate.class).update(
+                "insert into users (id, email, password, full_name, role, status, created_at) "
+                        + "values (1, ?, ?, 'Startup probe', 2, 1, current_timestamp)",
+                EMAIL, System.getProperty("startup.password-hash"));
+
+        if (train) {
+            int status = login(Integer.parseInt(context.getEnvironment().getProperty("local.server.port")));
+            System.out.println("Training login: HTTP " + status);
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+
+    static int login(int port) throws Exception {
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"email\":\"" + EMAIL + "\",\"password\":\"" + PASSWORD + "\"}"))
+                    .build();
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        }
+    }
+}
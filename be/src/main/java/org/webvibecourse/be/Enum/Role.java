@@ -1,5 +1,10 @@
 package org.webvibecourse.be.Enum;
 
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
 public enum Role {
     STUDENT(0),
     TEACHER(1),
@@ -7,21 +12,75 @@ public enum Role {
     SUPERADMIN(3),
     SUPPORT(4);
 
+    /**
+     * Spring Security role prefix: authorities are always ROLE_<name> (e.g. ROLE_ADMIN),
+     * for the User entity and for JWT role claims alike.
+     */
+    public static final String AUTHORITY_PREFIX = "ROLE_";
+
+    // code → Role, O(1) (values() clones the array on every call)
+    private static final Role[] BY_CODE;
+
+    static {
+        int max = 0;
+        for (Role role : values()) {
+            max = Math.max(max, role.code);
+        }
+        BY_CODE = new Role[max + 1];
+        for (Role role : values()) {
+            BY_CODE[role.code] = role;
+        }
+    }
+
     private final int code;
 
+    // Preallocated, immutable: shared by every principal with this role
+    private final List<GrantedAuthority> authorities;
+
     Role(int code){
         this.code = code;
+        this.authorities = List.of(new SimpleGrantedAuthority(AUTHORITY_PREFIX + name()));
     }
 
     public int getCode(){
         return code;
     }
 
+    /**
+     * @return immutable [ROLE_<name>] authority list
+     */
+    public List<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
     public static Role fromCode(int code){
-        for (Role role : values()){
-            if(role.getCode() == code)
-                return role;
+        Role role = findByCode(code);
+        if (role == null) {
+            throw new IllegalArgumentException("Invalid Role Code" + code);
+        }
+        return role;
+    }
+
+    /**
+     * @param code role code as carried in the compact JWT "r" claim (e.g. 2)
+     * @return the role, or null if unknown
+     */
+    public static Role findByCode(int code) {
+        return code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+
+    /**
+     * @param name role name as carried in the JWT "role" claim (e.g. "ADMIN")
+     * @return the role, or null if unknown
+     */
+    public static Role fromName(String name) {
+        if (name == null) {
+            return null;
+        }
+        try {
+            return valueOf(name);
+        } catch (IllegalArgumentException e) {
+            return null;
         }
-        throw new IllegalArgumentException("Invalid Role Code" +code    );
     }
 }
@@ -8,4 +8,9 @@ public class APIURL {
             "/api/account/refresh",
 
     };
+
+    public static final String[] URL_ACTUATOR_PUBLIC = {
+            "/actuator/health",
+            "/actuator/health/**",
+    };
 }
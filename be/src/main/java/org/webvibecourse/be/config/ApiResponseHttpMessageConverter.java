@@ -0,0 +1,99 @@
+package org.webvibecourse.be.config;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StreamUtils;
+import org.webvibecourse.be.dto.response.ApiResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+
+/**
+ * =====================================================================================
+ * ApiResponseHttpMessageConverter
+ * -------------------------
+ * Write-only converter for the ApiResponse envelope.
+ * <p>
+ * ✔ status / timestamp / message / data are written straight to the response stream
+ * ✔ field names and the constant status tokens ("success", "error") are pre-encoded
+ * ✔ only the data payload is serialized by Jackson (same ObjectMapper as MVC)
+ * <p>
+ * Output is byte-compatible with MappingJackson2HttpMessageConverter for the envelope:
+ * same field order, nulls written as null.
+ * =====================================================================================
+ */
+public class ApiResponseHttpMessageConverter extends AbstractHttpMessageConverter<ApiResponse<?>> {
+
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString TIMESTAMP = new SerializedString("timestamp");
+    private static final SerializableString MESSAGE = new SerializedString("message");
+    private static final SerializableString DATA = new SerializedString("data");
+
+    private static final Map<String, SerializableString> STATUS_TOKENS = Map.of(
+            "success", new SerializedString("success"),
+            "error", new SerializedString("error"));
+
+    private final ObjectMapper objectMapper;
+
+    public ApiResponseHttpMessageConverter(ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ApiResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected ApiResponse<?> readInternal(Class<? extends ApiResponse<?>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("ApiResponse is write-only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(ApiResponse<?> response, HttpOutputMessage outputMessage) throws IOException {
+        OutputStream body = StreamUtils.nonClosing(outputMessage.getBody());
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(body, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+
+            generator.writeFieldName(STATUS);
+            String status = response.getStatus();
+            SerializableString token = status != null ? STATUS_TOKENS.get(status) : null;
+            if (token != null) {
+                generator.writeString(token);
+            } else {
+                generator.writeString(status);
+            }
+
+            generator.writeFieldName(TIMESTAMP);
+            generator.writeString(response.getTimestamp());
+
+            generator.writeFieldName(MESSAGE);
+            generator.writeString(response.getMessage());
+
+            generator.writeFieldName(DATA);
+            if (response.getData() == null) {
+                generator.writeNull();
+            } else {
+                objectMapper.writeValue(generator, response.getData());
+            }
+
+            generator.writeEndObject();
+            generator.flush();
+        }
+    }
+}
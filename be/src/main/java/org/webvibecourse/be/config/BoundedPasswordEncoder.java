@@ -0,0 +1,185 @@
+package org.webvibecourse.be.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.webvibecourse.be.exception.PasswordHashingOverloadedException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * =====================================================================================
+ * BoundedPasswordEncoder
+ * -------------------------
+ * BCrypt PasswordEncoder whose hashing runs on a dedicated, bounded executor instead of
+ * on the Tomcat request threads.
+ * <p>
+ * - Pool size = number of cores (BCrypt is pure CPU, more threads only add contention)
+ * - Bounded queue: when it is full the request fails fast with
+ * PasswordHashingOverloadedException (→ 503 + Retry-After) instead of queueing without
+ * limit and starving every other endpoint
+ * - A caller never waits longer than the configured timeout
+ * <p>
+ * Adaptive cost: the BCrypt strength is configurable. upgradeEncoding() reports hashes
+ * whose cost differs from it, so DaoAuthenticationProvider transparently re-hashes the
+ * password after a successful login (see UserService.updatePassword).
+ * <p>
+ * Metrics: password.hash.queue.depth, password.hash.active,
+ * password.hash.duration{operation=encode|matches} (BCrypt time on the executor),
+ * password.hash.wait (time queued before a hashing thread picks the task up),
+ * password.hash.rejected
+ * =====================================================================================
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("^\\$2[abxy]?\\$(\\d\\d)\\$");
+
+    private final BCryptPasswordEncoder delegate;
+    private final int strength;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    /**
+     * INPUT
+     * @param strength       BCrypt cost factor (log rounds, 4..31)
+     * @param threads        worker threads, 0 = number of cores
+     * @param queueCapacity  max waiting hash requests, 0 = 4 x threads
+     * @param timeoutMs      max time a caller waits for its hash (queue + hashing)
+     * @param meterRegistry  metrics registry
+     */
+    public BoundedPasswordEncoder(int strength, int threads, int queueCapacity, long timeoutMs,
+                                  MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        int capacity = queueCapacity > 0 ? queueCapacity : poolSize * 4;
+
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+        this.timeoutMs = timeoutMs;
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacity),
+                new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.prestartAllCoreThreads();
+
+        this.encodeTimer = Timer.builder("password.hash.duration").tag("operation", "encode")
+                .description("BCrypt encode / matches time on the hashing executor")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash.duration").tag("operation", "matches")
+                .description("BCrypt encode / matches time on the hashing executor")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("password.hash.wait")
+                .description("Time a hash request waits in the queue")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("password.hash.rejected")
+                .description("Hash requests rejected because the executor was saturated")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.queue.depth", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * @param encodedPassword stored hash
+     * @return true if the stored hash uses a different cost than the configured strength
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    /**
+     * Stop the hashing threads (bean destroy).
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Run a hashing task on the executor and wait for it, failing fast when saturated.
+     * The caller's wait is the PASSWORD phase of a traced login (LoginTrace).
+     */
+    private <T> T submit(Timer timer, Callable<T> task) {
+        long submitted = System.nanoTime();
+        try {
+            return await(timer, task, submitted);
+        } finally {
+            LoginTrace.record(LoginTrace.Phase.PASSWORD, System.nanoTime() - submitted);
+        }
+    }
+
+    private <T> T await(Timer timer, Callable<T> task, long submitted) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingOverloadedException("Password hashing queue is full", e);
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new PasswordHashingOverloadedException("Password hashing timed out", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingOverloadedException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static final class HashingThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
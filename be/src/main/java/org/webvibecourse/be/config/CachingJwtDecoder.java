@@ -0,0 +1,57 @@
+package org.webvibecourse.be.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.webvibecourse.be.service.TokenRevocationService;
+
+/**
+ * =====================================================================================
+ * CachingJwtDecoder
+ * -------------------------
+ * JwtDecoder used by the resource-server filter chain (Bearer tokens).
+ * <p>
+ * Verification is delegated to {@link JwtService}, so tokens are minted and verified
+ * by the same engine (jjwt) with the same precomputed key and the same claim types
+ * (e.g. "userId" is always a Long, also in compact tokens where it is the subject).
+ * <p>
+ * The decoded {@link Jwt} is part of the cached {@link ParsedToken}, so a repeat
+ * request with the same token skips signature verification and JSON decoding.
+ * <p>
+ * Refresh tokens are rejected: they only work on POST /api/account/refresh.
+ * Revoked tokens (logout / admin revoke) are rejected after decoding; the check is
+ * a Bloom filter probe for almost every request (see TokenRevocationService).
+ * =====================================================================================
+ */
+@RequiredArgsConstructor
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtService jwtService;
+
+    private final TokenRevocationService tokenRevocationService;
+
+    /**
+     * @param token raw Bearer token
+     * @return decoded & verified Jwt
+     * @throws BadJwtException if the token is forged, malformed, expired, revoked or not an
+     *                         access token (→ 401)
+     */
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        ParsedToken parsed;
+        try {
+            parsed = jwtService.parse(token);
+        } catch (io.jsonwebtoken.JwtException | IllegalArgumentException e) {
+            throw new BadJwtException("An error occurred while attempting to decode the Jwt: " + e.getMessage(), e);
+        }
+        if (parsed.use() != ParsedToken.Use.ACCESS) {
+            throw new BadJwtException("Jwt is not an access token");
+        }
+        if (tokenRevocationService.isRevoked(parsed)) {
+            throw new BadJwtException("Jwt has been revoked");
+        }
+        return parsed.jwt();
+    }
+}
@@ -0,0 +1,87 @@
+package org.webvibecourse.be.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * =====================================================================================
+ * IdSequenceAligner
+ * -------------------------
+ * Keeps the id sequences of users / subjects / categories ahead of the existing rows.
+ * <p>
+ * The entities use pooled SEQUENCE ids (allocationSize = ALLOCATION_SIZE, i.e. ids are
+ * reserved 50 at a time) instead of IDENTITY, so Hibernate can JDBC-batch their inserts;
+ * IDENTITY forces one round trip per row. MySQL has no sequences: Hibernate emulates each
+ * one with a single-row table (&lt;table&gt;_seq.next_val).
+ * <p>
+ * At startup, before the first request:
+ * ✔ table emulation (MySQL) : create the table if missing, raise next_val above max(id)
+ * (never lowers it, safe with other instances running)
+ * ✔ native sequence (H2)    : restart above max(id) (offline profile, single instance)
+ * <p>
+ * This covers databases created with IDENTITY ids and rows inserted outside Hibernate.
+ * Switched off (ids.align-on-startup=false) for the CDS training run, which has no database.
+ * =====================================================================================
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceAligner implements SmartInitializingSingleton {
+
+    public static final int ALLOCATION_SIZE = 50;
+
+    // table → sequence, as declared by @SequenceGenerator on the entities
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "users", "users_seq",
+            "subjects", "subjects_seq",
+            "categories", "categories_seq");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Schema (ddl-auto) is created with the EntityManagerFactory: must exist first
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Value("${ids.align-on-startup:true}")
+    private boolean enabled;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+        boolean nativeSequences = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect().getSequenceSupport().supportsSequences();
+        SEQUENCES.forEach((table, sequence) -> align(table, sequence, nativeSequences));
+    }
+
+    private void align(String table, String sequence, boolean nativeSequence) {
+        Long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+        // The pooled optimizer hands out (value - ALLOCATION_SIZE, value]: keep that range above max(id)
+        long next = maxId + ALLOCATION_SIZE + 1;
+
+        if (nativeSequence) {
+            jdbcTemplate.execute("alter sequence " + sequence + " restart with " + next);
+            return;
+        }
+        jdbcTemplate.execute("create table if not exists " + sequence + " (next_val bigint)");
+        int updated = jdbcTemplate.update(
+                "update " + sequence + " set next_val = ? where next_val < ?", next, next);
+        if (updated == 0) {
+            Integer rows = jdbcTemplate.queryForObject("select count(*) from " + sequence, Integer.class);
+            if (rows == 0) {
+                jdbcTemplate.update("insert into " + sequence + " (next_val) values (?)", next);
+            }
+        }
+        if (updated > 0) {
+            log.info("Id sequence {} raised to {} (max id in {} = {})", sequence, next, table, maxId);
+        }
+    }
+}
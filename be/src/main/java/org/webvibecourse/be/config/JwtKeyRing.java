@@ -0,0 +1,269 @@
+package org.webvibecourse.be.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.webvibecourse.be.repository.SigningKeyStore;
+import org.webvibecourse.be.repository.SigningKeyStore.StoredKey;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * =====================================================================================
+ * JwtKeyRing
+ * -------------------------
+ * Rotating ring of ES256 (P-256) signing keys, each identified by a kid.
+ * <p>
+ * Key lifecycle (times from jwt.keys.*):
+ * ✔ published : created publish-ahead-ms before it signs, so verifiers that cache the
+ * JWKS already know it when the first token carrying its kid arrives
+ * ✔ active    : signs every token from its activation until the next key activates
+ * (rotation-ms later)
+ * ✔ retired   : still verifies for overlap-ms (≥ longest token lifetime), then dropped
+ * <p>
+ * Everything a request needs is precomputed once per rotation check and swapped in as
+ * one immutable snapshot: decoded private key of each signing key, kid → decoded public
+ * key for verification, and the JWKS document. Signing and verifying never touch the
+ * store or decode key material.
+ * <p>
+ * An unknown kid triggers a reload (at most one every 5 s), for a key another instance
+ * has just created.
+ * =====================================================================================
+ */
+@Slf4j
+@Component
+public class JwtKeyRing {
+
+    public static final String ALGORITHM = "ES256";
+
+    private static final long UNKNOWN_KID_RELOAD_INTERVAL_MS = 5_000;
+
+    private final SigningKeyStore store;
+    private final long rotationMs;
+    private final long publishAheadMs;
+    private final long overlapMs;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicLong lastUnknownKidReload = new AtomicLong();
+    private volatile Snapshot snapshot; // null until the first load
+
+    public JwtKeyRing(SigningKeyStore store,
+                      @Value("${jwt.keys.rotation-ms:604800000}") long rotationMs,
+                      @Value("${jwt.keys.publish-ahead-ms:3600000}") long publishAheadMs,
+                      @Value("${jwt.keys.overlap-ms:${jwt.refresh-expiration}}") long overlapMs) {
+        if (publishAheadMs >= rotationMs) {
+            throw new IllegalArgumentException("jwt.keys.publish-ahead-ms must be shorter than jwt.keys.rotation-ms");
+        }
+        this.store = store;
+        this.rotationMs = rotationMs;
+        this.publishAheadMs = publishAheadMs;
+        this.overlapMs = overlapMs;
+    }
+
+    /**
+     * @return key to sign new tokens with (latest activated key)
+     */
+    public ActiveKey signingKey() {
+        List<ActiveKey> signers = current().signers();
+        long now = System.currentTimeMillis();
+        for (int i = signers.size() - 1; i > 0; i--) {
+            if (signers.get(i).activatesAt() <= now) {
+                return signers.get(i);
+            }
+        }
+        return signers.getFirst();
+    }
+
+    /**
+     * @param kid key id from the JWS header
+     * @return public key for that kid, null if unknown (forged or long retired)
+     */
+    public PublicKey verificationKey(String kid) {
+        PublicKey key = current().verifiers().get(kid);
+        if (key != null) {
+            return key;
+        }
+        long last = lastUnknownKidReload.get();
+        long now = System.currentTimeMillis();
+        if (now - last >= UNKNOWN_KID_RELOAD_INTERVAL_MS && lastUnknownKidReload.compareAndSet(last, now)) {
+            rotate();
+            return current().verifiers().get(kid);
+        }
+        return null;
+    }
+
+    /**
+     * @return JWKS document (RFC 7517) with the public key of every non-retired key
+     */
+    public Map<String, Object> jwks() {
+        return current().jwks();
+    }
+
+    /**
+     * Reload the ring, create the next key when it is due, drop retired keys.
+     * Runs at startup (first scheduled run / first use) and every jwt.keys.check-interval.
+     */
+    @Scheduled(fixedDelayString = "${jwt.keys.check-interval:60000}")
+    public void rotate() {
+        lock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            List<StoredKey> keys = sorted(store.findAll());
+            StoredKey latest = keys.isEmpty() ? null : keys.getLast();
+            if (latest == null || latest.activatesAt() + rotationMs - publishAheadMs <= now) {
+                long activatesAt = latest == null ? now : Math.max(latest.activatesAt() + rotationMs, now);
+                StoredKey next = generate(activatesAt);
+                if (store.save(next)) {
+                    log.info("JWT signing key {} created, active from {}", next.kid(), Instant.ofEpochMilli(activatesAt));
+                }
+                keys = sorted(store.findAll()); // ours, or the one another instance created first
+            }
+
+            List<StoredKey> live = new ArrayList<>();
+            List<String> retired = new ArrayList<>();
+            for (int i = 0; i < keys.size(); i++) {
+                boolean isRetired = i + 1 < keys.size() && keys.get(i + 1).activatesAt() + overlapMs <= now;
+                if (isRetired) {
+                    retired.add(keys.get(i).kid());
+                } else {
+                    live.add(keys.get(i));
+                }
+            }
+            if (!retired.isEmpty()) {
+                store.delete(retired);
+                log.info("JWT signing keys retired: {}", retired);
+            }
+            snapshot = snapshot(live);
+        } catch (RuntimeException e) {
+            if (snapshot == null) {
+                throw e;
+            }
+            log.warn("JWT key ring refresh failed, keeping the current keys", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            rotate();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    private static List<StoredKey> sorted(List<StoredKey> keys) {
+        List<StoredKey> copy = new ArrayList<>(keys);
+        copy.sort(Comparator.comparingLong(StoredKey::activatesAt).thenComparing(StoredKey::kid));
+        return copy;
+    }
+
+    private static Snapshot snapshot(List<StoredKey> keys) {
+        try {
+            KeyFactory factory = KeyFactory.getInstance("EC");
+            List<ActiveKey> signers = new ArrayList<>(keys.size());
+            Map<String, PublicKey> verifiers = new HashMap<>();
+            List<Map<String, Object>> jwks = new ArrayList<>(keys.size());
+            for (StoredKey key : keys) {
+                PublicKey publicKey = factory.generatePublic(new X509EncodedKeySpec(key.publicKey()));
+                PrivateKey privateKey = factory.generatePrivate(new PKCS8EncodedKeySpec(key.privateKey()));
+                signers.add(new ActiveKey(key.kid(), privateKey, key.activatesAt()));
+                verifiers.put(key.kid(), publicKey);
+                Map<String, Object> jwk = new LinkedHashMap<>(jwk((ECPublicKey) publicKey));
+                jwk.put("kid", key.kid());
+                jwk.put("use", "sig");
+                jwk.put("alg", key.algorithm());
+                jwks.add(jwk);
+            }
+            return new Snapshot(List.copyOf(signers), Map.copyOf(verifiers), Map.of("keys", List.copyOf(jwks)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid key in the JWT key ring", e);
+        }
+    }
+
+    private static StoredKey generate(long activatesAt) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            KeyPair pair = generator.generateKeyPair();
+            String kid = thumbprint((ECPublicKey) pair.getPublic());
+            return new StoredKey(kid, ALGORITHM, pair.getPublic().getEncoded(), pair.getPrivate().getEncoded(), activatesAt);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot generate a P-256 key pair", e);
+        }
+    }
+
+    /**
+     * Public JWK members of a P-256 key, in the lexicographic order RFC 7638 requires.
+     */
+    private static Map<String, Object> jwk(ECPublicKey key) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("crv", "P-256");
+        jwk.put("kty", "EC");
+        jwk.put("x", coordinate(key.getW().getAffineX()));
+        jwk.put("y", coordinate(key.getW().getAffineY()));
+        return jwk;
+    }
+
+    /**
+     * kid = RFC 7638 JWK thumbprint (SHA-256 of the canonical public JWK), truncated to
+     * 96 bits: 16 characters instead of 43 in the header of every token, still unique
+     * among the handful of keys a ring holds.
+     */
+    private static String thumbprint(ECPublicKey key) throws GeneralSecurityException {
+        Map<String, Object> jwk = jwk(key);
+        String canonical = "{\"crv\":\"" + jwk.get("crv") + "\",\"kty\":\"" + jwk.get("kty")
+                + "\",\"x\":\"" + jwk.get("x") + "\",\"y\":\"" + jwk.get("y") + "\"}";
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 12));
+    }
+
+    /**
+     * Unsigned, left-padded 32-byte big-endian coordinate, base64url (RFC 7518 §6.2.1.2).
+     */
+    private static String coordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] fixed = new byte[32];
+        int length = Math.min(bytes.length, 32);
+        System.arraycopy(bytes, bytes.length - length, fixed, 32 - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+
+    /**
+     * Signing key of the ring, decoded once.
+     *
+     * @param kid         key id, written to the JWS header
+     * @param privateKey  P-256 private key
+     * @param activatesAt first instant (epoch ms) the key signs
+     */
+    public record ActiveKey(String kid, PrivateKey privateKey, long activatesAt) {
+    }
+
+    private record Snapshot(List<ActiveKey> signers, Map<String, PublicKey> verifiers, Map<String, Object> jwks) {
+    }
+}
@@ -1,16 +1,38 @@
 package org.webvibecourse.be.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.io.Serializer;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimNames;
 import org.springframework.stereotype.Component;
+import org.webvibecourse.be.Enum.Role;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 /**
  * =====================================================================================
  *  JwtService
@@ -22,14 +44,30 @@ import java.util.List;
  * - Access Token: used to authenticate each API request
  * - Refresh Token: used to create a new access token when the access token expires
  *
- * 2. Sign the token using the HS256 algorithm with the secret key (JWT HMAC)
+ * 2. Sign the token (jwt.signing.algorithm):
+ * - ES256 (default): current key of the JwtKeyRing, "kid" header; anyone can verify
+ * with the public keys served at /.well-known/jwks.json
+ * - HS256: the shared jwt.secret (legacy); HS256 tokens without kid are still accepted
+ * while jwt.keys.accept-hs256=true, so tokens issued before the switch stay valid
  *
  * 3. Decode the token and read the information in the claims:
- * - email (subject)
+ * - email (subject, standard profile)
  * - userId
  * - role
  * - expiration
  *
+ * Token profiles (jwt.token-profile), both always accepted so tokens of either profile
+ * stay valid while the setting changes:
+ * - standard: sub = email, "userId", "role" = role name, jti = UUID
+ * - compact:  sub = user id, "r" = Role code, jti = 22-char base64url; no email
+ * (unless jwt.compact.include-email → "em"), no role in refresh tokens (a refresh
+ * reloads the user anyway). Shorter Authorization header, less JSON to decode.
+ *
+ * Token use: "typ" = access | refresh (compact: "t" = a | r), so a refresh token is
+ * never accepted as a Bearer token and an access token never refreshes a session.
+ * Tokens issued before the claim existed are classified by lifetime (longer than an
+ * access token → refresh) or, in the compact profile, by the missing role.
+ *
  * 4. Check if the token is valid:
  * - Token is valid or expired
  * - Token has the correct user (email) or not
@@ -37,12 +75,29 @@ import java.util.List;
  *
  * 5. Return the token expiration time (timestamp) so that FE knows and refreshes itself before expiration.
  *
+ * Metrics: jwt.generate{type=access|refresh}, jwt.parse (cache included),
+ * jwt.verify (full verification, verified-token cache miss only)
+ *
  * ==> This is the central service that helps the system process JWT clearly and consistently.
  * =====================================================================================
  */
 @Component
+@RequiredArgsConstructor
 public class JwtService {
 
+    public static final String USER_ID_CLAIM = "userId";
+    private static final String EMAIL_CLAIM = "em";
+    private static final String USE_CLAIM = "typ";
+    private static final String COMPACT_USE_CLAIM = "t";
+    // clock skew between iat and exp of an untyped token: both are whole seconds
+    private static final long LIFETIME_TOLERANCE_MS = 1000;
+
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    private final MeterRegistry meterRegistry;
+
+    private final JwtKeyRing keyRing;
+
     // ======================= CONFIG VALUES =======================
 
     @Value("${jwt.secret}")
@@ -51,15 +106,94 @@ public class JwtService {
     private Long accessExpiration;  // TTL of access token (ms)
     @Value("${jwt.refresh-expiration}")
     private Long refreshExpiration; // TTL of refresh token (ms)
+    @Value("${jwt.signing.algorithm:ES256}")
+    private String signingAlgorithm; // ES256 (key ring) | HS256 (jwt.secret)
+    @Value("${jwt.keys.accept-hs256:true}")
+    private boolean acceptHs256;     // verify legacy HS256 tokens (no kid)
+    @Value("${jwt.token-profile:standard}")
+    private String tokenProfile;     // standard | compact
+    @Value("${jwt.compact.include-email:false}")
+    private boolean compactIncludeEmail;
 
     // ======================= SIGNING KEY =======================
 
+    private Key signKey;          // HMAC key derived once from the secret
+    private boolean signWithKeyRing;
+    private boolean compact;
+    private JwtParser jwtParser;  // immutable & thread-safe, shared by all requests
+    private Serializer<Map<String, ?>> jsonSerializer; // resolved once instead of per builder
+
+    private Timer generateAccessTimer;
+    private Timer generateRefreshTimer;
+    private Timer parseTimer;
+    private Timer verifyTimer;
+
     /**
-     * Generate key to sign and verify JWT token using HMAC SHA256
+     * Derive the signing key, resolve the JSON serializer and build the parser once at startup.
+     * All of them are immutable, so every request reuses them instead of
+     * re-hashing the secret, re-running service discovery and re-building a parser per call.
+     * The parser picks the verification key by kid from the key ring's precomputed map.
+     */
+    @PostConstruct
+    @SuppressWarnings("unchecked")
+    void init() {
+        this.signKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.signWithKeyRing = switch (signingAlgorithm) {
+            case JwtKeyRing.ALGORITHM -> true;
+            case "HS256" -> false;
+            default -> throw new IllegalArgumentException("Unsupported jwt.signing.algorithm " + signingAlgorithm);
+        };
+        this.compact = switch (tokenProfile) {
+            case "compact" -> true;
+            case "standard" -> false;
+            default -> throw new IllegalArgumentException("Unsupported jwt.token-profile " + tokenProfile);
+        };
+        this.jsonSerializer = ServiceLoader.load(Serializer.class)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No JWT JSON serializer on the classpath"));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return verificationKey(header);
+                    }
+                })
+                .build();
+        this.generateAccessTimer = Timer.builder("jwt.generate").tag("type", "access").register(meterRegistry);
+        this.generateRefreshTimer = Timer.builder("jwt.generate").tag("type", "refresh").register(meterRegistry);
+        this.parseTimer = Timer.builder("jwt.parse").register(meterRegistry);
+        this.verifyTimer = Timer.builder("jwt.verify").register(meterRegistry);
+    }
+
+    /**
+     * Key to sign and verify JWT token using HMAC SHA256
      * @return Key for JWT HMAC signing & verifying
      */
     private Key getSignKey(){
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        return signKey;
+    }
+
+    /**
+     * Verification key for a token header: key ring entry for its kid, or the HMAC key
+     * for a legacy HS256 token. The algorithm is pinned per key type, so a token cannot
+     * get an EC public key used as an HMAC secret.
+     */
+    private Key verificationKey(JwsHeader<?> header) {
+        String kid = header.getKeyId();
+        if (kid != null) {
+            if (!JwtKeyRing.ALGORITHM.equals(header.getAlgorithm())) {
+                throw new UnsupportedJwtException("Unexpected algorithm " + header.getAlgorithm() + " for key " + kid);
+            }
+            Key key = keyRing.verificationKey(kid);
+            if (key == null) {
+                throw new SignatureException("Unknown signing key " + kid);
+            }
+            return key;
+        }
+        if (acceptHs256 && SignatureAlgorithm.HS256.getValue().equals(header.getAlgorithm())) {
+            return signKey;
+        }
+        throw new UnsupportedJwtException("Token without a known key id");
     }
 
     /**
@@ -70,7 +204,10 @@ public class JwtService {
      * @return signed JWT access token (String)
      */
     public String generateAccessToken(String email, Long userId, String role) {
-        return buildToken(email, userId, role, accessExpiration);
+        long start = System.nanoTime();
+        String token = buildToken(email, userId, role, accessExpiration, false);
+        generateAccessTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return token;
     }
 
     /**
@@ -81,7 +218,10 @@ public class JwtService {
      * @return signed JWT refresh token (String)
      */
     public String generateRefreshToken(String email, Long userId, String role) {
-        return buildToken(email, userId, role, refreshExpiration);
+        long start = System.nanoTime();
+        String token = buildToken(email, userId, role, refreshExpiration, true);
+        generateRefreshTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return token;
     }
 
     /**
@@ -92,21 +232,55 @@ public class JwtService {
      * @param userId         (Long)   user id
      * @param role           (String) user role
      * @param expirationMs   (Long)   time-to-live in milliseconds
+     * @param refresh        refresh token (compact profile: no role)
      *
      * OUTPUT
      * @return JWT token as String
      */
-    private String buildToken(String email, Long userId, String role, Long expirationMs) {
+    private String buildToken(String email, Long userId, String role, Long expirationMs, boolean refresh) {
         long now = System.currentTimeMillis();
 
-        return Jwts.builder()
-                .setSubject(email)
-                .claim("userId", userId)
-                .claim("role", role)
-                .setIssuedAt(new Date(now))
+        JwtBuilder builder = Jwts.builder();
+        if (compact) {
+            builder.setId(compactId()) // jti: makes every token unique (rotation / revocation)
+                    .setSubject(userId.toString())
+                    .claim(COMPACT_USE_CLAIM, refresh ? "r" : "a");
+            if (!refresh) {
+                builder.claim(RoleClaimAuthoritiesConverter.ROLE_CODE_CLAIM, Role.valueOf(role).getCode());
+            }
+            if (compactIncludeEmail) {
+                builder.claim(EMAIL_CLAIM, email);
+            }
+        } else {
+            builder.setId(UUID.randomUUID().toString()) // jti: makes every token unique (rotation / revocation)
+                    .setSubject(email)
+                    .claim(USER_ID_CLAIM, userId)
+                    .claim(RoleClaimAuthoritiesConverter.ROLE_CLAIM, role)
+                    .claim(USE_CLAIM, refresh ? "refresh" : "access");
+        }
+        builder.setIssuedAt(new Date(now))
                 .setExpiration(new Date(now + expirationMs))
-                .signWith(getSignKey(), SignatureAlgorithm.HS256)
-                .compact();
+                .serializeToJsonWith(jsonSerializer);
+        if (signWithKeyRing) {
+            JwtKeyRing.ActiveKey key = keyRing.signingKey();
+            builder.setHeaderParam(JwsHeader.KEY_ID, key.kid())
+                    .signWith(key.privateKey(), SignatureAlgorithm.ES256);
+        } else {
+            builder.signWith(getSignKey(), SignatureAlgorithm.HS256);
+        }
+        return builder.compact();
+    }
+
+    /**
+     * 128 random bits (a random UUID) as 22 base64url characters instead of 36.
+     */
+    private static String compactId() {
+        UUID uuid = UUID.randomUUID();
+        byte[] bytes = ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
     }
     // ======================= TOKEN EXTRACTION =======================
 
@@ -116,20 +290,116 @@ public class JwtService {
      * @return Claims object containing all payload data
      */
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignKey())
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
 
+    /**
+     * Verify the token once and return all the claims the system uses.
+     * Repeat calls for the same token are served from {@link VerifiedTokenCache}
+     * without HMAC verification or JSON decoding.
+     *
+     * @param token JWT token
+     * @return verified token view
+     * @throws io.jsonwebtoken.JwtException if the token is forged, malformed or expired
+     */
+    public ParsedToken parse(String token) {
+        long start = System.nanoTime();
+        try {
+            return verifiedTokenCache.get(token, this::verify);
+        } finally {
+            parseTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Full verification (signature + expiration + decode) of a token.
+     * Also builds the Spring Security {@link Jwt} once, with normalized claim types
+     * (iat/exp as Instant, userId as Long), for {@link CachingJwtDecoder}.
+     *
+     * @param token JWT token
+     * @return verified token view
+     */
+    private ParsedToken verify(String token) {
+        long start = System.nanoTime();
+        try {
+            return doVerify(token);
+        } finally {
+            verifyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private ParsedToken doVerify(String token) {
+        Jws<Claims> jws = jwtParser.parseClaimsJws(token);
+        Claims claims = jws.getBody();
+
+        // standard profile carries "userId"; compact has the id as subject
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        String email;
+        String role;
+        if (userId != null) {
+            email = claims.getSubject();
+            role = claims.get(RoleClaimAuthoritiesConverter.ROLE_CLAIM, String.class);
+        } else {
+            userId = Long.valueOf(claims.getSubject());
+            Integer roleCode = claims.get(RoleClaimAuthoritiesConverter.ROLE_CODE_CLAIM, Integer.class);
+            role = roleCode != null ? Role.fromCode(roleCode).name() : null;
+            email = claims.get(EMAIL_CLAIM, String.class);
+        }
+        Long normalizedUserId = userId;
+        Instant issuedAt = claims.getIssuedAt().toInstant();
+        Instant expiresAt = claims.getExpiration().toInstant();
+        ParsedToken.Use use = use(claims, role, expiresAt.toEpochMilli() - issuedAt.toEpochMilli());
+
+        Jwt jwt = Jwt.withTokenValue(token)
+                .headers(headers -> copyHeader(jws.getHeader(), headers))
+                .claims(values -> {
+                    values.putAll(claims);
+                    values.put(USER_ID_CLAIM, normalizedUserId);
+                    values.put(JwtClaimNames.IAT, issuedAt);
+                    values.put(JwtClaimNames.EXP, expiresAt);
+                })
+                .build();
+
+        return new ParsedToken(
+                claims.getId(),
+                email,
+                userId,
+                role,
+                use,
+                issuedAt.toEpochMilli(),
+                expiresAt.toEpochMilli(),
+                jwt);
+    }
+
+    // typed view of jjwt's raw JwsHeader (a Map<String, Object>), no unchecked conversion
+    private static void copyHeader(JwsHeader<?> header, Map<String, Object> target) {
+        target.putAll(header);
+    }
+
+    private ParsedToken.Use use(Claims claims, String role, long lifetimeMs) {
+        Object use = claims.containsKey(USE_CLAIM) ? claims.get(USE_CLAIM) : claims.get(COMPACT_USE_CLAIM);
+        if (use != null) {
+            return switch (use.toString()) {
+                case "access", "a" -> ParsedToken.Use.ACCESS;
+                case "refresh", "r" -> ParsedToken.Use.REFRESH;
+                default -> throw new UnsupportedJwtException("Unknown token use " + use);
+            };
+        }
+        // issued before the claim existed
+        return role == null || lifetimeMs > accessExpiration + LIFETIME_TOLERANCE_MS
+                ? ParsedToken.Use.REFRESH
+                : ParsedToken.Use.ACCESS;
+    }
+
     /**
      * Extract email (subject)
      * @param token JWT token
-     * @return email as String
+     * @return email as String, null for a compact token without email
      */
     public String extractEmail(String token) {
-        return extractClaims(token).getSubject();
+        return parse(token).email();
     }
 
     /**
@@ -138,7 +408,7 @@ public class JwtService {
      * @return userId as Long
      */
     public Long extractUserId(String token) {
-        return extractClaims(token).get("userId", Long.class);
+        return parse(token).userId();
     }
 
     /**
@@ -147,7 +417,7 @@ public class JwtService {
      * @return role as String
      */
     public String extractRole(String token) {
-        return extractClaims(token).get("role", String.class);
+        return parse(token).role();
     }
 
     /**
@@ -156,13 +426,13 @@ public class JwtService {
      * @return expiration time in milliseconds
      */
     public long extractExpiration(String token) {
-        return extractClaims(token).getExpiration().getTime();
+        return parse(token).expiresAt();
     }
 
     // ======================= VALIDATION =======================
 
     /**
-     * Validate token by email and expiration
+     * Validate token by email and expiration (single parse)
      *
      * INPUT:
      * @param token         JWT token
@@ -172,7 +442,8 @@ public class JwtService {
      * @return true if token is valid, false otherwise
      */
     public boolean validateToken(String token, String email) {
-        return extractEmail(token).equals(email) && !isTokenExpired(token);
+        ParsedToken parsed = parse(token);
+        return email.equals(parsed.email()) && !parsed.isExpired(System.currentTimeMillis());
     }
 
 
@@ -182,7 +453,7 @@ public class JwtService {
      * @return true if expired
      */
     public boolean isTokenExpired(String token) {
-        return extractClaims(token).getExpiration().before(new Date());
+        return parse(token).isExpired(System.currentTimeMillis());
     }
 
     // ======================= EXPIRATION TIMESTAMP  =======================
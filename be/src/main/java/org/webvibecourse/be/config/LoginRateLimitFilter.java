@@ -0,0 +1,195 @@
+package org.webvibecourse.be.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.webvibecourse.be.dto.response.ApiResponse;
+import org.webvibecourse.be.service.LoginRateLimiter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * =====================================================================================
+ * LoginRateLimitFilter
+ * -------------------------
+ * Sheds abusive traffic on the anonymous auth POSTs (/api/auth/login and
+ * APIURL.URL_ANONYMOUS_POST) with 429 + Retry-After, before the request reaches the
+ * controller, the user lookup or BCrypt.
+ * <p>
+ * The JSON body is buffered whole (at most MAX_BODY_BYTES, larger bodies get 413) to
+ * read "email" and then replayed to the controller. Reading only a prefix would let
+ * padding in front of "email" skip the per-email limit.
+ * <p>
+ * Client IP = request.getRemoteAddr() (behind a proxy, enable
+ * server.forward-headers-strategy instead of trusting X-Forwarded-For here).
+ * =====================================================================================
+ */
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+
+    private static final int MAX_BODY_BYTES = 8 * 1024;
+
+    private final LoginRateLimiter loginRateLimiter;
+    private final ObjectMapper objectMapper;
+    private final Set<String> limitedPaths;
+
+    public LoginRateLimitFilter(LoginRateLimiter loginRateLimiter, ObjectMapper objectMapper) {
+        this.loginRateLimiter = loginRateLimiter;
+        this.objectMapper = objectMapper;
+        Set<String> paths = new HashSet<>(List.of(APIURL.URL_ANONYMOUS_POST));
+        paths.add("/api/auth/login");
+        this.limitedPaths = Set.copyOf(paths);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+                || !limitedPaths.contains(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        byte[] body = request.getContentLengthLong() > MAX_BODY_BYTES
+                ? null
+                : request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+        if (body == null || body.length > MAX_BODY_BYTES) {
+            reject(response, HttpStatus.PAYLOAD_TOO_LARGE, "Request body too large");
+            return;
+        }
+        String email = extractEmail(body);
+        LoginTrace.attemptedEmail(email);
+
+        long waitNanos = loginRateLimiter.tryAcquire(request.getRemoteAddr(), email);
+        if (waitNanos > 0) {
+            long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, "Too many attempts, please retry later");
+            return;
+        }
+
+        chain.doFilter(new BufferedBodyRequest(request, body), response);
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(message));
+    }
+
+    private String extractEmail(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        try {
+            JsonNode email = objectMapper.readTree(body).get("email");
+            return email != null && email.isTextual() ? email.asText() : null;
+        } catch (IOException | RuntimeException e) {
+            // Malformed body: only the IP limit applies, the controller rejects it
+            return null;
+        }
+    }
+
+    /**
+     * Replays the already-read (complete) body to the rest of the chain. One stream per
+     * request, as the container does, so a second getInputStream() does not start over.
+     */
+    private static final class BufferedBodyRequest extends HttpServletRequestWrapper {
+
+        private final ServletInputStream inputStream;
+        private BufferedReader reader;
+
+        BufferedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.inputStream = new BufferedBodyInputStream(body);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            if (reader == null) {
+                reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+            }
+            return reader;
+        }
+    }
+
+    private static final class BufferedBodyInputStream extends ServletInputStream {
+
+        private final ByteArrayInputStream in;
+        private boolean finished;
+
+        BufferedBodyInputStream(byte[] body) {
+            this.in = new ByteArrayInputStream(body);
+            this.finished = body.length == 0;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        /**
+         * The whole body is in memory, so it is always ready: the listener is told at once
+         * that data is available and, when it has read it all, that the body is complete.
+         */
+        @Override
+        public void setReadListener(ReadListener listener) {
+            try {
+                if (!finished) {
+                    listener.onDataAvailable();
+                }
+                if (finished) {
+                    listener.onAllDataRead();
+                }
+            } catch (IOException e) {
+                listener.onError(e);
+            }
+        }
+
+        @Override
+        public int read() {
+            int b = in.read();
+            if (b == -1) {
+                finished = true;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            int n = in.read(b, off, len);
+            if (n == -1) {
+                finished = true;
+            }
+            return n;
+        }
+    }
+}
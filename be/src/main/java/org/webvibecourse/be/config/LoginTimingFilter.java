@@ -0,0 +1,149 @@
+package org.webvibecourse.be.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.webvibecourse.be.service.LoginAuditService;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * =====================================================================================
+ * LoginTimingFilter
+ * -------------------------
+ * Times each phase of POST /api/auth/login (LoginTrace) and reports it:
+ * ✔ metrics : auth.login.phase{phase} timers, auth.login{result} outcome counter
+ * (unknown_user, bad_password, disabled, ... while the client still gets the
+ * generic error)
+ * ✔ header  : Server-Timing: user;dur=.., bcrypt;dur=.., jwt;dur=.., serialize;dur=..,
+ * total;dur=.. when auth.login.server-timing=true. The small login body is
+ * buffered so the header can still be set after serialization.
+ * ✔ log     : 1 in auth.login.trace.sample-rate logins slower than
+ * auth.login.trace.slow-threshold-ms, as one key=value line on the
+ * "auth.login.trace" logger
+ * ✔ audit   : every attempt (user, email, IP, outcome) is handed to LoginAuditService,
+ * which only buffers it
+ * <p>
+ * Registered ahead of Spring Security, so rate-limited logins are counted too.
+ * =====================================================================================
+ */
+@Slf4j(topic = "auth.login.trace")
+public class LoginTimingFilter extends OncePerRequestFilter {
+
+    private final boolean serverTiming;
+    private final long slowThresholdNanos;
+    private final int sampleRate;
+    private final AtomicLong slowLogins = new AtomicLong();
+    private final LoginAuditService loginAuditService;
+
+    private final Map<LoginTrace.Phase, Timer> phaseTimers = new EnumMap<>(LoginTrace.Phase.class);
+    private final Timer totalTimer;
+    private final Map<LoginTrace.Outcome, Counter> outcomes = new EnumMap<>(LoginTrace.Outcome.class);
+
+    public LoginTimingFilter(boolean serverTiming, long slowThresholdMs, int sampleRate,
+                             LoginAuditService loginAuditService, MeterRegistry meterRegistry) {
+        this.serverTiming = serverTiming;
+        this.loginAuditService = loginAuditService;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+        this.sampleRate = Math.max(sampleRate, 1);
+        for (LoginTrace.Phase phase : LoginTrace.Phase.values()) {
+            phaseTimers.put(phase, Timer.builder("auth.login.phase").tag("phase", phase.metricName())
+                    .register(meterRegistry));
+        }
+        this.totalTimer = Timer.builder("auth.login.phase").tag("phase", "total").register(meterRegistry);
+        for (LoginTrace.Outcome outcome : LoginTrace.Outcome.values()) {
+            outcomes.put(outcome, Counter.builder("auth.login").tag("result", outcome.tag())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        LoginTrace trace = LoginTrace.start();
+        ContentCachingResponseWrapper buffered = serverTiming ? new ContentCachingResponseWrapper(response) : null;
+        try {
+            chain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            LoginTrace.end();
+            long end = System.nanoTime();
+            if (trace.handlerDoneNanos() != 0) {
+                trace.serialized(end - trace.handlerDoneNanos());
+            }
+            long total = end - trace.startNanos();
+            LoginTrace.Outcome outcome = outcome(trace, response.getStatus());
+            record(trace, total, outcome);
+            loginAuditService.record(trace.userId(), trace.email(), request.getRemoteAddr(), outcome);
+            if (buffered != null) {
+                buffered.setHeader("Server-Timing", serverTiming(trace, total));
+                buffered.copyBodyToResponse();
+            }
+            if (total >= slowThresholdNanos && slowLogins.incrementAndGet() % sampleRate == 0) {
+                log.info("login.slow total_ms={} {} result={} status={}",
+                        millis(total), phases(trace), outcome.tag(), response.getStatus());
+            }
+        }
+    }
+
+    private static LoginTrace.Outcome outcome(LoginTrace trace, int status) {
+        if (trace.outcome() != null) {
+            return trace.outcome();
+        }
+        // the controller was not reached
+        return status == HttpStatus.TOO_MANY_REQUESTS.value()
+                ? LoginTrace.Outcome.RATE_LIMITED
+                : LoginTrace.Outcome.INTERNAL_ERROR;
+    }
+
+    private void record(LoginTrace trace, long total, LoginTrace.Outcome outcome) {
+        for (LoginTrace.Phase phase : LoginTrace.Phase.values()) {
+            long nanos = trace.phaseNanos(phase);
+            if (nanos > 0) {
+                phaseTimers.get(phase).record(nanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        totalTimer.record(total, TimeUnit.NANOSECONDS);
+        outcomes.get(outcome).increment();
+    }
+
+    private static String serverTiming(LoginTrace trace, long total) {
+        StringBuilder header = new StringBuilder(96);
+        for (LoginTrace.Phase phase : LoginTrace.Phase.values()) {
+            header.append(phase.metricName()).append(";dur=").append(millis(trace.phaseNanos(phase))).append(", ");
+        }
+        return header.append("total;dur=").append(millis(total)).toString();
+    }
+
+    private static String phases(LoginTrace trace) {
+        StringBuilder line = new StringBuilder(96);
+        for (LoginTrace.Phase phase : LoginTrace.Phase.values()) {
+            if (!line.isEmpty()) {
+                line.append(' ');
+            }
+            line.append(phase.metricName()).append("_ms=").append(millis(trace.phaseNanos(phase)));
+        }
+        return line.toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1e6);
+    }
+}
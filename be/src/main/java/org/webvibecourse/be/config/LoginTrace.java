@@ -0,0 +1,164 @@
+package org.webvibecourse.be.config;
+
+/**
+ * =====================================================================================
+ * LoginTrace
+ * -------------------------
+ * Per-request breakdown of one POST /api/auth/login, kept in a thread-local between
+ * LoginTimingFilter.start and end. Components on the login path add their phase time;
+ * outside a traced login every call is a no-op (one ThreadLocal read).
+ * <p>
+ * Phases
+ * ✔ USER      : user lookup (UserServiceImpl.loadUserByUsername, cache included)
+ * ✔ PASSWORD  : BCrypt match, queue wait included (BoundedPasswordEncoder.matches)
+ * ✔ TOKENS    : access + refresh token signing and refresh-token registration
+ * ✔ SERIALIZE : from the controller's return to the response body being written
+ * <p>
+ * The outcome classifies failures that the client only sees as a generic error; with the
+ * attempted email and the authenticated user it also feeds the login audit trail.
+ * =====================================================================================
+ */
+public final class LoginTrace {
+
+    public enum Phase {
+        USER("user"), PASSWORD("bcrypt"), TOKENS("jwt"), SERIALIZE("serialize");
+
+        private final String metricName;
+
+        Phase(String metricName) {
+            this.metricName = metricName;
+        }
+
+        /**
+         * @return name in Server-Timing, logs and the phase tag
+         */
+        public String metricName() {
+            return metricName;
+        }
+    }
+
+    public enum Outcome {
+        SUCCESS, UNKNOWN_USER, BAD_PASSWORD, DISABLED, LOCKED, OVERLOADED, RATE_LIMITED, INTERNAL_ERROR;
+
+        public String tag() {
+            return name().toLowerCase();
+        }
+    }
+
+    private static final ThreadLocal<LoginTrace> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final long[] phaseNanos = new long[Phase.values().length];
+    private long handlerDoneNanos;
+    private Boolean userFound;
+    private Outcome outcome;
+    private String email;
+    private Long userId;
+
+    private LoginTrace() {
+    }
+
+    /**
+     * Start tracing a login on this thread.
+     */
+    static LoginTrace start() {
+        LoginTrace trace = new LoginTrace();
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    /**
+     * Stop tracing on this thread.
+     */
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Add time to a phase of the login being traced on this thread, if any.
+     */
+    public static void record(Phase phase, long nanos) {
+        LoginTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.phaseNanos[phase.ordinal()] += nanos;
+        }
+    }
+
+    /**
+     * Remember whether the user lookup found an account (BadCredentialsException hides it).
+     */
+    public static void userFound(boolean found) {
+        LoginTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.userFound = found;
+        }
+    }
+
+    /**
+     * Remember the email the client tried to log in with (read from the body before the
+     * controller, so rate-limited attempts have it too).
+     */
+    public static void attemptedEmail(String email) {
+        LoginTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.email = email;
+        }
+    }
+
+    /**
+     * Remember the id of the user the login authenticated.
+     */
+    public static void authenticatedUser(Long userId) {
+        LoginTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.userId = userId;
+        }
+    }
+
+    /**
+     * Controller done: set the outcome; what follows until the body is written is SERIALIZE.
+     */
+    public static void handlerDone(Outcome outcome) {
+        LoginTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.outcome = outcome;
+            trace.handlerDoneNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * @return BAD_PASSWORD or UNKNOWN_USER for a BadCredentialsException
+     */
+    public static Outcome badCredentials() {
+        LoginTrace trace = CURRENT.get();
+        return trace != null && Boolean.FALSE.equals(trace.userFound) ? Outcome.UNKNOWN_USER : Outcome.BAD_PASSWORD;
+    }
+
+    long phaseNanos(Phase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    long startNanos() {
+        return startNanos;
+    }
+
+    long handlerDoneNanos() {
+        return handlerDoneNanos;
+    }
+
+    Outcome outcome() {
+        return outcome;
+    }
+
+    String email() {
+        return email;
+    }
+
+    Long userId() {
+        return userId;
+    }
+
+    void serialized(long nanos) {
+        phaseNanos[Phase.SERIALIZE.ordinal()] = nanos;
+    }
+}
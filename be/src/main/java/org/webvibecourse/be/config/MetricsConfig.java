@@ -0,0 +1,97 @@
+package org.webvibecourse.be.config;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.JdbcSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.webvibecourse.be.service.LoginAuditService;
+
+import javax.sql.DataSource;
+
+/**
+ * =====================================================================================
+ * MetricsConfig
+ * -------------------------
+ * Operational metrics not provided by Spring Boot's auto-configuration
+ * (exposed on /actuator/metrics and /actuator/prometheus, ADMIN / SUPERADMIN only):
+ * ✔ hibernate.statements.per.request{method, uri}: StatementCounter + QueryMetricsFilter
+ * ✔ hikaricp.connections.saturation{pool}: (active + waiting threads) / max pool size;
+ * above 1 requests queue for a connection
+ * ✔ login phase breakdown: LoginTimingFilter (auth.login.phase, auth.login, Server-Timing,
+ * login audit trail)
+ * <p>
+ * Latency histograms and the slow query log are configured in application.properties.
+ * =====================================================================================
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public StatementCounter statementCounter() {
+        return new StatementCounter();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer(StatementCounter statementCounter) {
+        return properties -> properties.put(JdbcSettings.STATEMENT_INSPECTOR, statementCounter);
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryMetricsFilter> queryMetricsFilter(
+            StatementCounter statementCounter, MeterRegistry meterRegistry,
+            @Value("${metrics.statements-per-request.warn-threshold:30}") int warnThreshold) {
+        FilterRegistrationBean<QueryMetricsFilter> registration = new FilterRegistrationBean<>(
+                new QueryMetricsFilter(statementCounter, meterRegistry, warnThreshold));
+        // before the Spring Security filter chain (-100)
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<LoginTimingFilter> loginTimingFilter(
+            @Value("${auth.login.server-timing:false}") boolean serverTiming,
+            @Value("${auth.login.trace.slow-threshold-ms:500}") long slowThresholdMs,
+            @Value("${auth.login.trace.sample-rate:10}") int sampleRate,
+            LoginAuditService loginAuditService, MeterRegistry meterRegistry) {
+        FilterRegistrationBean<LoginTimingFilter> registration = new FilterRegistrationBean<>(
+                new LoginTimingFilter(serverTiming, slowThresholdMs, sampleRate, loginAuditService, meterRegistry));
+        registration.addUrlPatterns("/api/auth/login");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+
+    @Bean
+    public MeterBinder hikariSaturationMetrics(DataSource dataSource) {
+        return registry -> {
+            // unwraps ConnectionLimitingDataSource in the virtual-thread mode
+            HikariDataSource hikari = DataSourceUnwrapper.unwrap(
+                    dataSource, HikariConfigMXBean.class, HikariDataSource.class);
+            if (hikari == null) {
+                return;
+            }
+            Gauge.builder("hikaricp.connections.saturation", hikari, MetricsConfig::saturation)
+                    .description("(active + pending) / maximum pool size")
+                    .tag("pool", hikari.getPoolName())
+                    .register(registry);
+        };
+    }
+
+    private static double saturation(HikariDataSource hikari) {
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        if (pool == null) {
+            return 0; // pool not started yet
+        }
+        return (pool.getActiveConnections() + pool.getThreadsAwaitingConnection())
+                / (double) hikari.getMaximumPoolSize();
+    }
+}
@@ -0,0 +1,39 @@
+package org.webvibecourse.be.config;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+
+/**
+ * =====================================================================================
+ * ParsedToken
+ * -------------------------
+ * Immutable view of a JWT whose signature has already been verified.
+ * The token is parsed once and every claim the system needs is read from here
+ * instead of re-verifying / re-decoding the JWT for each field.
+ * <p>
+ * Fields
+ * ✔ tokenId:   "jti" claim (unique per token, used for revocation)
+ * ✔ email:     subject of the token (compact profile: "em" claim, usually null)
+ * ✔ userId:    "userId" claim (compact profile: subject)
+ * ✔ role:      Role name, e.g. "ADMIN" ("role" claim, or "r" code in the compact profile;
+ * null in compact refresh tokens)
+ * ✔ use:       ACCESS (Bearer) or REFRESH (only accepted by POST /api/account/refresh)
+ * ✔ issuedAt:  iat in epoch milliseconds
+ * ✔ expiresAt: exp in epoch milliseconds
+ * ✔ jwt:       the same token as a Spring Security {@link Jwt} (used by the resource server)
+ * =====================================================================================
+ */
+public record ParsedToken(String tokenId, String email, Long userId, String role, Use use,
+                          long issuedAt, long expiresAt, Jwt jwt) {
+
+    public enum Use {
+        ACCESS, REFRESH
+    }
+
+    /**
+     * @param nowMillis current time in epoch milliseconds
+     * @return true if the token is expired at the given time
+     */
+    public boolean isExpired(long nowMillis) {
+        return expiresAt <= nowMillis;
+    }
+}
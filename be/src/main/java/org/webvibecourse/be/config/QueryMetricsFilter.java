@@ -0,0 +1,65 @@
+package org.webvibecourse.be.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * =====================================================================================
+ * QueryMetricsFilter
+ * -------------------------
+ * Records how many SQL statements Hibernate ran for each request (StatementCounter),
+ * per endpoint: hibernate.statements.per.request{method, uri}.
+ * <p>
+ * ✔ uri is the matched route pattern (e.g. /api/catalog/subjects/{id}), as in
+ * http.server.requests, so the tag cardinality stays bounded
+ * ✔ a request above metrics.statements-per-request.warn-threshold is logged at WARN
+ * (typically an N+1 select)
+ * <p>
+ * Runs ahead of Spring Security, so user loading during authentication is included.
+ * =====================================================================================
+ */
+@Slf4j
+public class QueryMetricsFilter extends OncePerRequestFilter {
+
+    private final StatementCounter statementCounter;
+    private final MeterRegistry meterRegistry;
+    private final int warnThreshold;
+
+    public QueryMetricsFilter(StatementCounter statementCounter, MeterRegistry meterRegistry, int warnThreshold) {
+        this.statementCounter = statementCounter;
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        statementCounter.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            int statements = statementCounter.stop();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            DistributionSummary.builder("hibernate.statements.per.request")
+                    .description("SQL statements run by Hibernate per HTTP request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(statements);
+            if (statements > warnThreshold) {
+                log.warn("{} {} ran {} SQL statements (threshold {})",
+                        request.getMethod(), uri, statements, warnThreshold);
+            }
+        }
+    }
+}
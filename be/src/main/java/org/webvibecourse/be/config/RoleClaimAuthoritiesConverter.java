@@ -0,0 +1,46 @@
+package org.webvibecourse.be.config;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.webvibecourse.be.Enum.Role;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * =====================================================================================
+ * RoleClaimAuthoritiesConverter
+ * -------------------------
+ * Maps the JWT role claim to the role's preallocated authority list
+ * [ROLE_ADMIN] — the same constants the User entity returns, so a request authenticated
+ * by token and one authenticated by password carry identical authorities.
+ * <p>
+ * Replaces JwtGrantedAuthoritiesConverter, which splits the claim and builds a new
+ * prefixed string + authority + collection on every request.
+ * <p>
+ * Both token profiles are understood (see JwtService):
+ * ✔ standard : "role" = role name ("ADMIN")
+ * ✔ compact  : "r" = Role.getCode() (2)
+ * <p>
+ * Unknown or missing role → no authorities.
+ * =====================================================================================
+ */
+public class RoleClaimAuthoritiesConverter implements Converter<Jwt, Collection<GrantedAuthority>> {
+
+    public static final String ROLE_CLAIM = "role";
+    public static final String ROLE_CODE_CLAIM = "r";
+
+    @Override
+    public Collection<GrantedAuthority> convert(Jwt jwt) {
+        Map<String, Object> claims = jwt.getClaims();
+        Role role = null;
+        if (claims.get(ROLE_CLAIM) instanceof String name) {
+            role = Role.fromName(name);
+        } else if (claims.get(ROLE_CODE_CLAIM) instanceof Number code) {
+            role = Role.findByCode(code.intValue());
+        }
+        return role != null ? role.getAuthorities() : List.of();
+    }
+}
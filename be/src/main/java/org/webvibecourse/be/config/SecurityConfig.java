@@ -1,5 +1,7 @@
 package org.webvibecourse.be.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -9,19 +11,17 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
-import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
-import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import org.springframework.web.filter.CorsFilter;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.webvibecourse.be.service.LoginRateLimiter;
+import org.webvibecourse.be.service.TokenRevocationService;
 
-import javax.crypto.SecretKey;
-import javax.crypto.spec.SecretKeySpec;
 import java.util.List;
 
 @Configuration
@@ -29,26 +29,32 @@ import java.util.List;
 @EnableMethodSecurity
 public class SecurityConfig {
 
-    @Value("${jwt.secret}")
-    private String secret;
     /**
      * Security Filter Chain
      */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, JwtDecoder jwtDecoder,
+                                           LoginRateLimiter loginRateLimiter,
+                                           ObjectMapper objectMapper) throws Exception {
         http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
+                // 429 on abusive anonymous auth POSTs, after CORS so browsers can read it
+                .addFilterAfter(new LoginRateLimitFilter(loginRateLimiter, objectMapper), CorsFilter.class)
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(session -> session.sessionCreationPolicy(
                         org.springframework.security.config.http.SessionCreationPolicy.STATELESS
                                                                            ))
                 .authorizeHttpRequests(auth -> auth
                                                .requestMatchers(HttpMethod.POST, APIURL.URL_ANONYMOUS_POST).permitAll()
+                                               // probes stay public; metrics / prometheus expose latency,
+                                               // login outcomes and pool usage → admins (or scrapers with an admin token)
+                                               .requestMatchers(APIURL.URL_ACTUATOR_PUBLIC).permitAll()
+                                               .requestMatchers("/actuator/**").hasAnyRole("ADMIN", "SUPERADMIN")
                                                .anyRequest().permitAll()
                                       )
                 .oauth2ResourceServer(oauth2 ->
                                               oauth2.jwt(jwt -> jwt
-                                                                 .decoder(jwtDecoder())
+                                                                 .decoder(jwtDecoder)
                                                                  .jwtAuthenticationConverter(jwtAuthenticationConverter())
                                                         )
                                      );
@@ -58,25 +64,21 @@ public class SecurityConfig {
 
     /**
      * Decode & verify JWT
+     * Same engine, key ring and verified-token cache as JwtService (no second JOSE stack).
      */
     @Bean
-    public JwtDecoder jwtDecoder() {
-        SecretKey key = new SecretKeySpec(secret.getBytes(), "HmacSHA256");
-        return NimbusJwtDecoder.withSecretKey(key).build();
+    public JwtDecoder jwtDecoder(JwtService jwtService, TokenRevocationService tokenRevocationService) {
+        return new CachingJwtDecoder(jwtService, tokenRevocationService);
     }
 
     /**
-     * Extract role from JWT ("role": "ADMIN")
+     * Extract role from JWT ("role": "ADMIN" → ROLE_ADMIN, preallocated per Role)
      */
 
     @Bean
     public JwtAuthenticationConverter jwtAuthenticationConverter() {
-        JwtGrantedAuthoritiesConverter grantedAuthoritiesConverter = new JwtGrantedAuthoritiesConverter();
-        grantedAuthoritiesConverter.setAuthoritiesClaimName("role");
-        grantedAuthoritiesConverter.setAuthorityPrefix("ROLE_");
-
         JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
-        converter.setJwtGrantedAuthoritiesConverter(grantedAuthoritiesConverter);
+        converter.setJwtGrantedAuthoritiesConverter(new RoleClaimAuthoritiesConverter());
         return converter;
     }
 
@@ -113,10 +115,16 @@ public class SecurityConfig {
 
     /**
      * PasswordEncoder dùng để mã hoá / so khớp password.
+     * BCrypt runs on a dedicated bounded executor (not on Tomcat threads);
+     * hashes with a different cost are re-hashed on the next successful login.
      */
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    @Bean(destroyMethod = "shutdown")
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength,
+                                           @Value("${security.password.hash-threads:0}") int threads,
+                                           @Value("${security.password.hash-queue-capacity:0}") int queueCapacity,
+                                           @Value("${security.password.hash-timeout-ms:5000}") long timeoutMs,
+                                           MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(strength, threads, queueCapacity, timeoutMs, meterRegistry);
     }
 
 }
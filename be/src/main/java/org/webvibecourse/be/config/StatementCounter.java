@@ -0,0 +1,45 @@
+package org.webvibecourse.be.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * =====================================================================================
+ * StatementCounter
+ * -------------------------
+ * Hibernate StatementInspector that counts the SQL statements prepared on the current
+ * thread between start() and stop() (one HTTP request, see QueryMetricsFilter).
+ * <p>
+ * ✔ the SQL is returned unchanged
+ * ✔ statements outside a start/stop window (startup, async exports...) are not counted
+ * ✔ JdbcTemplate statements bypass Hibernate and are not counted
+ * =====================================================================================
+ */
+public class StatementCounter implements StatementInspector {
+
+    private final ThreadLocal<int[]> count = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] current = count.get();
+        if (current != null) {
+            current[0]++;
+        }
+        return sql;
+    }
+
+    /**
+     * Start counting on this thread (resets any previous count).
+     */
+    public void start() {
+        count.set(new int[1]);
+    }
+
+    /**
+     * @return statements counted since start(), 0 if not started; counting stops
+     */
+    public int stop() {
+        int[] current = count.get();
+        count.remove();
+        return current == null ? 0 : current[0];
+    }
+}
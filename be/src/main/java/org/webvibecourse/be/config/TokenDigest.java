@@ -0,0 +1,38 @@
+package org.webvibecourse.be.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * =====================================================================================
+ * TokenDigest
+ * -------------------------
+ * SHA-256 fingerprint of a raw token string.
+ * <p>
+ * Used as the key wherever a token has to be remembered (caches, stores),
+ * so the raw bearer credential itself is never used as a lookup key or persisted.
+ * =====================================================================================
+ */
+public final class TokenDigest {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private TokenDigest() {
+    }
+
+    /**
+     * @param token raw token
+     * @return base64url (no padding) SHA-256 of the token, 43 chars
+     */
+    public static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return ENCODER.encodeToString(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is mandatory on every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+}
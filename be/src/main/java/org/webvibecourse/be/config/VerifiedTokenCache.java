@@ -0,0 +1,89 @@
+package org.webvibecourse.be.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * =====================================================================================
+ * VerifiedTokenCache
+ * -------------------------
+ * Bounded cache of already verified tokens, keyed by the SHA-256 digest of the token.
+ * <p>
+ * Clients send the same access token on every request during its whole TTL,
+ * so after the first verification a repeat request only costs one SHA-256
+ * instead of HMAC verification + base64 + JSON decoding.
+ * <p>
+ * Rules
+ * ✔ Only successfully verified tokens are cached (failures are never cached)
+ * ✔ Each entry is evicted at the token's own "exp", so an expired token is never served
+ * ✔ Size is bounded by jwt.cache.max-size (W-TinyLFU eviction)
+ * ✔ Hit / miss / eviction counters are published as "jwt.verified" cache metrics
+ * =====================================================================================
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<String, ParsedToken> cache;
+
+    public VerifiedTokenCache(@Value("${jwt.cache.max-size}") long maxSize, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ExpireAtTokenExp())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified");
+    }
+
+    /**
+     * Return the verified view of a token, verifying it only on a cache miss.
+     *
+     * INPUT
+     * @param token     raw JWT
+     * @param verifier  full verification (signature + decode), called on miss only
+     *
+     * OUTPUT
+     * @return verified token view
+     * @throws RuntimeException whatever the verifier throws (nothing is cached in that case)
+     */
+    public ParsedToken get(String token, Function<String, ParsedToken> verifier) {
+        return cache.get(TokenDigest.sha256(token), digest -> verifier.apply(token));
+    }
+
+    /**
+     * @return snapshot of hit / miss / eviction counters
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Entries live exactly until the token's expiration time.
+     */
+    private static final class ExpireAtTokenExp implements Expiry<String, ParsedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, ParsedToken token, long currentTime) {
+            long ttlMillis = token.expiresAt() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(ttlMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, ParsedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, ParsedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
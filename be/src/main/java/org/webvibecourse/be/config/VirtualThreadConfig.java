@@ -0,0 +1,58 @@
+package org.webvibecourse.be.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * =====================================================================================
+ * VirtualThreadConfig
+ * -------------------------
+ * Extra wiring for the virtual-thread execution mode
+ * (spring.threads.virtual.enabled=true, see application-vthreads.properties).
+ * <p>
+ * In that mode Tomcat runs every request on its own virtual thread, so the real
+ * concurrency limit becomes the Hikari pool:
+ * ✔ the DataSource is wrapped in a ConnectionLimitingDataSource (fair semaphore sized
+ * to the pool) so waiting requests queue FIFO and fail fast
+ * ✔ carrier-thread pinning is detected and reported (VirtualThreadPinningMonitor)
+ * =====================================================================================
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    /**
+     * Wrap the Hikari pool in the semaphore limiter.
+     * static: BeanPostProcessors must not force early init of this configuration.
+     */
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(
+            @Value("${db.limiter.acquire-timeout-ms:30000}") long acquireTimeoutMs,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    return new ConnectionLimitingDataSource(
+                            hikari, hikari.getMaximumPoolSize(), acquireTimeoutMs, meterRegistry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            @Value("${vthreads.pinning.threshold-ms:20}") long thresholdMs,
+            MeterRegistry meterRegistry) {
+        return new VirtualThreadPinningMonitor(Duration.ofMillis(thresholdMs), meterRegistry);
+    }
+}
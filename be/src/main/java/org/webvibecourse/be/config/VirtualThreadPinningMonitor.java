@@ -0,0 +1,91 @@
+package org.webvibecourse.be.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * =====================================================================================
+ * VirtualThreadPinningMonitor
+ * -------------------------
+ * Detects virtual threads pinned to their carrier thread (blocking inside a
+ * synchronized block / native frame) using the JFR event jdk.VirtualThreadPinned.
+ * <p>
+ * A pinned virtual thread holds a carrier (one per core) for the whole blocking call,
+ * so a few pinned JDBC calls are enough to stall every request in virtual-thread mode.
+ * <p>
+ * Each event over the threshold is:
+ * ✔ counted      : vthreads.pinned (count + duration)
+ * ✔ reported     : WARN log with the top frames of the pinning stack
+ * =====================================================================================
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final int REPORTED_FRAMES = 8;
+
+    private final Duration threshold;
+    private final Timer pinned;
+    private final Counter dropped;
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(Duration threshold, MeterRegistry meterRegistry) {
+        this.threshold = threshold;
+        this.pinned = Timer.builder("vthreads.pinned")
+                .description("Virtual threads pinned to their carrier longer than the threshold")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("vthreads.pinned.unreported")
+                .description("Pinning events without stack trace")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable("jdk.VirtualThreadPinned").withThreshold(threshold).withStackTrace();
+        recording.onEvent("jdk.VirtualThreadPinned", this::onPinned);
+        recording.startAsync();
+        this.stream = recording;
+        log.info("Virtual thread pinning monitor started (threshold {} ms)", threshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        if (recording != null) {
+            recording.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.record(event.getDuration());
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null) {
+            dropped.increment();
+            return;
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        String top = frames.stream()
+                .limit(REPORTED_FRAMES)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining(" <- "));
+        log.warn("Virtual thread pinned for {} ms: {}", event.getDuration().toMillis(), top);
+    }
+}
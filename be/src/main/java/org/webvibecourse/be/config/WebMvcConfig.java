@@ -0,0 +1,29 @@
+package org.webvibecourse.be.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * =====================================================================================
+ * WebMvcConfig
+ * -------------------------
+ * ✔ ApiResponse bodies are written by ApiResponseHttpMessageConverter, registered ahead
+ * of the generic Jackson converter
+ * =====================================================================================
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new ApiResponseHttpMessageConverter(objectMapper));
+    }
+}
@@ -0,0 +1,57 @@
+package org.webvibecourse.be.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.webvibecourse.be.dto.request.RefreshTokenRequest;
+import org.webvibecourse.be.dto.response.ApiResponse;
+import org.webvibecourse.be.dto.response.TokenResponse;
+import org.webvibecourse.be.service.AuthService;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/account")
+public class AccountController {
+
+    private final AuthService authService;
+
+    /**
+     * Exchange a refresh token for a new access / refresh token pair.
+     * The presented refresh token is consumed (one-time use).
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<TokenResponse>> refresh(@RequestBody RefreshTokenRequest request) {
+        if (request.getRefreshToken() == null || request.getRefreshToken().isBlank()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("Refresh token is required"));
+        }
+        try {
+            return ResponseEntity.ok(ApiResponse.success(authService.refresh(request.getRefreshToken())));
+        } catch (AuthenticationException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.error("Invalid refresh token"));
+        }
+    }
+
+    /**
+     * Logout: revoke the current access token and the refresh token family of the session.
+     * The refresh token in the body is optional.
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponse<Void>> logout(@AuthenticationPrincipal Jwt jwt,
+                                                    @RequestBody(required = false) RefreshTokenRequest request) {
+        if (jwt == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.error("Unauthorized"));
+        }
+        authService.logout(jwt, request == null ? null : request.getRefreshToken());
+        return ResponseEntity.ok(ApiResponse.success("Logged out"));
+    }
+}
@@ -0,0 +1,88 @@
+package org.webvibecourse.be.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.webvibecourse.be.dto.response.ApiResponse;
+import org.webvibecourse.be.exception.ExportsBusyException;
+import org.webvibecourse.be.service.ExportService;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Full exports of users / subjects / categories, streamed from the database to the
+ * response (StreamingResponseBody, written on an MVC async thread).
+ * <p>
+ * GET /api/admin/export/{users|subjects|categories}?format=csv|ndjson (default csv)
+ * The body is sent chunked as rows are read; a failure midway truncates the download.
+ * At most export.max-concurrent exports stream at a time, more get 503 + Retry-After.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/export")
+@PreAuthorize("hasAnyRole('ADMIN', 'SUPERADMIN')")
+public class AdminExportController {
+
+    private final ExportService exportService;
+
+    @GetMapping("/{dataset}")
+    public ResponseEntity<StreamingResponseBody> export(@PathVariable String dataset,
+                                                        @RequestParam(required = false) String format,
+                                                        HttpServletRequest request) {
+        ExportService.Dataset exportDataset = ExportService.Dataset.from(dataset);
+        ExportService.Format exportFormat = ExportService.Format.from(format);
+        String filename = exportDataset.name().toLowerCase() + "." + exportFormat.getExtension();
+
+        // Reserved before the 200 is sent, released when the stream ends, and in any case
+        // when the async request completes (timeout, error, task rejected, client gone
+        // before the body ran): otherwise a body that never runs would keep its slot
+        ExportService.Slot slot = exportService.acquireSlot();
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(slot, new CallableProcessingInterceptor() {
+            @Override
+            public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                slot.close();
+            }
+        });
+        StreamingResponseBody body = output -> {
+            try (slot) {
+                exportService.export(exportDataset, exportFormat, output);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    /**
+     * Unknown dataset / format. (The streaming return type leaves no room for an
+     * ApiResponse body in the handler itself.)
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ApiResponse<Void>> badRequest(IllegalArgumentException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.error(e.getMessage()));
+    }
+
+    @ExceptionHandler(ExportsBusyException.class)
+    public ResponseEntity<ApiResponse<Void>> busy(ExportsBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "30")
+                .body(ApiResponse.error(e.getMessage()));
+    }
+}
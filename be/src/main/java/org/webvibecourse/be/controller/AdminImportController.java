@@ -0,0 +1,68 @@
+package org.webvibecourse.be.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.webvibecourse.be.Enum.Role;
+import org.webvibecourse.be.dto.response.ApiResponse;
+import org.webvibecourse.be.dto.response.ImportReport;
+import org.webvibecourse.be.exception.ImportInProgressException;
+import org.webvibecourse.be.service.BulkImportService;
+
+import java.io.IOException;
+
+/**
+ * Bulk import of users / subjects. The body (text/csv with a header row, or a JSON array)
+ * is streamed straight from the request, never buffered: send it as is, not multipart.
+ * <p>
+ * 200 with the import report (even if some rows failed), 400 unreadable input,
+ * 409 another import is running.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/import")
+@PreAuthorize("hasAnyRole('ADMIN', 'SUPERADMIN')")
+public class AdminImportController {
+
+    private static final String SUPERADMIN_AUTHORITY = Role.AUTHORITY_PREFIX + Role.SUPERADMIN.name();
+
+    private final BulkImportService bulkImportService;
+
+    @PostMapping(value = "/users", consumes = {"text/csv", "application/json"})
+    public ResponseEntity<ApiResponse<ImportReport>> importUsers(HttpServletRequest request,
+                                                                 Authentication authentication) throws IOException {
+        Role importer = authentication.getAuthorities().stream()
+                .anyMatch(authority -> SUPERADMIN_AUTHORITY.equals(authority.getAuthority()))
+                ? Role.SUPERADMIN : Role.ADMIN;
+        try {
+            BulkImportService.Format format = BulkImportService.Format.from(request.getContentType());
+            return ResponseEntity.ok(ApiResponse.success(
+                    bulkImportService.importUsers(request.getInputStream(), format, importer)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    @PostMapping(value = "/subjects", consumes = {"text/csv", "application/json"})
+    public ResponseEntity<ApiResponse<ImportReport>> importSubjects(HttpServletRequest request) throws IOException {
+        try {
+            BulkImportService.Format format = BulkImportService.Format.from(request.getContentType());
+            return ResponseEntity.ok(ApiResponse.success(
+                    bulkImportService.importSubjects(request.getInputStream(), format)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    @ExceptionHandler(ImportInProgressException.class)
+    public ResponseEntity<ApiResponse<Void>> busy(ImportInProgressException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiResponse.error(e.getMessage()));
+    }
+}
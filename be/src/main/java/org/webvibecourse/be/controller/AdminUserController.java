@@ -0,0 +1,54 @@
+package org.webvibecourse.be.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.webvibecourse.be.dto.response.ApiResponse;
+import org.webvibecourse.be.dto.response.CursorPageResponse;
+import org.webvibecourse.be.dto.response.UserSummaryResponse;
+import org.webvibecourse.be.service.AdminUserService;
+import org.webvibecourse.be.service.AuthService;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/users")
+@PreAuthorize("hasAnyRole('ADMIN', 'SUPERADMIN')")
+public class AdminUserController {
+
+    private final AuthService authService;
+
+    private final AdminUserService adminUserService;
+
+    /**
+     * List users, keyset-paginated by id.
+     * ?filter=<RSQL> on id / email / role / status / createdAt, e.g. filter=role==ADMIN;status==1
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<CursorPageResponse<UserSummaryResponse>>> list(
+            @RequestParam(required = false) String filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(adminUserService.listUsers(filter, cursor, size)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    /**
+     * Revoke every access / refresh token issued to the user so far
+     * (the user has to log in again).
+     */
+    @PostMapping("/{userId}/revoke")
+    public ResponseEntity<ApiResponse<Void>> revoke(@PathVariable Long userId) {
+        authService.revokeUser(userId);
+        return ResponseEntity.ok(ApiResponse.success("User tokens revoked"));
+    }
+}
@@ -1,9 +1,14 @@
 package org.webvibecourse.be.controller;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.LockedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.token.TokenService;
@@ -11,16 +16,18 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-import org.webvibecourse.be.Enum.Role;
-import org.webvibecourse.be.config.JwtService;
+import org.webvibecourse.be.config.LoginTrace;
 import org.webvibecourse.be.dto.request.LoginRequest;
 import org.webvibecourse.be.dto.response.ApiResponse;
 import org.webvibecourse.be.dto.response.TokenResponse;
 import org.webvibecourse.be.entity.User;
+import org.webvibecourse.be.exception.PasswordHashingOverloadedException;
+import org.webvibecourse.be.service.AuthService;
 import org.webvibecourse.be.service.UserService;
 
 import java.util.List;
 
+@Slf4j
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/auth")
@@ -29,7 +36,7 @@ public class AuthController {
 
     private final AuthenticationManager authenticationManager;
 
-    private final JwtService jwtService;
+    private final AuthService authService;
 
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<TokenResponse>> login(@RequestBody LoginRequest request){
@@ -41,6 +48,7 @@ public class AuthController {
                             request.getPassword()));
 
             if (!authentication.isAuthenticated()) {
+                LoginTrace.handlerDone(LoginTrace.Outcome.BAD_PASSWORD);
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(ApiResponse.error("Invalid email or password"));
             }
@@ -48,40 +56,41 @@ public class AuthController {
             // 2. Lấy User từ Authentication
             User account = (User) authentication.getPrincipal();
 
-            // 3. Lấy role dạng String (ví dụ: "STUDENT", "TEACHER", "ADMIN")
-            String role = Role.fromCode(account.getRole()).name();
-            // nếu bạn chưa có getRoleEnum() thì mình nhắc lại ở dưới
-
-            // 4. Generate access token & refresh token
-            String accessToken = jwtService.generateAccessToken(
-                    account.getEmail(),
-                    account.getId(),
-                    role);
-
-            String refreshToken = jwtService.generateRefreshToken(
-                    account.getEmail(),
-                    account.getId(),
-                    role);
-
-            long accessTokenExpiryAt = jwtService.getAccessExpiration();
-            long refreshTokenExpiryAt = jwtService.getRefreshExpiration();
-
-            // 5. Build response trả về FE
-            TokenResponse tokenResponse = TokenResponse.builder()
-                    .accessToken(accessToken)
-                    .refreshToken(refreshToken)
-                    .accessTokenExpiryAt(accessTokenExpiryAt)
-                    .refreshTokenExpiryAt(refreshTokenExpiryAt)
-                    .role(role)
-                    .build();
+            // 3. Generate access token & refresh token (new refresh token family)
+            long start = System.nanoTime();
+            TokenResponse tokenResponse = authService.issueTokens(account);
+            LoginTrace.record(LoginTrace.Phase.TOKENS, System.nanoTime() - start);
 
+            LoginTrace.authenticatedUser(account.getId());
+            LoginTrace.handlerDone(LoginTrace.Outcome.SUCCESS);
             return ResponseEntity.ok(ApiResponse.success(tokenResponse));
 
+        } catch (PasswordHashingOverloadedException e) {
+            // Hashing executor saturated → fail fast, client retries later
+            LoginTrace.handlerDone(LoginTrace.Outcome.OVERLOADED);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(ApiResponse.error("Server is busy, please retry later"));
         } catch (Exception e) {
-            // Có thể log thêm nếu cần
+            // Same response for every cause; the cause is only classified in metrics / logs
+            LoginTrace.handlerDone(classify(e));
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(ApiResponse.error("Invalid email or password"));
         }
 
     }
+
+    private static LoginTrace.Outcome classify(Exception e) {
+        if (e instanceof BadCredentialsException) {
+            return LoginTrace.badCredentials();
+        }
+        if (e instanceof DisabledException) {
+            return LoginTrace.Outcome.DISABLED;
+        }
+        if (e instanceof LockedException) {
+            return LoginTrace.Outcome.LOCKED;
+        }
+        log.warn("Login failed with an internal error", e);
+        return LoginTrace.Outcome.INTERNAL_ERROR;
+    }
 }
@@ -0,0 +1,94 @@
+package org.webvibecourse.be.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.webvibecourse.be.dto.request.CategoryRequest;
+import org.webvibecourse.be.dto.request.SubjectRequest;
+import org.webvibecourse.be.dto.response.ApiResponse;
+import org.webvibecourse.be.dto.response.CategoryResponse;
+import org.webvibecourse.be.dto.response.SubjectResponse;
+import org.webvibecourse.be.service.CatalogAdminService;
+
+/**
+ * Catalog maintenance (categories, subjects). Writes invalidate the catalog caches and
+ * ETags served by CatalogController.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/catalog")
+@PreAuthorize("hasAnyRole('ADMIN', 'SUPERADMIN')")
+public class CatalogAdminController {
+
+    private final CatalogAdminService catalogAdminService;
+
+    @PostMapping("/categories")
+    public ResponseEntity<ApiResponse<CategoryResponse>> createCategory(@RequestBody CategoryRequest request) {
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(ApiResponse.success(catalogAdminService.createCategory(request)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    @PutMapping("/categories/{id}")
+    public ResponseEntity<ApiResponse<CategoryResponse>> updateCategory(@PathVariable Long id,
+                                                                        @RequestBody CategoryRequest request) {
+        try {
+            return catalogAdminService.updateCategory(id, request)
+                    .map(category -> ResponseEntity.ok(ApiResponse.success(category)))
+                    .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                            .body(ApiResponse.error("Category not found")));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    @DeleteMapping("/categories/{id}")
+    public ResponseEntity<ApiResponse<Void>> deleteCategory(@PathVariable Long id) {
+        if (!catalogAdminService.deleteCategory(id)) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponse.error("Category not found"));
+        }
+        return ResponseEntity.ok(ApiResponse.success("Category deleted"));
+    }
+
+    @PostMapping("/subjects")
+    public ResponseEntity<ApiResponse<SubjectResponse>> createSubject(@RequestBody SubjectRequest request) {
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(ApiResponse.success(catalogAdminService.createSubject(request)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    @PutMapping("/subjects/{id}")
+    public ResponseEntity<ApiResponse<SubjectResponse>> updateSubject(@PathVariable Long id,
+                                                                      @RequestBody SubjectRequest request) {
+        try {
+            return catalogAdminService.updateSubject(id, request)
+                    .map(subject -> ResponseEntity.ok(ApiResponse.success(subject)))
+                    .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                            .body(ApiResponse.error("Subject not found")));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    @DeleteMapping("/subjects/{id}")
+    public ResponseEntity<ApiResponse<Void>> deleteSubject(@PathVariable Long id) {
+        if (!catalogAdminService.deleteSubject(id)) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponse.error("Subject not found"));
+        }
+        return ResponseEntity.ok(ApiResponse.success("Subject deleted"));
+    }
+}
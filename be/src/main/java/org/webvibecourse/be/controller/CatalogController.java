@@ -0,0 +1,163 @@
+package org.webvibecourse.be.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.webvibecourse.be.dto.response.ApiResponse;
+import org.webvibecourse.be.dto.response.CategoryResponse;
+import org.webvibecourse.be.dto.response.CursorPageResponse;
+import org.webvibecourse.be.dto.response.SubjectResponse;
+import org.webvibecourse.be.dto.response.SubjectSearchResponse;
+import org.webvibecourse.be.dto.response.SubjectSummaryResponse;
+import org.webvibecourse.be.service.CatalogService;
+import org.webvibecourse.be.service.CatalogService.SortBy;
+import org.webvibecourse.be.service.CatalogVersion;
+import org.webvibecourse.be.service.CatalogVersion.Kind;
+import org.webvibecourse.be.service.SubjectSearchIndex;
+
+import java.util.List;
+
+/**
+ * Public catalog listings.
+ * Paging: ?size=20&sort=id|name, then ?cursor=<nextCursor> for the following pages.
+ * Filtering: ?filter=<RSQL> on id / name, e.g. filter=name=like=Java*
+ * Search: /subjects/search?q=java advanced, /subjects/autocomplete?q=mach lea
+ * <p>
+ * Conditional GET: every 200 carries the ETag of the table version (CatalogVersion), a
+ * request with a matching If-None-Match gets 304 before any DB read or serialization.
+ * The version is read before the data, so a concurrent write can only make the ETag
+ * older than the body (one extra refetch later), never newer. ETags are per instance
+ * (CatalogVersion): with several nodes a client only gets 304 from the node that issued it.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/catalog")
+public class CatalogController {
+
+    private final CatalogService catalogService;
+
+    private final CatalogVersion catalogVersion;
+
+    private final SubjectSearchIndex subjectSearchIndex;
+
+    @GetMapping("/categories")
+    public ResponseEntity<ApiResponse<CursorPageResponse<CategoryResponse>>> listCategories(
+            @RequestParam(required = false) String filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "id") String sort,
+            WebRequest request) {
+        String etag = catalogVersion.etag(Kind.CATEGORIES);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        try {
+            return ok(etag, ApiResponse.success(
+                    catalogService.listCategories(filter, cursor, size, SortBy.from(sort))));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    @GetMapping("/categories/{id}")
+    public ResponseEntity<ApiResponse<CategoryResponse>> getCategory(@PathVariable Long id, WebRequest request) {
+        String etag = catalogVersion.etag(Kind.CATEGORIES);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return catalogService.getCategory(id)
+                .map(category -> ok(etag, ApiResponse.success(category)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ApiResponse.error("Category not found")));
+    }
+
+    @GetMapping("/subjects")
+    public ResponseEntity<ApiResponse<CursorPageResponse<SubjectSummaryResponse>>> listSubjects(
+            @RequestParam(required = false) String filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "id") String sort,
+            WebRequest request) {
+        String etag = catalogVersion.etag(Kind.SUBJECTS);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        try {
+            return ok(etag, ApiResponse.success(
+                    catalogService.listSubjects(filter, cursor, size, SortBy.from(sort))));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    /**
+     * Full-text search on subject name / description (in-memory index), ranked ids only.
+     */
+    @GetMapping("/subjects/search")
+    public ResponseEntity<ApiResponse<SubjectSearchResponse>> searchSubjects(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(subjectSearchIndex.search(q, limit)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.error(e.getMessage()));
+        } catch (IllegalStateException e) {
+            return warmingUp(e);
+        }
+    }
+
+    /**
+     * Subject name suggestions for search-as-you-type.
+     */
+    @GetMapping("/subjects/autocomplete")
+    public ResponseEntity<ApiResponse<List<SubjectSummaryResponse>>> autocompleteSubjects(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(subjectSearchIndex.autocomplete(q, limit)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.error(e.getMessage()));
+        } catch (IllegalStateException e) {
+            return warmingUp(e);
+        }
+    }
+
+    @GetMapping("/subjects/{id}")
+    public ResponseEntity<ApiResponse<SubjectResponse>> getSubject(@PathVariable Long id, WebRequest request) {
+        String etag = catalogVersion.etag(Kind.SUBJECTS);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return catalogService.getSubject(id)
+                .map(subject -> ok(etag, ApiResponse.success(subject)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ApiResponse.error("Subject not found")));
+    }
+
+    /**
+     * Search index still building after startup → client retries shortly.
+     */
+    private static <T> ResponseEntity<ApiResponse<T>> warmingUp(IllegalStateException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.error(e.getMessage()));
+    }
+
+    /**
+     * 200 with the ETag; no-cache = the client may store the page but must revalidate it.
+     */
+    private static <T> ResponseEntity<T> ok(String etag, T body) {
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(body);
+    }
+}
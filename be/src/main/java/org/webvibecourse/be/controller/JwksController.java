@@ -0,0 +1,43 @@
+package org.webvibecourse.be.controller;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.webvibecourse.be.config.JwtKeyRing;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Public keys of the JWT key ring (RFC 7517 JWK Set), for services that verify our
+ * tokens themselves instead of calling back into be.
+ * <p>
+ * GET /.well-known/jwks.json — plain JWKS (no ApiResponse envelope), cacheable for
+ * jwt.keys.jwks-max-age-seconds. Verifiers should refetch on an unknown kid; new keys are
+ * published jwt.keys.publish-ahead-ms before they sign, so a cached copy rarely misses.
+ */
+@RestController
+public class JwksController {
+
+    private static final MediaType JWK_SET = MediaType.parseMediaType("application/jwk-set+json");
+
+    private final JwtKeyRing keyRing;
+    private final CacheControl cacheControl;
+
+    public JwksController(JwtKeyRing keyRing,
+                          @Value("${jwt.keys.jwks-max-age-seconds:300}") long maxAgeSeconds) {
+        this.keyRing = keyRing;
+        this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic();
+    }
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .contentType(JWK_SET)
+                .body(keyRing.jwks());
+    }
+}
@@ -0,0 +1,43 @@
+package org.webvibecourse.be.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.webvibecourse.be.dto.request.TokenIntrospectionRequest;
+import org.webvibecourse.be.dto.response.ApiResponse;
+import org.webvibecourse.be.dto.response.TokenIntrospectionResponse;
+import org.webvibecourse.be.service.TokenIntrospectionService;
+
+import java.util.List;
+
+/**
+ * Batch token introspection for the API gateway and worker jobs (e.g. checking every
+ * active session before a notification fan-out).
+ * <p>
+ * POST /api/auth/introspect {"tokens": [...]} → one result per token, in request order.
+ * Callers authenticate with a Bearer token of an admin service account: the response
+ * exposes user ids and roles of arbitrary tokens.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/auth")
+@PreAuthorize("hasAnyRole('ADMIN', 'SUPERADMIN')")
+public class TokenIntrospectionController {
+
+    private final TokenIntrospectionService tokenIntrospectionService;
+
+    @PostMapping("/introspect")
+    public ResponseEntity<ApiResponse<List<TokenIntrospectionResponse>>> introspect(
+            @RequestBody TokenIntrospectionRequest request) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(tokenIntrospectionService.introspect(request.getTokens())));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.error(e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package org.webvibecourse.be.dto.request;
+
+import lombok.Data;
+
+/**
+ * =====================================================================================
+ * CategoryRequest
+ * -------------------------
+ * Request DTO for admin category create / update
+ * Fields
+ * ✔ name: category name (required)
+ */
+@Data
+public class CategoryRequest {
+    private String name;
+}
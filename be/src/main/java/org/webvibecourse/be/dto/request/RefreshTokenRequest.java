@@ -0,0 +1,16 @@
+package org.webvibecourse.be.dto.request;
+
+import lombok.Data;
+
+/**
+ * =====================================================================================
+ * RefreshTokenRequest
+ * -------------------------
+ * Request DTO for refreshApi
+ * Fields
+ * ✔ refreshToken: refresh token received from login / previous refresh (one-time use)
+ */
+@Data
+public class RefreshTokenRequest {
+    private String refreshToken;
+}
@@ -0,0 +1,22 @@
+package org.webvibecourse.be.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * =====================================================================================
+ * SubjectImportRow
+ * -------------------------
+ * One row of a subject bulk import (CSV header / JSON keys = field names)
+ * Fields
+ * ✔ name       : subject name (required)
+ * ✔ description: free text, optional
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubjectImportRow {
+    private String name;
+    private String description;
+}
@@ -0,0 +1,18 @@
+package org.webvibecourse.be.dto.request;
+
+import lombok.Data;
+
+/**
+ * =====================================================================================
+ * SubjectRequest
+ * -------------------------
+ * Request DTO for admin subject create / update
+ * Fields
+ * ✔ name       : subject name (required)
+ * ✔ description: free text, optional
+ */
+@Data
+public class SubjectRequest {
+    private String name;
+    private String description;
+}
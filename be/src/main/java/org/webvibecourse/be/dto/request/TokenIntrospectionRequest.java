@@ -0,0 +1,19 @@
+package org.webvibecourse.be.dto.request;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * =====================================================================================
+ * TokenIntrospectionRequest
+ * -------------------------
+ * Request DTO for the batch introspection API
+ * Fields
+ * ✔ tokens: raw access / refresh tokens (no "Bearer " prefix), at most
+ * jwt.introspect.max-batch; duplicates are verified once
+ */
+@Data
+public class TokenIntrospectionRequest {
+    private List<String> tokens;
+}
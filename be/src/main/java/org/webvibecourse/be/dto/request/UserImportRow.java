@@ -0,0 +1,29 @@
+package org.webvibecourse.be.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * =====================================================================================
+ * UserImportRow
+ * -------------------------
+ * One row of a user bulk import (CSV header / JSON keys = field names)
+ * Fields
+ * ✔ email   : login email (required, unique)
+ * ✔ password: plain password (required, min 6 chars), hashed on import
+ * ✔ fullName, phone: optional
+ * ✔ role    : role name (STUDENT, TEACHER, ...) or code, default STUDENT
+ * ✔ status  : default 1 (active)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportRow {
+    private String email;
+    private String password;
+    private String fullName;
+    private String phone;
+    private String role;
+    private Integer status;
+}
@@ -4,9 +4,14 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.webvibecourse.be.util.CoarseClock;
 
-import java.time.OffsetDateTime;
 
+/**
+ * Response envelope of every endpoint.
+ * Written by ApiResponseHttpMessageConverter (envelope streamed directly, only data goes
+ * through Jackson); timestamp comes from the shared millisecond CoarseClock.
+ */
 @Data
 @Builder
 @AllArgsConstructor
@@ -20,7 +25,7 @@ public class ApiResponse<T> {
     public static <T> ApiResponse<T> success(T data, String message) {
         return ApiResponse.<T>builder()
                 .status("success")
-                .timestamp(OffsetDateTime.now().toString())
+                .timestamp(CoarseClock.now())
                 .message(message)
                 .data(data)
                 .build();
@@ -37,7 +42,7 @@ public class ApiResponse<T> {
     public static <T> ApiResponse<T> error(String message) {
         return ApiResponse.<T>builder()
                 .status("error")
-                .timestamp(OffsetDateTime.now().toString())
+                .timestamp(CoarseClock.now())
                 .message(message)
                 .build();
     }
@@ -45,7 +50,7 @@ public class ApiResponse<T> {
     public static <T> ApiResponse<T> error(int code, String message) {
         return ApiResponse.<T>builder()
                 .status(String.valueOf(code))
-                .timestamp(OffsetDateTime.now().toString())
+                .timestamp(CoarseClock.now())
                 .message(message)
                 .data(null)
                 .build();
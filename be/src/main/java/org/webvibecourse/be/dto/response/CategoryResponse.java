@@ -0,0 +1,15 @@
+package org.webvibecourse.be.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CategoryResponse {
+    private Long id;
+    private String name;
+}
@@ -0,0 +1,37 @@
+package org.webvibecourse.be.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Result of a bulk import.
+ * Rows are numbered from 1 in input order (CSV: data rows after the header, JSON: array
+ * elements); line is the CSV line of the row (0 for JSON).
+ * errors holds at most import.max-reported-errors entries (errorsTruncated = more exist).
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportReport {
+    private int total;
+    private int imported;
+    private int failed;
+    private long durationMs;
+    private double rowsPerSecond;
+    private List<RowError> errors;
+    private boolean errorsTruncated;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class RowError {
+        private int row;
+        private int line;
+        private String message;
+    }
+}
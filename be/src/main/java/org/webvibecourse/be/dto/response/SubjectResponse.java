@@ -0,0 +1,16 @@
+package org.webvibecourse.be.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SubjectResponse {
+    private Long id;
+    private String name;
+    private String description;
+}
@@ -0,0 +1,19 @@
+package org.webvibecourse.be.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Subject search result: ranked ids (best first, at most the requested limit) and the
+ * number of matching subjects.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SubjectSearchResponse {
+    private long[] ids;
+    private int total;
+}
@@ -0,0 +1,24 @@
+package org.webvibecourse.be.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Introspection result of one token of a batch (same position as in the request).
+ * active = access token with a valid signature, not expired and not revoked; otherwise
+ * reason is "invalid", "expired", "revoked" or "not_access_token" (a refresh token). userId / role are only set for active tokens,
+ * expiresAt (epoch ms) also for expired and revoked ones.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TokenIntrospectionResponse {
+    private boolean active;
+    private Long userId;
+    private String role;
+    private Long expiresAt;
+    private String reason;
+}
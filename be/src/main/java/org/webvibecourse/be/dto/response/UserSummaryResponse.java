@@ -0,0 +1,24 @@
+package org.webvibecourse.be.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Admin user list item (no password, no profile details).
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserSummaryResponse {
+    private Long id;
+    private String email;
+    private String fullName;
+    private Integer role;
+    private Integer status;
+    private OffsetDateTime createdAt;
+}
@@ -5,9 +5,18 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.webvibecourse.be.config.IdSequenceAligner;
+import org.webvibecourse.be.entity.listener.CatalogEntityListener;
 
 @Entity
-@Table(name = "categories")
+@Table(name = "categories", indexes = {
+        @Index(name = "idx_categories_name_id", columnList = "name, id")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog-categories")
+@EntityListeners(CatalogEntityListener.class)
 @Data
 @Builder
 @NoArgsConstructor
@@ -15,7 +24,9 @@ import lombok.NoArgsConstructor;
 public class Category {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "categories_seq")
+    @SequenceGenerator(name = "categories_seq", sequenceName = "categories_seq",
+            allocationSize = IdSequenceAligner.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -5,9 +5,18 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.webvibecourse.be.config.IdSequenceAligner;
+import org.webvibecourse.be.entity.listener.CatalogEntityListener;
 
 @Entity
-@Table(name = "subjects")
+@Table(name = "subjects", indexes = {
+        @Index(name = "idx_subjects_name_id", columnList = "name, id")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog-subjects")
+@EntityListeners(CatalogEntityListener.class)
 @Data
 @Builder
 @NoArgsConstructor
@@ -15,7 +24,9 @@ import lombok.NoArgsConstructor;
 public class Subject {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "subjects_seq")
+    @SequenceGenerator(name = "subjects_seq", sequenceName = "subjects_seq",
+            allocationSize = IdSequenceAligner.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
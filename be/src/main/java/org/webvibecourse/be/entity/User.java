@@ -10,23 +10,31 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.webvibecourse.be.Enum.Role;
+import org.webvibecourse.be.config.IdSequenceAligner;
+import org.webvibecourse.be.entity.listener.UserEntityListener;
 
 import java.time.OffsetDateTime;
 import java.util.Collection;
-import java.util.List;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        // admin listing filters (see FilterWhitelists.USER)
+        @Index(name = "idx_users_role_id", columnList = "role, id"),
+        @Index(name = "idx_users_status_id", columnList = "status, id"),
+        @Index(name = "idx_users_created_at", columnList = "created_at")
+})
+@EntityListeners(UserEntityListener.class)
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class User  implements UserDetails {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq",
+            allocationSize = IdSequenceAligner.ALLOCATION_SIZE)
     private Long id;
 
     @Column(unique = true,nullable = false)
@@ -58,9 +66,16 @@ public class User  implements UserDetails {
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ssXXX")
     private OffsetDateTime updatedAt;
 
+    // Written by the login audit trail only (JdbcLoginAuditStore)
+    @Column(name = "last_login_at", insertable = false, updatable = false)
+    @Schema(description = "Thời gian đăng nhập gần nhất", example = "2025-08-22 09:05:46.698643")
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ssXXX")
+    private OffsetDateTime lastLoginAt;
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority("ROLE_" + Role.fromCode(this.role).getCode()));
+        // Shared immutable [ROLE_<name>] list, no allocation per call
+        return Role.fromCode(this.role).getAuthorities();
     }
 
     @Override
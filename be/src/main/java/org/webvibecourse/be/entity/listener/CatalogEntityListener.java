@@ -0,0 +1,89 @@
+package org.webvibecourse.be.entity.listener;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.webvibecourse.be.entity.Category;
+import org.webvibecourse.be.entity.Subject;
+import org.webvibecourse.be.service.CatalogVersion;
+import org.webvibecourse.be.service.CatalogVersion.Kind;
+import org.webvibecourse.be.service.SubjectSearchIndex;
+
+/**
+ * =====================================================================================
+ * CatalogEntityListener
+ * -------------------------
+ * Keeps the catalog read side in sync with Category / Subject writes.
+ * <p>
+ * ✔ CatalogVersion     : bumped at flush time and again after commit, so a request that
+ * read the version between flush and commit (and therefore still saw the old rows) gets
+ * an ETag that is already outdated and cannot keep stale data behind a 304
+ * ✔ SubjectSearchIndex : updated after commit only (a rolled back write never reaches it),
+ * from the values captured at flush time
+ * =====================================================================================
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogEntityListener {
+
+    private final CatalogVersion catalogVersion;
+
+    // Lazy: the index depends on SubjectRepository, i.e. on the EntityManagerFactory
+    // that instantiates this listener
+    private final ObjectProvider<SubjectSearchIndex> subjectSearchIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        Kind kind = bump(entity);
+        if (entity instanceof Subject subject) {
+            Long id = subject.getId();
+            String name = subject.getName();
+            String description = subject.getDescription();
+            afterCommit(() -> {
+                catalogVersion.bump(kind);
+                subjectSearchIndex.ifAvailable(index -> index.upsert(id, name, description));
+            });
+        } else {
+            afterCommit(() -> catalogVersion.bump(kind));
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        Kind kind = bump(entity);
+        if (entity instanceof Subject subject) {
+            Long id = subject.getId();
+            afterCommit(() -> {
+                catalogVersion.bump(kind);
+                subjectSearchIndex.ifAvailable(index -> index.remove(id));
+            });
+        } else {
+            afterCommit(() -> catalogVersion.bump(kind));
+        }
+    }
+
+    private Kind bump(Object entity) {
+        Kind kind = entity instanceof Category ? Kind.CATEGORIES : Kind.SUBJECTS;
+        catalogVersion.bump(kind);
+        return kind;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,52 @@
+package org.webvibecourse.be.entity.listener;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.webvibecourse.be.entity.User;
+import org.webvibecourse.be.service.UserDetailsCache;
+
+/**
+ * =====================================================================================
+ * UserEntityListener
+ * -------------------------
+ * Keeps UserDetailsCache consistent with the users table.
+ * <p>
+ * Every insert / update / delete of a User evicts it (by email and by id), once at flush
+ * time and once more after commit: a concurrent login that re-loaded the old row between
+ * flush and commit cannot keep a stale status / role / password in the cache.
+ * =====================================================================================
+ */
+@Component
+@RequiredArgsConstructor
+public class UserEntityListener {
+
+    private final UserDetailsCache userDetailsCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(User user) {
+        String email = user.getEmail();
+        Long userId = user.getId();
+        evict(email, userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(email, userId);
+                }
+            });
+        }
+    }
+
+    private void evict(String email, Long userId) {
+        userDetailsCache.evict(email);
+        userDetailsCache.evictById(userId);
+    }
+}
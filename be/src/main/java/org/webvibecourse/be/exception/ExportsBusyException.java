@@ -0,0 +1,13 @@
+package org.webvibecourse.be.exception;
+
+/**
+ * Thrown when export.max-concurrent exports are already streaming.
+ * Mapped to 503 + Retry-After: each export holds a pooled connection for the whole
+ * download, so more of them would starve regular requests (logins included).
+ */
+public class ExportsBusyException extends RuntimeException {
+
+    public ExportsBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package org.webvibecourse.be.exception;
+
+/**
+ * Thrown when a bulk import starts while another one is running on this instance.
+ * Mapped to 409: imports are serialized, the client retries once the other one is done.
+ */
+public class ImportInProgressException extends RuntimeException {
+
+    public ImportInProgressException(String message) {
+        super(message);
+    }
+}
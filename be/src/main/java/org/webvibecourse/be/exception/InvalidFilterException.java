@@ -0,0 +1,28 @@
+package org.webvibecourse.be.exception;
+
+/**
+ * Rejected RSQL filter (syntax error, field not filterable, leading wildcard, ...).
+ * An IllegalArgumentException, so controllers answer it with 400.
+ */
+public class InvalidFilterException extends IllegalArgumentException {
+
+    /**
+     * Short machine-readable rejection reason (metric tag): syntax, field, operator,
+     * wildcard, value, complexity.
+     */
+    private final String reason;
+
+    public InvalidFilterException(String reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    public InvalidFilterException(String reason, String message, Throwable cause) {
+        super(message, cause);
+        this.reason = reason;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+}
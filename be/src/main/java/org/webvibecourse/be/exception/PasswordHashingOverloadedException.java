@@ -0,0 +1,16 @@
+package org.webvibecourse.be.exception;
+
+/**
+ * Thrown when the password-hashing executor is saturated (queue full or wait timeout).
+ * Mapped to 503 + Retry-After so clients back off instead of piling up on BCrypt.
+ */
+public class PasswordHashingOverloadedException extends RuntimeException {
+
+    public PasswordHashingOverloadedException(String message) {
+        super(message);
+    }
+
+    public PasswordHashingOverloadedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,43 @@
+package org.webvibecourse.be.repository;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.webvibecourse.be.dto.response.CategoryResponse;
+import org.webvibecourse.be.entity.Category;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Keyset (seek) queries, see SubjectRepository.
+ * Results are held in the Hibernate query cache, invalidated by any write to categories.
+ */
+public interface CategoryRepository extends JpaRepository<Category, Long> {
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select new org.webvibecourse.be.dto.response.CategoryResponse(c.id, c.name) "
+            + "from Category c where c.id > :afterId order by c.id")
+    List<CategoryResponse> findPageById(@Param("afterId") long afterId, Pageable limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select new org.webvibecourse.be.dto.response.CategoryResponse(c.id, c.name) "
+            + "from Category c order by c.name, c.id")
+    List<CategoryResponse> findFirstPageByName(Pageable limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select new org.webvibecourse.be.dto.response.CategoryResponse(c.id, c.name) "
+            + "from Category c where c.name >= :name and (c.name > :name or c.id > :afterId) "
+            + "order by c.name, c.id")
+    List<CategoryResponse> findPageByName(@Param("name") String name, @Param("afterId") long afterId,
+                                          Pageable limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select new org.webvibecourse.be.dto.response.CategoryResponse(c.id, c.name) "
+            + "from Category c where c.id = :id")
+    Optional<CategoryResponse> findDetailById(@Param("id") Long id);
+}
@@ -0,0 +1,28 @@
+package org.webvibecourse.be.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+import org.webvibecourse.be.util.KeysetCursor;
+
+import java.util.List;
+
+/**
+ * Keyset page query with a dynamic filter (Criteria API), for listings whose WHERE
+ * clause is only known at runtime (RSQL filter=).
+ */
+public interface KeysetQueryRepository {
+
+    /**
+     * INPUT
+     * @param entityType    entity to list
+     * @param projection    DTO built with a constructor taking the columns in order
+     * @param columns       selected attributes (list-view columns only)
+     * @param filter        additional filter, may be null
+     * @param after         cursor of the previous page, null for the first page
+     * @param sortAttribute keyset column before id (e.g. "name"), null = id only
+     * @param limit         max rows (page size + 1 look-ahead)
+     * OUTPUT
+     * @return rows ordered by (sortAttribute,) id
+     */
+    <T, R> List<R> findPage(Class<T> entityType, Class<R> projection, List<String> columns,
+                            Specification<T> filter, KeysetCursor after, String sortAttribute, int limit);
+}
@@ -0,0 +1,35 @@
+package org.webvibecourse.be.repository;
+
+import java.util.List;
+
+/**
+ * =====================================================================================
+ * LoginAuditStore
+ * -------------------------
+ * Persistence of the login audit trail (see LoginAuditService).
+ * <p>
+ * One write = one batch of attempts, stored atomically (group commit):
+ * ✔ one audit row per attempt
+ * ✔ users.last_login_at moved forward for every user with a successful attempt
+ * =====================================================================================
+ */
+public interface LoginAuditStore {
+
+    /**
+     * Store a batch of attempts in one transaction.
+     * @param events attempts, in the order they happened
+     */
+    void write(List<LoginAuditEvent> events);
+
+    /**
+     * One login attempt.
+     *
+     * @param userId     authenticated user, null unless the login succeeded
+     * @param email      email sent by the client, null if the body had none
+     * @param ip         client address
+     * @param outcome    LoginTrace.Outcome tag (success, bad_password, rate_limited, ...)
+     * @param occurredAt epoch ms of the attempt
+     */
+    record LoginAuditEvent(Long userId, String email, String ip, String outcome, long occurredAt) {
+    }
+}
@@ -0,0 +1,98 @@
+package org.webvibecourse.be.repository;
+
+import java.util.Optional;
+
+/**
+ * =====================================================================================
+ * RefreshTokenStore
+ * -------------------------
+ * Server-side state of issued refresh tokens, used for one-time-use rotation.
+ * <p>
+ * - Every refresh token belongs to a family (one family per login).
+ * - A refresh token can be consumed exactly once; consuming it issues the next token
+ * of the same family.
+ * - Presenting an already consumed token again means the token was stolen or replayed
+ * → the whole family is revoked (reuse detection).
+ * <p>
+ * Tokens are identified by their SHA-256 digest (see TokenDigest), never by the raw value.
+ * <p>
+ * Implementations (jwt.refresh-store):
+ * ✔ memory : InMemoryRefreshTokenStore (default, lock-striped map, TTL eviction)
+ * ✔ jdbc   : JdbcRefreshTokenStore (shared between instances, existing datasource)
+ * =====================================================================================
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * Remember a newly issued refresh token.
+     * @param token token state (digest, family, owner, expiration)
+     */
+    void save(RefreshToken token);
+
+    /**
+     * Atomically consume a refresh token (one-time use).
+     *
+     * INPUT
+     * @param tokenHash  SHA-256 digest of the refresh token
+     * @param nowMillis  current time in epoch milliseconds
+     *
+     * OUTPUT
+     * @return outcome of the consumption, with the stored token when known
+     */
+    Consumption consume(String tokenHash, long nowMillis);
+
+    /**
+     * Look up a refresh token without consuming it.
+     * @param tokenHash SHA-256 digest of the refresh token
+     * @return stored token, empty if unknown
+     */
+    Optional<RefreshToken> find(String tokenHash);
+
+    /**
+     * Revoke every token of a family (reuse detected / logout).
+     * @param familyId family to revoke
+     */
+    void revokeFamily(String familyId);
+
+    /**
+     * Drop every token that is past its expiration.
+     * @param nowMillis current time in epoch milliseconds
+     * @return number of removed tokens
+     */
+    int purgeExpired(long nowMillis);
+
+    /**
+     * Stored state of one refresh token.
+     *
+     * @param tokenHash SHA-256 digest of the token
+     * @param familyId  rotation family (one per login)
+     * @param userId    owner
+     * @param expiresAt expiration in epoch milliseconds
+     */
+    record RefreshToken(String tokenHash, String familyId, Long userId, long expiresAt) {
+    }
+
+    /**
+     * Result of {@link #consume(String, long)}.
+     *
+     * @param status outcome
+     * @param token  stored token (null when UNKNOWN)
+     */
+    record Consumption(Status status, RefreshToken token) {
+
+        public static Consumption unknown() {
+            return new Consumption(Status.UNKNOWN, null);
+        }
+    }
+
+    enum Status {
+        /** First use: the caller may issue the next token of the family */
+        CONSUMED,
+        /** Already consumed before: replay, the family must be revoked */
+        REUSED,
+        /** Family was revoked (reuse detected earlier / logout) */
+        REVOKED,
+        /** Never issued, or expired and purged */
+        UNKNOWN
+    }
+}
@@ -0,0 +1,53 @@
+package org.webvibecourse.be.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * =====================================================================================
+ * SigningKeyStore
+ * -------------------------
+ * Persistence of the JWT signing key ring (see JwtKeyRing).
+ * <p>
+ * - A key is identified by its kid (truncated RFC 7638 thumbprint of the public key).
+ * - Every key has an activation time; the ring signs with the latest active key.
+ * - At most one key per activation time: when two instances rotate at the same moment
+ * only one of them wins, the other reloads the ring.
+ * <p>
+ * Implementations (jwt.keys.store):
+ * ✔ memory : InMemorySigningKeyStore (default, one instance, keys regenerated on restart)
+ * ✔ jdbc   : JdbcSigningKeyStore (shared between instances, private keys encrypted at rest)
+ * =====================================================================================
+ */
+public interface SigningKeyStore {
+
+    /**
+     * @return every stored key, in any order
+     */
+    List<StoredKey> findAll();
+
+    /**
+     * Store a new key.
+     * @param key key to store
+     * @return false if a key with the same activation time already exists
+     */
+    boolean save(StoredKey key);
+
+    /**
+     * Remove retired keys.
+     * @param kids key ids to remove
+     */
+    void delete(Collection<String> kids);
+
+    /**
+     * One key of the ring.
+     *
+     * @param kid         key id (JWS "kid" header)
+     * @param algorithm   JWS algorithm (ES256)
+     * @param publicKey   X.509 encoded public key
+     * @param privateKey  PKCS#8 encoded private key
+     * @param activatesAt first instant (epoch ms) the key may sign
+     */
+    record StoredKey(String kid, String algorithm, byte[] publicKey, byte[] privateKey, long activatesAt) {
+    }
+}
@@ -0,0 +1,57 @@
+package org.webvibecourse.be.repository;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.webvibecourse.be.dto.response.SubjectResponse;
+import org.webvibecourse.be.dto.response.SubjectSummaryResponse;
+import org.webvibecourse.be.entity.Subject;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Keyset (seek) queries: every page is an index range scan starting at the cursor,
+ * so page N costs the same as page 1. Pageable only carries the LIMIT (always page 0).
+ * <p>
+ * (name, id) > (:name, :afterId) is written as name >= :name AND (...): the leading
+ * range predicate lets the optimizer start the idx_subjects_name_id scan at the cursor,
+ * a plain OR would not.
+ * <p>
+ * Results are held in the Hibernate query cache, invalidated by any write to subjects.
+ */
+public interface SubjectRepository extends JpaRepository<Subject, Long> {
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select new org.webvibecourse.be.dto.response.SubjectSummaryResponse(s.id, s.name) "
+            + "from Subject s where s.id > :afterId order by s.id")
+    List<SubjectSummaryResponse> findPageById(@Param("afterId") long afterId, Pageable limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select new org.webvibecourse.be.dto.response.SubjectSummaryResponse(s.id, s.name) "
+            + "from Subject s order by s.name, s.id")
+    List<SubjectSummaryResponse> findFirstPageByName(Pageable limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select new org.webvibecourse.be.dto.response.SubjectSummaryResponse(s.id, s.name) "
+            + "from Subject s where s.name >= :name and (s.name > :name or s.id > :afterId) "
+            + "order by s.name, s.id")
+    List<SubjectSummaryResponse> findPageByName(@Param("name") String name, @Param("afterId") long afterId,
+                                                Pageable limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select new org.webvibecourse.be.dto.response.SubjectResponse(s.id, s.name, s.description) "
+            + "from Subject s where s.id = :id")
+    Optional<SubjectResponse> findDetailById(@Param("id") Long id);
+
+    /**
+     * Full scan in id order, one batch per call (search index build). Not query-cached.
+     */
+    @Query("select new org.webvibecourse.be.dto.response.SubjectResponse(s.id, s.name, s.description) "
+            + "from Subject s where s.id > :afterId order by s.id")
+    List<SubjectResponse> findDetailPageById(@Param("afterId") long afterId, Pageable limit);
+}
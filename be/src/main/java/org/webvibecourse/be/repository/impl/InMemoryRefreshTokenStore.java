@@ -0,0 +1,170 @@
+package org.webvibecourse.be.repository.impl;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.webvibecourse.be.repository.RefreshTokenStore;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * =====================================================================================
+ * InMemoryRefreshTokenStore
+ * -------------------------
+ * Default {@link RefreshTokenStore}: a lock-striped hash map living in the JVM.
+ * <p>
+ * - The key space is split into N stripes (power of two), each one a plain HashMap
+ * guarded by its own ReentrantLock, so concurrent refreshes of different tokens
+ * almost never contend and consume() is a single short critical section.
+ * - Consumed tokens are kept (flagged) until they expire, which is what makes
+ * reuse detection possible.
+ * - Expired tokens are purged periodically; a token never outlives jwt.refresh-expiration.
+ * - Revoked families are remembered for jwt.refresh-expiration (no token of the family
+ * can be valid after that).
+ * <p>
+ * State is lost on restart (users simply log in again); use jwt.refresh-store=jdbc
+ * when running several instances.
+ * =====================================================================================
+ */
+@Repository
+@ConditionalOnProperty(name = "jwt.refresh-store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final Stripe[] stripes;
+    private final int mask;
+    private final long refreshExpiration;
+
+    // familyId → time until which the revocation must be remembered
+    private final Map<String, Long> revokedFamilies = new ConcurrentHashMap<>();
+
+    public InMemoryRefreshTokenStore(@Value("${jwt.refresh-store.stripes:64}") int stripeCount,
+                                     @Value("${jwt.refresh-expiration}") long refreshExpiration) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1) << 1);
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.mask = size - 1;
+        this.refreshExpiration = refreshExpiration;
+    }
+
+    @Override
+    public void save(RefreshToken token) {
+        Stripe stripe = stripeFor(token.tokenHash());
+        stripe.lock.lock();
+        try {
+            stripe.entries.put(token.tokenHash(), new Entry(token));
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public Consumption consume(String tokenHash, long nowMillis) {
+        Stripe stripe = stripeFor(tokenHash);
+        stripe.lock.lock();
+        try {
+            Entry entry = stripe.entries.get(tokenHash);
+            if (entry == null || entry.token.expiresAt() <= nowMillis) {
+                return Consumption.unknown();
+            }
+            if (revokedFamilies.containsKey(entry.token.familyId())) {
+                return new Consumption(Status.REVOKED, entry.token);
+            }
+            if (entry.used) {
+                return new Consumption(Status.REUSED, entry.token);
+            }
+            entry.used = true;
+            return new Consumption(Status.CONSUMED, entry.token);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<RefreshToken> find(String tokenHash) {
+        Stripe stripe = stripeFor(tokenHash);
+        stripe.lock.lock();
+        try {
+            Entry entry = stripe.entries.get(tokenHash);
+            return Optional.ofNullable(entry == null ? null : entry.token);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public void revokeFamily(String familyId) {
+        revokedFamilies.put(familyId, System.currentTimeMillis() + refreshExpiration);
+    }
+
+    @Override
+    public int purgeExpired(long nowMillis) {
+        int removed = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                Iterator<Entry> it = stripe.entries.values().iterator();
+                while (it.hasNext()) {
+                    if (it.next().token.expiresAt() <= nowMillis) {
+                        it.remove();
+                        removed++;
+                    }
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        revokedFamilies.values().removeIf(until -> until <= nowMillis);
+        return removed;
+    }
+
+    /**
+     * TTL eviction of expired tokens and stale family revocations.
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh-store.purge-interval:60000}")
+    void purge() {
+        purgeExpired(System.currentTimeMillis());
+    }
+
+    /**
+     * @return number of tokens currently held (expired-but-not-purged included)
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.entries.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripeFor(String tokenHash) {
+        int h = tokenHash.hashCode();
+        return stripes[(h ^ (h >>> 16)) & mask];
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final HashMap<String, Entry> entries = new HashMap<>();
+    }
+
+    private static final class Entry {
+        private final RefreshToken token;
+        private boolean used; // guarded by the stripe lock
+
+        private Entry(RefreshToken token) {
+            this.token = token;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package org.webvibecourse.be.repository.impl;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import org.webvibecourse.be.repository.SigningKeyStore;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * =====================================================================================
+ * InMemorySigningKeyStore
+ * -------------------------
+ * Default {@link SigningKeyStore}: keys live in the JVM, ordered by activation time.
+ * <p>
+ * Keys are regenerated on restart, which invalidates every token issued before;
+ * use jwt.keys.store=jdbc as soon as tokens must survive a restart or several instances
+ * verify each other's tokens.
+ * =====================================================================================
+ */
+@Repository
+@ConditionalOnProperty(name = "jwt.keys.store", havingValue = "memory", matchIfMissing = true)
+public class InMemorySigningKeyStore implements SigningKeyStore {
+
+    // activatesAt → key (one key per activation time)
+    private final ConcurrentSkipListMap<Long, StoredKey> keys = new ConcurrentSkipListMap<>();
+
+    @Override
+    public List<StoredKey> findAll() {
+        return List.copyOf(keys.values());
+    }
+
+    @Override
+    public boolean save(StoredKey key) {
+        return keys.putIfAbsent(key.activatesAt(), key) == null;
+    }
+
+    @Override
+    public void delete(Collection<String> kids) {
+        keys.values().removeIf(key -> kids.contains(key.kid()));
+    }
+}
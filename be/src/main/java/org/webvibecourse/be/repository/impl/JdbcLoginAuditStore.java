@@ -0,0 +1,161 @@
+package org.webvibecourse.be.repository.impl;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.webvibecourse.be.repository.LoginAuditStore;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * =====================================================================================
+ * JdbcLoginAuditStore
+ * -------------------------
+ * {@link LoginAuditStore} backed by the application datasource (table login_audit).
+ * <p>
+ * A batch is written in one transaction:
+ * ✔ multi-row INSERTs (up to ROWS_PER_INSERT rows per statement): one round trip for
+ * hundreds of attempts, on MySQL and H2 alike
+ * ✔ one batched UPDATE of users.last_login_at per user, never moved backwards (several
+ * instances may flush out of order)
+ * <p>
+ * Schema (audit.login.jdbc.initialize-schema): login_audit and users.last_login_at are
+ * created at startup if missing, after Hibernate's own schema handling and before the
+ * first request (User maps last_login_at, so it must exist before the first user load).
+ * =====================================================================================
+ */
+@Slf4j
+@Repository
+public class JdbcLoginAuditStore implements LoginAuditStore, SmartInitializingSingleton {
+
+    private static final String CREATE_TABLE = """
+            CREATE TABLE login_audit (
+                id          BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+                user_id     BIGINT       NULL,
+                email       VARCHAR(255) NULL,
+                ip          VARCHAR(45)  NULL,
+                outcome     VARCHAR(32)  NOT NULL,
+                occurred_at DATETIME(6)  NOT NULL
+            )
+            """;
+
+    // history of one user, and range scans / purges by date
+    private static final List<String> CREATE_INDEXES = List.of(
+            "CREATE INDEX idx_login_audit_user ON login_audit (user_id, occurred_at)",
+            "CREATE INDEX idx_login_audit_occurred_at ON login_audit (occurred_at)");
+
+    private static final String INSERT_PREFIX = "INSERT INTO login_audit (user_id, email, ip, outcome, occurred_at) VALUES ";
+    private static final String INSERT_ROW = "(?, ?, ?, ?, ?)";
+    private static final int ROWS_PER_INSERT = 500;
+
+    private static final String UPDATE_LAST_LOGIN =
+            "UPDATE users SET last_login_at = ? WHERE id = ? AND (last_login_at IS NULL OR last_login_at < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean initializeSchema;
+    private final String fullInsert = insertSql(ROWS_PER_INSERT);
+
+    /**
+     * @param entityManagerFactory not used, only declared so that Hibernate's schema
+     *                             (ddl-auto) exists before afterSingletonsInstantiated runs
+     */
+    public JdbcLoginAuditStore(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               EntityManagerFactory entityManagerFactory,
+                               @Value("${audit.login.jdbc.initialize-schema:true}") boolean initializeSchema) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.initializeSchema = initializeSchema;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!initializeSchema) {
+            return;
+        }
+        // probes instead of IF NOT EXISTS: MySQL has no CREATE INDEX IF NOT EXISTS
+        if (!exists("SELECT 1 FROM login_audit WHERE 1 = 0")) {
+            jdbcTemplate.execute(CREATE_TABLE);
+            CREATE_INDEXES.forEach(jdbcTemplate::execute);
+            log.info("Created table login_audit");
+        }
+        if (!exists("SELECT last_login_at FROM users WHERE 1 = 0")) {
+            jdbcTemplate.execute("ALTER TABLE users ADD COLUMN last_login_at DATETIME(6) NULL");
+            log.info("Added column users.last_login_at");
+        }
+    }
+
+    private boolean exists(String probe) {
+        try {
+            jdbcTemplate.queryForList(probe);
+            return true;
+        } catch (BadSqlGrammarException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void write(List<LoginAuditEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        // latest successful attempt per user
+        Map<Long, Long> lastLogins = new HashMap<>();
+        for (LoginAuditEvent event : events) {
+            if (event.userId() != null) {
+                lastLogins.merge(event.userId(), event.occurredAt(), Math::max);
+            }
+        }
+        List<Object[]> updates = new ArrayList<>(lastLogins.size());
+        lastLogins.forEach((userId, at) -> {
+            Timestamp timestamp = new Timestamp(at);
+            updates.add(new Object[]{timestamp, userId, timestamp});
+        });
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int from = 0; from < events.size(); from += ROWS_PER_INSERT) {
+                List<LoginAuditEvent> rows = events.subList(from, Math.min(from + ROWS_PER_INSERT, events.size()));
+                jdbcTemplate.update(rows.size() == ROWS_PER_INSERT ? fullInsert : insertSql(rows.size()), values(rows));
+            }
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN, updates);
+            }
+        });
+    }
+
+    private static String insertSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * (INSERT_ROW.length() + 2))
+                .append(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(INSERT_ROW);
+        }
+        return sql.toString();
+    }
+
+    private static Object[] values(List<LoginAuditEvent> rows) {
+        Object[] values = new Object[rows.size() * 5];
+        int i = 0;
+        for (LoginAuditEvent event : rows) {
+            values[i++] = event.userId();
+            values[i++] = event.email();
+            values[i++] = event.ip();
+            values[i++] = event.outcome();
+            values[i++] = new Timestamp(event.occurredAt());
+        }
+        return values;
+    }
+}
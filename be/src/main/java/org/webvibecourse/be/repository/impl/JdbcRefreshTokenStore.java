@@ -0,0 +1,126 @@
+package org.webvibecourse.be.repository.impl;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.webvibecourse.be.repository.RefreshTokenStore;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * =====================================================================================
+ * JdbcRefreshTokenStore
+ * -------------------------
+ * {@link RefreshTokenStore} backed by the application datasource (table refresh_tokens),
+ * enabled with jwt.refresh-store=jdbc. State survives restarts and is shared by every
+ * instance behind the load balancer.
+ * <p>
+ * One-time use is enforced by a conditional UPDATE (used = FALSE → TRUE): when two
+ * requests race on the same token only one of them gets an update count of 1.
+ * =====================================================================================
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jwt.refresh-store", havingValue = "jdbc")
+public class JdbcRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String CREATE_TABLE = """
+            CREATE TABLE IF NOT EXISTS refresh_tokens (
+                token_hash VARCHAR(64) NOT NULL PRIMARY KEY,
+                family_id  VARCHAR(36) NOT NULL,
+                user_id    BIGINT      NOT NULL,
+                expires_at BIGINT      NOT NULL,
+                used       BOOLEAN     NOT NULL DEFAULT FALSE,
+                revoked    BOOLEAN     NOT NULL DEFAULT FALSE,
+                INDEX idx_refresh_tokens_family (family_id),
+                INDEX idx_refresh_tokens_expires (expires_at)
+            )
+            """;
+
+    private static final RowMapper<StoredRow> ROW_MAPPER = (rs, i) -> new StoredRow(
+            new RefreshToken(
+                    rs.getString("token_hash"),
+                    rs.getString("family_id"),
+                    rs.getLong("user_id"),
+                    rs.getLong("expires_at")),
+            rs.getBoolean("used"),
+            rs.getBoolean("revoked"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${jwt.refresh-store.jdbc.initialize-schema:true}")
+    private boolean initializeSchema;
+
+    @PostConstruct
+    void initSchema() {
+        if (initializeSchema) {
+            jdbcTemplate.execute(CREATE_TABLE);
+        }
+    }
+
+    @Override
+    public void save(RefreshToken token) {
+        jdbcTemplate.update(
+                "INSERT INTO refresh_tokens (token_hash, family_id, user_id, expires_at) VALUES (?, ?, ?, ?)",
+                token.tokenHash(), token.familyId(), token.userId(), token.expiresAt());
+    }
+
+    @Override
+    public Consumption consume(String tokenHash, long nowMillis) {
+        List<StoredRow> rows = jdbcTemplate.query(
+                "SELECT token_hash, family_id, user_id, expires_at, used, revoked FROM refresh_tokens WHERE token_hash = ?",
+                ROW_MAPPER, tokenHash);
+        if (rows.isEmpty() || rows.get(0).token().expiresAt() <= nowMillis) {
+            return Consumption.unknown();
+        }
+        StoredRow row = rows.get(0);
+        if (row.revoked()) {
+            return new Consumption(Status.REVOKED, row.token());
+        }
+        if (row.used()) {
+            return new Consumption(Status.REUSED, row.token());
+        }
+        int updated = jdbcTemplate.update(
+                "UPDATE refresh_tokens SET used = TRUE WHERE token_hash = ? AND used = FALSE AND revoked = FALSE",
+                tokenHash);
+        // Lost the race against a concurrent consume of the same token → treat as replay
+        return new Consumption(updated == 1 ? Status.CONSUMED : Status.REUSED, row.token());
+    }
+
+    @Override
+    public Optional<RefreshToken> find(String tokenHash) {
+        return jdbcTemplate.query(
+                        "SELECT token_hash, family_id, user_id, expires_at, used, revoked FROM refresh_tokens WHERE token_hash = ?",
+                        ROW_MAPPER, tokenHash)
+                .stream()
+                .findFirst()
+                .map(StoredRow::token);
+    }
+
+    @Override
+    public void revokeFamily(String familyId) {
+        jdbcTemplate.update("UPDATE refresh_tokens SET revoked = TRUE WHERE family_id = ?", familyId);
+    }
+
+    @Override
+    public int purgeExpired(long nowMillis) {
+        return jdbcTemplate.update("DELETE FROM refresh_tokens WHERE expires_at <= ?", nowMillis);
+    }
+
+    /**
+     * TTL eviction of expired tokens.
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh-store.purge-interval:60000}")
+    void purge() {
+        purgeExpired(System.currentTimeMillis());
+    }
+
+    private record StoredRow(RefreshToken token, boolean used, boolean revoked) {
+    }
+}
@@ -0,0 +1,152 @@
+package org.webvibecourse.be.repository.impl;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.webvibecourse.be.repository.SigningKeyStore;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * =====================================================================================
+ * JdbcSigningKeyStore
+ * -------------------------
+ * {@link SigningKeyStore} backed by the application datasource (table jwt_signing_keys),
+ * enabled with jwt.keys.store=jdbc. Keys survive restarts and every instance signs and
+ * verifies with the same ring.
+ * <p>
+ * ✔ activates_at is UNIQUE: concurrent rotations by several instances produce one key
+ * ✔ private keys are stored AES-256-GCM encrypted, with a key derived from jwt.secret
+ * (a database dump alone does not allow minting tokens)
+ * <p>
+ * Keys are read once per rotation check (jwt.keys.check-interval), never per request.
+ * =====================================================================================
+ */
+@Repository
+@ConditionalOnProperty(name = "jwt.keys.store", havingValue = "jdbc")
+public class JdbcSigningKeyStore implements SigningKeyStore {
+
+    private static final String CREATE_TABLE = """
+            CREATE TABLE IF NOT EXISTS jwt_signing_keys (
+                kid          VARCHAR(64)   NOT NULL PRIMARY KEY,
+                algorithm    VARCHAR(16)   NOT NULL,
+                public_key   VARCHAR(1024) NOT NULL,
+                private_key  VARCHAR(1024) NOT NULL,
+                activates_at BIGINT        NOT NULL UNIQUE
+            )
+            """;
+
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final SecretKeySpec wrappingKey;
+    private final SecureRandom random = new SecureRandom();
+    private final boolean initializeSchema;
+    private volatile boolean schemaReady;
+
+    public JdbcSigningKeyStore(JdbcTemplate jdbcTemplate,
+                               @Value("${jwt.secret}") String secret,
+                               @Value("${jwt.keys.jdbc.initialize-schema:true}") boolean initializeSchema) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.wrappingKey = new SecretKeySpec(sha256("jwt-signing-keys:" + secret), "AES");
+        this.initializeSchema = initializeSchema;
+    }
+
+    @Override
+    public List<StoredKey> findAll() {
+        ensureSchema();
+        return jdbcTemplate.query(
+                "SELECT kid, algorithm, public_key, private_key, activates_at FROM jwt_signing_keys",
+                (rs, i) -> new StoredKey(
+                        rs.getString("kid"),
+                        rs.getString("algorithm"),
+                        Base64.getDecoder().decode(rs.getString("public_key")),
+                        unwrap(Base64.getDecoder().decode(rs.getString("private_key"))),
+                        rs.getLong("activates_at")));
+    }
+
+    @Override
+    public boolean save(StoredKey key) {
+        ensureSchema();
+        try {
+            jdbcTemplate.update(
+                    "INSERT INTO jwt_signing_keys (kid, algorithm, public_key, private_key, activates_at) VALUES (?, ?, ?, ?, ?)",
+                    key.kid(), key.algorithm(),
+                    Base64.getEncoder().encodeToString(key.publicKey()),
+                    Base64.getEncoder().encodeToString(wrap(key.privateKey())),
+                    key.activatesAt());
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false; // another instance rotated first
+        }
+    }
+
+    @Override
+    public void delete(Collection<String> kids) {
+        if (kids.isEmpty()) {
+            return;
+        }
+        ensureSchema();
+        namedJdbcTemplate.update("DELETE FROM jwt_signing_keys WHERE kid IN (:kids)",
+                new MapSqlParameterSource("kids", kids));
+    }
+
+    /**
+     * Created on first use rather than at startup: building the context needs no database.
+     */
+    private void ensureSchema() {
+        if (initializeSchema && !schemaReady) {
+            jdbcTemplate.execute(CREATE_TABLE);
+            schemaReady = true;
+        }
+    }
+
+    private byte[] wrap(byte[] plain) {
+        try {
+            byte[] iv = new byte[IV_LENGTH];
+            random.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, wrappingKey, new GCMParameterSpec(TAG_BITS, iv));
+            byte[] encrypted = cipher.doFinal(plain);
+            return ByteBuffer.allocate(IV_LENGTH + encrypted.length).put(iv).put(encrypted).array();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot encrypt signing key", e);
+        }
+    }
+
+    private byte[] unwrap(byte[] wrapped) {
+        try {
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.DECRYPT_MODE, wrappingKey, new GCMParameterSpec(TAG_BITS, wrapped, 0, IV_LENGTH));
+            return cipher.doFinal(wrapped, IV_LENGTH, wrapped.length - IV_LENGTH);
+        } catch (GeneralSecurityException e) {
+            // jwt.secret changed since the key was stored
+            throw new IllegalStateException("Cannot decrypt signing key (was jwt.secret changed?)", e);
+        }
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
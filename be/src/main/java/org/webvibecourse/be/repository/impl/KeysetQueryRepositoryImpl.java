@@ -0,0 +1,82 @@
+package org.webvibecourse.be.repository.impl;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+import org.webvibecourse.be.repository.KeysetQueryRepository;
+import org.webvibecourse.be.util.KeysetCursor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * =====================================================================================
+ * KeysetQueryRepositoryImpl
+ * -------------------------
+ * Criteria-API version of the keyset queries of SubjectRepository / CategoryRepository:
+ * SELECT <columns> WHERE <filter> AND (sort, id) > (cursor) ORDER BY sort, id LIMIT n
+ * =====================================================================================
+ */
+@Repository
+public class KeysetQueryRepositoryImpl implements KeysetQueryRepository {
+
+    private static final String ID = "id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public <T, R> List<R> findPage(Class<T> entityType, Class<R> projection, List<String> columns,
+                                   Specification<T> filter, KeysetCursor after, String sortAttribute, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<R> query = cb.createQuery(projection);
+        Root<T> root = query.from(entityType);
+
+        Selection<?>[] selection = new Selection<?>[columns.size()];
+        for (int i = 0; i < selection.length; i++) {
+            selection[i] = root.get(columns.get(i));
+        }
+        query.select(cb.construct(projection, selection));
+
+        List<Predicate> where = new ArrayList<>(2);
+        if (filter != null) {
+            Predicate predicate = filter.toPredicate(root, query, cb);
+            if (predicate != null) {
+                where.add(predicate);
+            }
+        }
+
+        Path<Long> id = root.get(ID);
+        if (sortAttribute == null) {
+            if (after != null) {
+                where.add(cb.greaterThan(id, after.id()));
+            }
+            query.orderBy(cb.asc(id));
+        } else {
+            Path<String> sort = root.get(sortAttribute);
+            if (after != null) {
+                // (sort, id) > (cursor), written so the index range starts at the cursor
+                where.add(cb.and(
+                        cb.greaterThanOrEqualTo(sort, after.name()),
+                        cb.or(cb.greaterThan(sort, after.name()), cb.greaterThan(id, after.id()))));
+            }
+            query.orderBy(cb.asc(sort), cb.asc(id));
+        }
+        query.where(where.toArray(Predicate[]::new));
+
+        // Query cache only for second-level-cached (read-mostly) entities
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .setHint(HibernateHints.HINT_CACHEABLE, entityType.isAnnotationPresent(Cacheable.class))
+                .getResultList();
+    }
+}
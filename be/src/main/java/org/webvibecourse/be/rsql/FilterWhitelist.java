@@ -0,0 +1,77 @@
+package org.webvibecourse.be.rsql;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * =====================================================================================
+ * FilterWhitelist
+ * -------------------------
+ * Fields of one entity that may appear in an RSQL filter.
+ * <p>
+ * Only columns backed by an index (as leading column) are listed. Together with the
+ * operators RsqlFilterCompiler accepts (no negations, prefix-only patterns), every
+ * accepted comparison can be answered with an index lookup / range scan instead of a
+ * full table scan.
+ * Each field converts the textual RSQL argument to the attribute type once, at compile
+ * time.
+ * =====================================================================================
+ */
+public final class FilterWhitelist<T> {
+
+    private final Class<T> entityType;
+    private final Map<String, Field> fields;
+
+    private FilterWhitelist(Class<T> entityType, Map<String, Field> fields) {
+        this.entityType = entityType;
+        this.fields = Map.copyOf(fields);
+    }
+
+    public static <T> Builder<T> forEntity(Class<T> entityType) {
+        return new Builder<>(entityType);
+    }
+
+    public Class<T> getEntityType() {
+        return entityType;
+    }
+
+    /**
+     * @return the field, or null if the selector is not filterable
+     */
+    public Field field(String selector) {
+        return fields.get(selector);
+    }
+
+    /**
+     * @param selector  name used in the filter (e.g. "createdAt")
+     * @param attribute JPA attribute name
+     * @param converter RSQL argument → attribute value (throws on a bad value)
+     * @param text      string column: =like= allowed (prefix patterns only)
+     */
+    public record Field(String selector, String attribute, Function<String, ?> converter, boolean text) {
+    }
+
+    public static final class Builder<T> {
+        private final Class<T> entityType;
+        private final Map<String, Field> fields = new LinkedHashMap<>();
+
+        private Builder(Class<T> entityType) {
+            this.entityType = entityType;
+        }
+
+        public Builder<T> text(String selector) {
+            fields.put(selector, new Field(selector, selector, Function.identity(), true));
+            return this;
+        }
+
+        public Builder<T> value(String selector, Function<String, ?> converter) {
+            fields.put(selector, new Field(selector, selector, converter, false));
+            return this;
+        }
+
+        public FilterWhitelist<T> build() {
+            return new FilterWhitelist<>(entityType, fields);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.webvibecourse.be.rsql;
+
+import org.webvibecourse.be.Enum.Role;
+import org.webvibecourse.be.entity.Category;
+import org.webvibecourse.be.entity.Subject;
+import org.webvibecourse.be.entity.User;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Filterable fields per entity — keep in sync with the @Table indexes of each entity.
+ */
+public final class FilterWhitelists {
+
+    // categories: PK, idx_categories_name_id
+    public static final FilterWhitelist<Category> CATEGORY = FilterWhitelist.forEntity(Category.class)
+            .value("id", Long::valueOf)
+            .text("name")
+            .build();
+
+    // subjects: PK, idx_subjects_name_id
+    public static final FilterWhitelist<Subject> SUBJECT = FilterWhitelist.forEntity(Subject.class)
+            .value("id", Long::valueOf)
+            .text("name")
+            .build();
+
+    // users: PK, unique email, idx_users_role_id, idx_users_status_id, idx_users_created_at
+    public static final FilterWhitelist<User> USER = FilterWhitelist.forEntity(User.class)
+            .value("id", Long::valueOf)
+            .text("email")
+            .value("role", FilterWhitelists::roleCode)
+            .value("status", Integer::valueOf)
+            .value("createdAt", OffsetDateTime::parse)
+            .build();
+
+    private FilterWhitelists() {
+    }
+
+    /**
+     * role==ADMIN or role==2
+     */
+    private static Integer roleCode(String value) {
+        Role role = Role.fromName(value);
+        return role != null ? role.getCode() : Role.fromCode(Integer.parseInt(value)).getCode();
+    }
+}
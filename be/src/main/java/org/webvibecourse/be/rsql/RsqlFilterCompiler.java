@@ -0,0 +1,220 @@
+package org.webvibecourse.be.rsql;
+
+import cz.jirutka.rsql.parser.RSQLParser;
+import cz.jirutka.rsql.parser.RSQLParserException;
+import cz.jirutka.rsql.parser.ast.AndNode;
+import cz.jirutka.rsql.parser.ast.ComparisonNode;
+import cz.jirutka.rsql.parser.ast.ComparisonOperator;
+import cz.jirutka.rsql.parser.ast.Node;
+import cz.jirutka.rsql.parser.ast.OrNode;
+import cz.jirutka.rsql.parser.ast.RSQLOperators;
+import cz.jirutka.rsql.parser.ast.RSQLVisitor;
+import org.springframework.data.jpa.domain.Specification;
+import org.webvibecourse.be.exception.InvalidFilterException;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * =====================================================================================
+ * RsqlFilterCompiler
+ * -------------------------
+ * Parses an RSQL filter once and compiles it into an immutable JPA Specification:
+ * arguments are converted to attribute values at compile time, so executing the
+ * Specification only builds Criteria predicates (no parsing, no conversion).
+ * <p>
+ * Validation (InvalidFilterException, reason in brackets):
+ * ✔ [syntax]     : not valid RSQL, longer than MAX_LENGTH
+ * ✔ [field]      : selector not in the entity whitelist (not indexed)
+ * ✔ [operator]   : =like= on a non-text field, negations (!=, =out=: no index range)
+ * ✔ [wildcard]   : pattern starting with a wildcard (=like=*x, ==*x) → full scan
+ * ✔ [value]      : argument not convertible to the field type
+ * ✔ [complexity] : more than MAX_COMPARISONS comparisons / MAX_ARGUMENTS in =in=
+ * <p>
+ * Operators: == =gt= =ge= =lt= =le= =in= =like=
+ * != and =out= are parsed (for a precise error) but rejected.
+ * "*" is the wildcard (==Java* ≡ =like=Java*); =like= without "*" is a prefix match.
+ * =====================================================================================
+ */
+final class RsqlFilterCompiler {
+
+    static final ComparisonOperator LIKE = new ComparisonOperator("=like=");
+
+    static final int MAX_LENGTH = 1_000;
+    static final int MAX_COMPARISONS = 10;
+    static final int MAX_ARGUMENTS = 50;
+
+    private static final RSQLParser PARSER;
+
+    static {
+        Set<ComparisonOperator> operators = new HashSet<>(List.of(
+                RSQLOperators.EQUAL, RSQLOperators.NOT_EQUAL,
+                RSQLOperators.GREATER_THAN, RSQLOperators.GREATER_THAN_OR_EQUAL,
+                RSQLOperators.LESS_THAN, RSQLOperators.LESS_THAN_OR_EQUAL,
+                RSQLOperators.IN, RSQLOperators.NOT_IN, LIKE));
+        PARSER = new RSQLParser(operators);
+    }
+
+    private RsqlFilterCompiler() {
+    }
+
+    static Node parse(String filter) {
+        if (filter.length() > MAX_LENGTH) {
+            throw new InvalidFilterException("syntax", "Filter is too long (max " + MAX_LENGTH + " characters)");
+        }
+        try {
+            return PARSER.parse(filter);
+        } catch (RSQLParserException e) {
+            throw new InvalidFilterException("syntax", "Invalid filter syntax", e);
+        }
+    }
+
+    static <T> Specification<T> compile(Node ast, FilterWhitelist<T> whitelist) {
+        return ast.accept(new Compiler<>(whitelist), null);
+    }
+
+    /**
+     * RSQL pattern → SQL LIKE pattern (backslash as escape character): "*" becomes "%",
+     * literal %, _ and backslash are escaped, and a trailing "%" is added (prefix match).
+     */
+    static String likePattern(String argument) {
+        StringBuilder pattern = new StringBuilder(argument.length() + 1);
+        for (int i = 0; i < argument.length(); i++) {
+            char c = argument.charAt(i);
+            if (c == '*') {
+                pattern.append('%');
+            } else {
+                if (c == '%' || c == '_' || c == '\\') {
+                    pattern.append('\\');
+                }
+                pattern.append(c);
+            }
+        }
+        // an escaped literal '%' at the end is not a wildcard
+        if (argument.charAt(argument.length() - 1) != '*') {
+            pattern.append('%');
+        }
+        return pattern.toString();
+    }
+
+    private static final class Compiler<T> implements RSQLVisitor<Specification<T>, Void> {
+
+        private final FilterWhitelist<T> whitelist;
+        private int comparisons;
+
+        Compiler(FilterWhitelist<T> whitelist) {
+            this.whitelist = whitelist;
+        }
+
+        @Override
+        public Specification<T> visit(AndNode node, Void param) {
+            List<Specification<T>> children = new ArrayList<>();
+            for (Node child : node) {
+                children.add(child.accept(this, param));
+            }
+            return Specification.allOf(children);
+        }
+
+        @Override
+        public Specification<T> visit(OrNode node, Void param) {
+            List<Specification<T>> children = new ArrayList<>();
+            for (Node child : node) {
+                children.add(child.accept(this, param));
+            }
+            return Specification.anyOf(children);
+        }
+
+        @Override
+        public Specification<T> visit(ComparisonNode node, Void param) {
+            if (++comparisons > MAX_COMPARISONS) {
+                throw new InvalidFilterException("complexity",
+                        "Filter has too many conditions (max " + MAX_COMPARISONS + ")");
+            }
+            if (node.getArguments().size() > MAX_ARGUMENTS) {
+                throw new InvalidFilterException("complexity",
+                        "Too many values for '" + node.getSelector() + "' (max " + MAX_ARGUMENTS + ")");
+            }
+
+            FilterWhitelist.Field field = whitelist.field(node.getSelector());
+            if (field == null) {
+                throw new InvalidFilterException("field", "Filtering on '" + node.getSelector() + "' is not allowed");
+            }
+
+            ComparisonOperator operator = node.getOperator();
+            if (operator.equals(RSQLOperators.NOT_EQUAL) || operator.equals(RSQLOperators.NOT_IN)) {
+                throw new InvalidFilterException("operator",
+                        "Negated conditions (!=, =out=) are not allowed on '" + field.selector() + "'");
+            }
+            String argument = node.getArguments().get(0);
+            if (operator.equals(LIKE) || (operator.equals(RSQLOperators.EQUAL) && argument.indexOf('*') >= 0)) {
+                return like(field, argument);
+            }
+
+            String attribute = field.attribute();
+            if (operator.equals(RSQLOperators.IN)) {
+                List<Object> values = new ArrayList<>(node.getArguments().size());
+                for (String value : node.getArguments()) {
+                    values.add(convert(field, value));
+                }
+                List<Object> frozen = List.copyOf(values);
+                return (root, query, cb) -> root.get(attribute).in(frozen);
+            }
+
+            Object value = convert(field, argument);
+            if (operator.equals(RSQLOperators.EQUAL)) {
+                return (root, query, cb) -> cb.equal(root.get(attribute), value);
+            }
+            return range(attribute, operator, asComparable(field, value));
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Specification<T> range(String attribute, ComparisonOperator operator, Comparable value) {
+            if (operator.equals(RSQLOperators.GREATER_THAN)) {
+                return (root, query, cb) -> cb.greaterThan(root.<Comparable>get(attribute), value);
+            }
+            if (operator.equals(RSQLOperators.GREATER_THAN_OR_EQUAL)) {
+                return (root, query, cb) -> cb.greaterThanOrEqualTo(root.<Comparable>get(attribute), value);
+            }
+            if (operator.equals(RSQLOperators.LESS_THAN)) {
+                return (root, query, cb) -> cb.lessThan(root.<Comparable>get(attribute), value);
+            }
+            return (root, query, cb) -> cb.lessThanOrEqualTo(root.<Comparable>get(attribute), value);
+        }
+
+        /**
+         * Prefix-only LIKE: an index range scan on the column, never a full scan.
+         */
+        private Specification<T> like(FilterWhitelist.Field field, String argument) {
+            if (!field.text()) {
+                throw new InvalidFilterException("operator",
+                        "=like= is only supported on text fields, not on '" + field.selector() + "'");
+            }
+            if (argument.isEmpty() || argument.charAt(0) == '*' || argument.charAt(0) == '%') {
+                throw new InvalidFilterException("wildcard",
+                        "Patterns starting with a wildcard are not allowed on '" + field.selector() + "'");
+            }
+            String like = likePattern(argument);
+            String attribute = field.attribute();
+            return (root, query, cb) -> cb.like(root.<String>get(attribute), like, '\\');
+        }
+
+        private static Object convert(FilterWhitelist.Field field, String value) {
+            try {
+                return field.converter().apply(value);
+            } catch (RuntimeException e) {
+                throw new InvalidFilterException("value",
+                        "Invalid value '" + value + "' for '" + field.selector() + "'", e);
+            }
+        }
+
+        @SuppressWarnings("rawtypes")
+        private static Comparable asComparable(FilterWhitelist.Field field, Object value) {
+            if (value instanceof Comparable comparable) {
+                return comparable;
+            }
+            throw new InvalidFilterException("operator", "Field '" + field.selector() + "' is not comparable");
+        }
+    }
+}
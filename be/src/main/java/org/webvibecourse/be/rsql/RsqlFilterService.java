@@ -0,0 +1,78 @@
+package org.webvibecourse.be.rsql;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.webvibecourse.be.exception.InvalidFilterException;
+
+/**
+ * =====================================================================================
+ * RsqlFilterService
+ * -------------------------
+ * Turns a filter= query parameter into a JPA Specification, with a bounded cache of
+ * compiled filters per (entity, filter string): dashboards repeat the same handful of
+ * filters, so parsing, validation and value conversion run once per distinct filter.
+ * <p>
+ * Rejected filters are cached too (a repeated bad filter costs one lookup), and are
+ * re-thrown as InvalidFilterException on every use.
+ * <p>
+ * Metrics
+ * ✔ rsql.filters             : cache gets (hit / miss), size, evictions
+ * ✔ rsql.filter.rejected     : rejected filters, tagged entity + reason
+ * =====================================================================================
+ */
+@Component
+public class RsqlFilterService {
+
+    private final Cache<Key, Compiled> cache;
+    private final MeterRegistry meterRegistry;
+
+    public RsqlFilterService(@Value("${rsql.cache.max-size:1000}") long maxSize, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        this.meterRegistry = meterRegistry;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "rsql.filters");
+    }
+
+    /**
+     * @param whitelist filterable fields of the entity
+     * @param filter    RSQL filter, e.g. name=like=Java*;id=gt=100
+     * @return compiled Specification (cached)
+     * @throws InvalidFilterException if the filter is rejected
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Specification<T> toSpecification(FilterWhitelist<T> whitelist, String filter) {
+        Compiled compiled = cache.get(new Key(whitelist.getEntityType(), filter), key -> compile(whitelist, filter));
+        if (compiled.rejection() != null) {
+            InvalidFilterException rejection = compiled.rejection();
+            Counter.builder("rsql.filter.rejected")
+                    .tag("entity", whitelist.getEntityType().getSimpleName())
+                    .tag("reason", rejection.getReason())
+                    .register(meterRegistry)
+                    .increment();
+            throw new InvalidFilterException(rejection.getReason(), rejection.getMessage());
+        }
+        return (Specification<T>) compiled.specification();
+    }
+
+    private static <T> Compiled compile(FilterWhitelist<T> whitelist, String filter) {
+        try {
+            return new Compiled(RsqlFilterCompiler.compile(RsqlFilterCompiler.parse(filter), whitelist), null);
+        } catch (InvalidFilterException e) {
+            return new Compiled(null, e);
+        }
+    }
+
+    private record Key(Class<?> entityType, String filter) {
+    }
+
+    private record Compiled(Specification<?> specification, InvalidFilterException rejection) {
+    }
+}
@@ -0,0 +1,651 @@
+package org.webvibecourse.be.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * =====================================================================================
+ * InvertedIndex
+ * -------------------------
+ * In-memory full-text index of (id, name, description) documents.
+ * <p>
+ * Two dictionaries, term → postings:
+ * ✔ words    : every name / description token (exact match)
+ * ✔ prefixes : edge n-grams of the name tokens, minGram..maxGram chars ("jav" → java)
+ * <p>
+ * Postings are plain int[] sorted by document ordinal, one int per document:
+ * ordinal << 3 | weight bits (NAME_WORD, DESCRIPTION_WORD, NAME_PREFIX). No boxed
+ * collections, so 100k subjects take a few MB and a query is a merge of sorted int arrays.
+ * <p>
+ * Incremental updates:
+ * - a new / updated document gets the next ordinal, so postings are only ever appended
+ * - the previous ordinal is tombstoned (BitSet) and skipped at query time
+ * - once tombstones reach a quarter of the ordinals everything is compacted in place
+ * <p>
+ * Readers share a read lock; writers (entity events, startup build) take the write lock.
+ * =====================================================================================
+ */
+public class InvertedIndex {
+
+    // Weight bits, OR-ed per document and term; summed per query token when ranking:
+    // name word (4) + its own prefix (1) > description word (2) > name prefix (1)
+    static final int NAME_PREFIX = 1;
+    static final int DESCRIPTION_WORD = 2;
+    static final int NAME_WORD = 4;
+
+    private static final int WEIGHT_BITS = 3;
+    private static final int WEIGHT_MASK = (1 << WEIGHT_BITS) - 1;
+    private static final int MAX_ORDINAL = (1 << (31 - WEIGHT_BITS)) - 1;
+    private static final int MAX_QUERY_TOKENS = 8;
+    private static final int COMPACT_MIN_DELETED = 1024;
+
+    private final int minGram;
+    private final int maxGram;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Postings> words = new HashMap<>();
+    private final Map<String, Postings> prefixes = new HashMap<>();
+    private final LongIntMap ordinals = new LongIntMap();   // id → live ordinal
+    private final BitSet deleted = new BitSet();            // tombstoned ordinals
+    private long[] ids = new long[1024];                     // ordinal → id
+    private String[] names = new String[1024];               // ordinal → name (autocomplete)
+    private int nextOrdinal;
+    private int deletedCount;
+
+    /**
+     * @param minGram shortest indexed name prefix (shorter autocomplete input matches nothing)
+     * @param maxGram longest indexed name prefix (longer input must match a whole word)
+     */
+    public InvertedIndex(int minGram, int maxGram) {
+        if (minGram < 1 || maxGram < minGram) {
+            throw new IllegalArgumentException("Invalid n-gram range " + minGram + ".." + maxGram);
+        }
+        this.minGram = minGram;
+        this.maxGram = maxGram;
+    }
+
+    /**
+     * Ranked matches: ids of the best {@code limit} documents, total = all matching documents.
+     */
+    public record Hits(long[] ids, int total) {
+    }
+
+    public record Suggestion(long id, String name) {
+    }
+
+    /**
+     * Index a document unless its id is already present (startup scan: a concurrent entity
+     * event has already indexed a newer version).
+     */
+    public boolean addIfAbsent(long id, String name, String description) {
+        lock.writeLock().lock();
+        try {
+            if (ordinals.get(id) >= 0) {
+                return false;
+            }
+            add(id, name, description);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsert(long id, String name, String description) {
+        lock.writeLock().lock();
+        try {
+            delete(id);
+            add(id, name, description);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            delete(id);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Every query token must match a word of the name / description or (from minGram
+     * chars) the beginning of a name word. Ranked by summed weights, then index order.
+     */
+    public Hits search(String query, int limit) {
+        lock.readLock().lock();
+        try {
+            Matches matches = evaluate(query, false);
+            if (matches == null) {
+                return new Hits(new long[0], 0);
+            }
+            long[] keys = top(matches, limit, false);
+            long[] result = new long[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                result[i] = ids[ordinalOf(keys[i])];
+            }
+            return new Hits(result, matches.size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Name-only prefix matching for search-as-you-type. Whole-word matches rank first,
+     * then shorter names.
+     */
+    public List<Suggestion> autocomplete(String query, int limit) {
+        lock.readLock().lock();
+        try {
+            Matches matches = evaluate(query, true);
+            if (matches == null) {
+                return List.of();
+            }
+            long[] keys = top(matches, limit, true);
+            List<Suggestion> result = new ArrayList<>(keys.length);
+            for (long key : keys) {
+                int ordinal = ordinalOf(key);
+                result.add(new Suggestion(ids[ordinal], names[ordinal]));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Shrink every postings array to its size (call once after the bulk load).
+     */
+    public void trimToSize() {
+        lock.writeLock().lock();
+        try {
+            words.values().forEach(Postings::trim);
+            prefixes.values().forEach(Postings::trim);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nextOrdinal - deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int terms() {
+        lock.readLock().lock();
+        try {
+            return words.size() + prefixes.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Heap held by the postings arrays (capacity, not size).
+     */
+    public long postingsBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (Postings postings : words.values()) {
+                bytes += 4L * postings.data.length;
+            }
+            for (Postings postings : prefixes.values()) {
+                bytes += 4L * postings.data.length;
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ---------------------------------------------------------------- write side
+
+    private void add(long id, String name, String description) {
+        if (nextOrdinal > MAX_ORDINAL) {
+            throw new IllegalStateException("Search index is full");
+        }
+        int ordinal = nextOrdinal++;
+        if (ordinal == ids.length) {
+            ids = Arrays.copyOf(ids, ordinal * 2);
+            names = Arrays.copyOf(names, ordinal * 2);
+        }
+        ids[ordinal] = id;
+        names[ordinal] = name;
+        ordinals.put(id, ordinal);
+
+        Map<String, Integer> docWords = new HashMap<>();
+        Set<String> docPrefixes = new HashSet<>();
+        for (String token : SearchTokenizer.tokenize(name)) {
+            docWords.merge(token, NAME_WORD, (a, b) -> a | b);
+            for (int length = minGram; length <= Math.min(maxGram, token.length()); length++) {
+                docPrefixes.add(token.substring(0, length));
+            }
+        }
+        for (String token : SearchTokenizer.tokenize(description)) {
+            docWords.merge(token, DESCRIPTION_WORD, (a, b) -> a | b);
+        }
+
+        int base = ordinal << WEIGHT_BITS;
+        docWords.forEach((word, weight) -> words.computeIfAbsent(word, k -> new Postings()).add(base | weight));
+        for (String prefix : docPrefixes) {
+            prefixes.computeIfAbsent(prefix, k -> new Postings()).add(base | NAME_PREFIX);
+        }
+    }
+
+    private void delete(long id) {
+        int ordinal = ordinals.remove(id);
+        if (ordinal >= 0) {
+            deleted.set(ordinal);
+            names[ordinal] = null;
+            deletedCount++;
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (deletedCount >= COMPACT_MIN_DELETED && deletedCount * 4 > nextOrdinal) {
+            compact();
+        }
+    }
+
+    /**
+     * Drop tombstoned ordinals and renumber the live ones. The renumbering keeps the
+     * order, so every postings array stays sorted and is filtered in place.
+     */
+    private void compact() {
+        int[] remap = new int[nextOrdinal];
+        int live = 0;
+        for (int ordinal = 0; ordinal < nextOrdinal; ordinal++) {
+            if (deleted.get(ordinal)) {
+                remap[ordinal] = -1;
+            } else {
+                remap[ordinal] = live;
+                ids[live] = ids[ordinal];
+                names[live] = names[ordinal];
+                live++;
+            }
+        }
+        Arrays.fill(names, live, nextOrdinal, null);
+
+        words.values().removeIf(postings -> postings.compact(remap));
+        prefixes.values().removeIf(postings -> postings.compact(remap));
+
+        ordinals.clear();
+        for (int ordinal = 0; ordinal < live; ordinal++) {
+            ordinals.put(ids[ordinal], ordinal);
+        }
+        deleted.clear();
+        deletedCount = 0;
+        nextOrdinal = live;
+    }
+
+    // ---------------------------------------------------------------- read side
+
+    /**
+     * @return documents matching every query token (null when none)
+     */
+    private Matches evaluate(String query, boolean nameOnly) {
+        List<String> tokens = new ArrayList<>(new LinkedHashSet<>(SearchTokenizer.tokenize(query)));
+        if (tokens.isEmpty()) {
+            return null;
+        }
+        if (tokens.size() > MAX_QUERY_TOKENS) {
+            tokens = tokens.subList(0, MAX_QUERY_TOKENS);
+        }
+        // Rarest token first: it alone is materialized, the others only filter it
+        tokens.sort(Comparator.comparingInt(this::estimate));
+        if (estimate(tokens.get(0)) == 0) {
+            return null;
+        }
+        Matches result = match(tokens.get(0), nameOnly);
+        for (int i = 1; i < tokens.size() && result.size > 0; i++) {
+            result = refine(result, tokens.get(i), nameOnly);
+        }
+        return result.size == 0 ? null : result;
+    }
+
+    /**
+     * Upper bound of the documents matching a token (postings sizes).
+     */
+    private int estimate(String token) {
+        Postings word = words.get(token);
+        Postings prefix = prefixPostings(token);
+        return (word == null ? 0 : word.size) + (prefix == null ? 0 : prefix.size);
+    }
+
+    private Postings prefixPostings(String token) {
+        return token.length() >= minGram && token.length() <= maxGram ? prefixes.get(token) : null;
+    }
+
+    /**
+     * Union of the word postings and the prefix postings of one token, weights summed.
+     */
+    private Matches match(String token, boolean nameOnly) {
+        Postings word = words.get(token);
+        Postings prefix = prefixPostings(token);
+        int wordSize = word == null ? 0 : word.size;
+        int prefixSize = prefix == null ? 0 : prefix.size;
+
+        Matches matches = new Matches(wordSize + prefixSize);
+        int i = 0;
+        int j = 0;
+        while (i < wordSize || j < prefixSize) {
+            int wordOrdinal = i < wordSize ? word.data[i] >>> WEIGHT_BITS : Integer.MAX_VALUE;
+            int prefixOrdinal = j < prefixSize ? prefix.data[j] >>> WEIGHT_BITS : Integer.MAX_VALUE;
+            int ordinal = Math.min(wordOrdinal, prefixOrdinal);
+            int score = 0;
+            if (wordOrdinal == ordinal) {
+                int weight = word.data[i++] & WEIGHT_MASK;
+                score += nameOnly ? weight & NAME_WORD : weight;
+            }
+            if (prefixOrdinal == ordinal) {
+                score += NAME_PREFIX;
+                j++;
+            }
+            if (score > 0 && !deleted.get(ordinal)) {
+                matches.add(ordinal, score);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Keep the candidates that also match the token, adding its weights. The postings
+     * are probed with galloping seeks, so a short candidate list skips most of them.
+     */
+    private Matches refine(Matches candidates, String token, boolean nameOnly) {
+        Postings word = words.get(token);
+        Postings prefix = prefixPostings(token);
+        Matches result = new Matches(candidates.size);
+        int i = 0;
+        int j = 0;
+        for (int k = 0; k < candidates.size; k++) {
+            int ordinal = candidates.ordinals[k];
+            int score = 0;
+            if (word != null) {
+                i = word.seek(i, ordinal);
+                if (i < word.size && word.data[i] >>> WEIGHT_BITS == ordinal) {
+                    int weight = word.data[i] & WEIGHT_MASK;
+                    score += nameOnly ? weight & NAME_WORD : weight;
+                }
+            }
+            if (prefix != null) {
+                j = prefix.seek(j, ordinal);
+                if (j < prefix.size && prefix.data[j] >>> WEIGHT_BITS == ordinal) {
+                    score += NAME_PREFIX;
+                }
+            }
+            if (score > 0) {
+                result.add(ordinal, candidates.scores[k] + score);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Top-k selection with a min-heap of packed sort keys (higher key = better):
+     * search       : score | index order
+     * autocomplete : score | shorter name | index order
+     *
+     * @return keys of the best documents, best first
+     */
+    private long[] top(Matches matches, int limit, boolean byNameLength) {
+        long[] heap = new long[Math.min(limit, matches.size)];
+        int count = 0;
+        for (int i = 0; i < matches.size; i++) {
+            int ordinal = matches.ordinals[i];
+            long key = MAX_ORDINAL - ordinal;
+            if (byNameLength) {
+                long shortness = 0xFFFF - Math.min(names[ordinal].length(), 0xFFFF);
+                key |= shortness << 28 | (long) matches.scores[i] << 44;
+            } else {
+                key |= (long) matches.scores[i] << 28;
+            }
+
+            if (count < heap.length) {
+                heap[count] = key;
+                siftUp(heap, count++);
+            } else if (key > heap[0]) {
+                heap[0] = key;
+                siftDown(heap, count);
+            }
+        }
+        Arrays.sort(heap, 0, count);
+        for (int i = 0, j = count - 1; i < j; i++, j--) {
+            long swap = heap[i];
+            heap[i] = heap[j];
+            heap[j] = swap;
+        }
+        return heap;
+    }
+
+    private static int ordinalOf(long key) {
+        return MAX_ORDINAL - (int) (key & MAX_ORDINAL);
+    }
+
+    private static void siftUp(long[] heap, int index) {
+        long key = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] <= key) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = key;
+    }
+
+    private static void siftDown(long[] heap, int size) {
+        long key = heap[0];
+        int index = 0;
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (key <= heap[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = key;
+    }
+
+    /**
+     * Growable sorted postings array.
+     */
+    private static final class Postings {
+        int[] data = new int[2];
+        int size;
+
+        void add(int posting) {
+            if (size == data.length) {
+                data = Arrays.copyOf(data, size + (size >> 1) + 1);
+            }
+            data[size++] = posting;
+        }
+
+        /**
+         * @return index of the first posting at or after {@code from} whose ordinal is
+         * >= the given one (size when none): exponential probe, then binary search
+         */
+        int seek(int from, int ordinal) {
+            int target = ordinal << WEIGHT_BITS;
+            if (from >= size || data[from] >= target) {
+                return from;
+            }
+            // data[low] < target throughout
+            int low = from;
+            int step = 1;
+            while (low + step < size && data[low + step] < target) {
+                low += step;
+                step <<= 1;
+            }
+            int high = Math.min(low + step, size); // data[high] >= target, or high == size
+            while (high - low > 1) {
+                int mid = (low + high) >>> 1;
+                if (data[mid] < target) {
+                    low = mid;
+                } else {
+                    high = mid;
+                }
+            }
+            return high;
+        }
+
+        /**
+         * @return true when no posting is left
+         */
+        boolean compact(int[] remap) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int ordinal = remap[data[i] >>> WEIGHT_BITS];
+                if (ordinal >= 0) {
+                    data[kept++] = ordinal << WEIGHT_BITS | data[i] & WEIGHT_MASK;
+                }
+            }
+            size = kept;
+            if (size < data.length >> 2) {
+                trim();
+            }
+            return size == 0;
+        }
+
+        void trim() {
+            if (data.length != size) {
+                data = Arrays.copyOf(data, size);
+            }
+        }
+    }
+
+    /**
+     * Candidate documents of a query: ordinals (ascending) with their accumulated score.
+     */
+    private static final class Matches {
+        final int[] ordinals;
+        final int[] scores;
+        int size;
+
+        Matches(int capacity) {
+            this.ordinals = new int[capacity];
+            this.scores = new int[capacity];
+        }
+
+        void add(int ordinal, int score) {
+            ordinals[size] = ordinal;
+            scores[size++] = score;
+        }
+    }
+
+    /**
+     * Open-addressing long → int map (linear probing, backward-shift deletion), -1 = absent.
+     */
+    static final class LongIntMap {
+        private long[] keys = new long[2048];
+        private int[] values = filled(2048);
+        private int size;
+
+        int get(long key) {
+            int mask = keys.length - 1;
+            for (int slot = slot(key, mask); ; slot = (slot + 1) & mask) {
+                if (values[slot] < 0) {
+                    return -1;
+                }
+                if (keys[slot] == key) {
+                    return values[slot];
+                }
+            }
+        }
+
+        void put(long key, int value) {
+            if ((size + 1) * 2 > keys.length) {
+                resize(keys.length * 2);
+            }
+            int mask = keys.length - 1;
+            int slot = slot(key, mask);
+            while (values[slot] >= 0) {
+                if (keys[slot] == key) {
+                    values[slot] = value;
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = value;
+            size++;
+        }
+
+        int remove(long key) {
+            int mask = keys.length - 1;
+            int slot = slot(key, mask);
+            while (values[slot] >= 0 && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            int removed = values[slot];
+            if (removed < 0) {
+                return -1;
+            }
+            // Shift back the following entries of the probe run that may move into the hole
+            int hole = slot;
+            for (int next = (hole + 1) & mask; values[next] >= 0; next = (next + 1) & mask) {
+                int home = slot(keys[next], mask);
+                if (((next - home) & mask) >= ((next - hole) & mask)) {
+                    keys[hole] = keys[next];
+                    values[hole] = values[next];
+                    hole = next;
+                }
+            }
+            values[hole] = -1;
+            size--;
+            return removed;
+        }
+
+        void clear() {
+            Arrays.fill(values, -1);
+            size = 0;
+        }
+
+        private void resize(int capacity) {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[capacity];
+            values = filled(capacity);
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] >= 0) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int slot(long key, int mask) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+
+        private static int[] filled(int capacity) {
+            int[] array = new int[capacity];
+            Arrays.fill(array, -1);
+            return array;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.webvibecourse.be.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * =====================================================================================
+ * SearchTokenizer
+ * -------------------------
+ * Text → index terms, used for both documents and queries (same rules on both sides).
+ * <p>
+ * ✔ split on anything that is not a letter or digit
+ * ✔ lower case, accents folded ("Lập trình" → "lap", "trinh"; "đ" → "d")
+ * ✔ tokens longer than MAX_TOKEN_LENGTH are dropped (ids, URLs, noise)
+ * =====================================================================================
+ */
+public final class SearchTokenizer {
+
+    static final int MAX_TOKEN_LENGTH = 40;
+
+    private SearchTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String folded = isAscii(text) ? text : Normalizer.normalize(text, Normalizer.Form.NFD);
+
+        StringBuilder token = new StringBuilder(16);
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue; // accent split off by NFD
+            }
+            if (Character.isLetterOrDigit(c)) {
+                token.append(c == 'đ' || c == 'Đ' ? 'd' : Character.toLowerCase(c));
+            } else {
+                flush(token, tokens);
+            }
+        }
+        flush(token, tokens);
+        return tokens;
+    }
+
+    private static void flush(StringBuilder token, List<String> tokens) {
+        if (!token.isEmpty() && token.length() <= MAX_TOKEN_LENGTH) {
+            tokens.add(token.toString());
+        }
+        token.setLength(0);
+    }
+
+    private static boolean isAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
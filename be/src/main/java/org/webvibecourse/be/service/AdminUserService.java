@@ -0,0 +1,17 @@
+package org.webvibecourse.be.service;
+
+import org.webvibecourse.be.dto.response.CursorPageResponse;
+import org.webvibecourse.be.dto.response.UserSummaryResponse;
+
+public interface AdminUserService {
+
+    /**
+     * Admin user listing, keyset-paginated by id.
+     *
+     * @param filter RSQL filter on id / email / role / status / createdAt, null for none
+     * @param cursor nextCursor of the previous page, null for the first page
+     * @param size   page size (clamped to 1..100)
+     * @throws IllegalArgumentException for a malformed cursor or a rejected filter
+     */
+    CursorPageResponse<UserSummaryResponse> listUsers(String filter, String cursor, int size);
+}
@@ -0,0 +1,29 @@
+package org.webvibecourse.be.service;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import org.webvibecourse.be.dto.response.TokenResponse;
+import org.webvibecourse.be.entity.User;
+
+public interface AuthService {
+
+    /**
+     * Issue a new access / refresh token pair for an authenticated user (new login).
+     */
+    TokenResponse issueTokens(User user);
+
+    /**
+     * Rotate a refresh token: consume it (one-time use) and issue the next pair.
+     */
+    TokenResponse refresh(String refreshToken);
+
+    /**
+     * Revoke the current access token and, if given, the refresh token family of the session.
+     */
+    void logout(Jwt accessToken, String refreshToken);
+
+    /**
+     * Revoke every access / refresh token issued to a user so far.
+     */
+    void revokeUser(Long userId);
+}
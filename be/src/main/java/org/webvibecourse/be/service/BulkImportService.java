@@ -0,0 +1,48 @@
+package org.webvibecourse.be.service;
+
+import org.webvibecourse.be.Enum.Role;
+import org.webvibecourse.be.dto.response.ImportReport;
+import org.webvibecourse.be.exception.ImportInProgressException;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface BulkImportService {
+
+    /**
+     * Input format of an import, from the request Content-Type.
+     */
+    enum Format {
+        CSV, JSON;
+
+        public static Format from(String contentType) {
+            if (contentType != null && contentType.toLowerCase().startsWith("text/csv")) {
+                return CSV;
+            }
+            if (contentType != null && contentType.toLowerCase().startsWith("application/json")) {
+                return JSON;
+            }
+            throw new IllegalArgumentException("Unsupported import format " + contentType
+                    + " (text/csv or application/json)");
+        }
+    }
+
+    /**
+     * Import users (see UserImportRow), read incrementally and committed per chunk:
+     * rows committed before a failure stay imported.
+     *
+     * @param importer role of the caller: only a SUPERADMIN may import staff roles, rows
+     *                 asking for one from an ADMIN are rejected
+     * @return counts and per-row errors (invalid rows are skipped, not fatal; input that
+     * becomes unreadable midway ends the import and is reported)
+     * @throws IllegalArgumentException   unreadable input before the first row (bad header,
+     *                                    not a JSON array, ...)
+     * @throws ImportInProgressException another import is running
+     */
+    ImportReport importUsers(InputStream input, Format format, Role importer) throws IOException;
+
+    /**
+     * Import subjects (see SubjectImportRow), same rules as importUsers.
+     */
+    ImportReport importSubjects(InputStream input, Format format) throws IOException;
+}
@@ -0,0 +1,37 @@
+package org.webvibecourse.be.service;
+
+import org.webvibecourse.be.dto.request.CategoryRequest;
+import org.webvibecourse.be.dto.request.SubjectRequest;
+import org.webvibecourse.be.dto.response.CategoryResponse;
+import org.webvibecourse.be.dto.response.SubjectResponse;
+
+import java.util.Optional;
+
+/**
+ * Write side of the catalog. Every change goes through JPA so the second-level cache,
+ * the query cache and the catalog ETags (CatalogVersion) are invalidated with it.
+ */
+public interface CatalogAdminService {
+
+    /**
+     * @throws IllegalArgumentException when the name is missing
+     */
+    CategoryResponse createCategory(CategoryRequest request);
+
+    /**
+     * @return empty when the category does not exist
+     * @throws IllegalArgumentException when the name is missing
+     */
+    Optional<CategoryResponse> updateCategory(Long id, CategoryRequest request);
+
+    /**
+     * @return false when the category does not exist
+     */
+    boolean deleteCategory(Long id);
+
+    SubjectResponse createSubject(SubjectRequest request);
+
+    Optional<SubjectResponse> updateSubject(Long id, SubjectRequest request);
+
+    boolean deleteSubject(Long id);
+}
@@ -0,0 +1,42 @@
+package org.webvibecourse.be.service;
+
+import org.webvibecourse.be.dto.response.CategoryResponse;
+import org.webvibecourse.be.dto.response.CursorPageResponse;
+import org.webvibecourse.be.dto.response.SubjectResponse;
+import org.webvibecourse.be.dto.response.SubjectSummaryResponse;
+
+import java.util.Optional;
+
+public interface CatalogService {
+
+    /**
+     * Sort of a catalog listing; both are keyset-paginated.
+     */
+    enum SortBy {
+        ID, NAME;
+
+        public static SortBy from(String value) {
+            return value != null && value.equalsIgnoreCase("name") ? NAME : ID;
+        }
+    }
+
+    /**
+     * @param filter RSQL filter (whitelisted, indexed fields only), null for none
+     * @param cursor nextCursor of the previous page, null for the first page
+     * @param size   page size (clamped to 1..100)
+     * @throws IllegalArgumentException for a malformed cursor or a rejected filter
+     */
+    CursorPageResponse<CategoryResponse> listCategories(String filter, String cursor, int size, SortBy sortBy);
+
+    Optional<CategoryResponse> getCategory(Long id);
+
+    /**
+     * @param filter RSQL filter (whitelisted, indexed fields only), null for none
+     * @param cursor nextCursor of the previous page, null for the first page
+     * @param size   page size (clamped to 1..100)
+     * @throws IllegalArgumentException for a malformed cursor or a rejected filter
+     */
+    CursorPageResponse<SubjectSummaryResponse> listSubjects(String filter, String cursor, int size, SortBy sortBy);
+
+    Optional<SubjectResponse> getSubject(Long id);
+}
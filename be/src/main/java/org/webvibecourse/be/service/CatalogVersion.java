@@ -0,0 +1,52 @@
+package org.webvibecourse.be.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * =====================================================================================
+ * CatalogVersion
+ * -------------------------
+ * Change counters of the catalog tables, used as ETags by the catalog endpoints.
+ * <p>
+ * ✔ Bumped by CatalogEntityListener on every insert / update / delete
+ * ✔ ETag = "<epoch>-<kind>-<version>": the random epoch changes on restart, so a client
+ * never gets a 304 for data it cached from a previous process
+ * <p>
+ * Single-node assumption: the counters are local to the instance, like the second-level
+ * cache the data is served from, so writes done by another instance or directly in MySQL
+ * are not seen. Behind a load balancer with several nodes every node has its own epoch,
+ * so a conditional GET only hits (304) on the node that issued the ETag; the epoch is
+ * deliberately not shared, since two nodes could then give the same ETag to different
+ * data. Multi-node deployments need a shared version (and cache) first.
+ * =====================================================================================
+ */
+@Component
+public class CatalogVersion {
+
+    public enum Kind {
+        CATEGORIES, SUBJECTS
+    }
+
+    private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() >>> 1, 36);
+    private final AtomicLong categories = new AtomicLong();
+    private final AtomicLong subjects = new AtomicLong();
+
+    public void bump(Kind kind) {
+        counter(kind).incrementAndGet();
+    }
+
+    /**
+     * @return strong ETag (quoted) for the current version of the table, only meaningful
+     * to this instance (see the single-node assumption above)
+     */
+    public String etag(Kind kind) {
+        return "\"" + epoch + "-" + kind.ordinal() + "-" + counter(kind).get() + "\"";
+    }
+
+    private AtomicLong counter(Kind kind) {
+        return kind == Kind.CATEGORIES ? categories : subjects;
+    }
+}
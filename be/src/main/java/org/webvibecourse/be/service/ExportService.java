@@ -0,0 +1,85 @@
+package org.webvibecourse.be.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+
+public interface ExportService {
+
+    /**
+     * Exportable tables.
+     */
+    enum Dataset {
+        USERS, SUBJECTS, CATEGORIES;
+
+        public static Dataset from(String value) {
+            for (Dataset dataset : values()) {
+                if (dataset.name().equalsIgnoreCase(value)) {
+                    return dataset;
+                }
+            }
+            throw new IllegalArgumentException("Unknown dataset " + value + " (users, subjects, categories)");
+        }
+    }
+
+    /**
+     * Output format: CSV with a header row, or NDJSON (one JSON object per line).
+     */
+    enum Format {
+        CSV("text/csv;charset=UTF-8", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format from(String value) {
+            if (value == null || value.isBlank()) {
+                return CSV;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown format " + value + " (csv, ndjson)");
+            }
+        }
+    }
+
+    /**
+     * Stream every row of the dataset (ordered by id) to the output, in constant memory.
+     * Holds one read-only transaction / connection for the whole export. Password hashes
+     * are never exported.
+     *
+     * @return number of rows written
+     */
+    long export(Dataset dataset, Format format, OutputStream output) throws IOException;
+
+    /**
+     * Reserve one of the export.max-concurrent export slots, before the response starts.
+     * The slot must be closed once the export has finished (or failed), including when the
+     * streaming body never runs.
+     *
+     * @throws org.webvibecourse.be.exception.ExportsBusyException every slot is taken
+     */
+    Slot acquireSlot();
+
+    /**
+     * A reserved export slot; closing it more than once releases it once.
+     */
+    interface Slot extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,18 @@
+package org.webvibecourse.be.service;
+
+import org.webvibecourse.be.config.LoginTrace;
+
+public interface LoginAuditService {
+
+    /**
+     * Queue one login attempt for the audit trail; never waits for the database.
+     * With audit.login.overflow=block a full buffer makes the caller wait up to
+     * audit.login.block-timeout-ms, otherwise the attempt is dropped (and counted).
+     *
+     * @param userId  authenticated user, null unless the login succeeded
+     * @param email   email sent by the client, may be null
+     * @param ip      client address
+     * @param outcome result of the attempt
+     */
+    void record(Long userId, String email, String ip, LoginTrace.Outcome outcome);
+}
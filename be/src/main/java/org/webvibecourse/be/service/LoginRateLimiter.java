@@ -0,0 +1,82 @@
+package org.webvibecourse.be.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.webvibecourse.be.util.RateLimiter;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * =====================================================================================
+ * LoginRateLimiter
+ * -------------------------
+ * Per-IP and per-email limits for the anonymous auth endpoints (login, register, refresh),
+ * checked by LoginRateLimitFilter before any DB lookup or BCrypt hash.
+ * <p>
+ * ✔ IP limit    : security.login-rate-limit.ip.*     (every anonymous auth POST)
+ * ✔ Email limit : security.login-rate-limit.email.*  (requests carrying an email)
+ * ✔ Idle keys are swept every security.login-rate-limit.sweep-interval ms
+ * <p>
+ * Metrics: auth.ratelimit.rejected{key=ip|email}, auth.ratelimit.keys{key=ip|email}
+ * =====================================================================================
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final RateLimiter byIp;
+    private final RateLimiter byEmail;
+    private final Counter rejectedByIp;
+    private final Counter rejectedByEmail;
+
+    public LoginRateLimiter(@Value("${security.login-rate-limit.ip.per-minute:60}") int ipPerMinute,
+                            @Value("${security.login-rate-limit.ip.burst:20}") int ipBurst,
+                            @Value("${security.login-rate-limit.email.per-minute:10}") int emailPerMinute,
+                            @Value("${security.login-rate-limit.email.burst:5}") int emailBurst,
+                            @Value("${security.login-rate-limit.max-keys:100000}") int maxKeys,
+                            MeterRegistry meterRegistry) {
+        this.byIp = new RateLimiter(ipPerMinute, 1, TimeUnit.MINUTES, ipBurst, maxKeys);
+        this.byEmail = new RateLimiter(emailPerMinute, 1, TimeUnit.MINUTES, emailBurst, maxKeys);
+        this.rejectedByIp = Counter.builder("auth.ratelimit.rejected").tag("key", "ip")
+                .description("Anonymous auth requests shed by the per-IP limit")
+                .register(meterRegistry);
+        this.rejectedByEmail = Counter.builder("auth.ratelimit.rejected").tag("key", "email")
+                .description("Anonymous auth requests shed by the per-email limit")
+                .register(meterRegistry);
+        Gauge.builder("auth.ratelimit.keys", byIp, RateLimiter::size).tag("key", "ip").register(meterRegistry);
+        Gauge.builder("auth.ratelimit.keys", byEmail, RateLimiter::size).tag("key", "email").register(meterRegistry);
+    }
+
+    /**
+     * @param clientIp remote address
+     * @param email    email from the request body, may be null
+     * @return 0 when allowed, otherwise nanos until the client may retry
+     */
+    public long tryAcquire(String clientIp, String email) {
+        long now = System.nanoTime();
+        long wait = byIp.tryAcquire(clientIp, now);
+        if (wait > 0) {
+            rejectedByIp.increment();
+            return wait;
+        }
+        if (email != null && !email.isBlank()) {
+            wait = byEmail.tryAcquire(email.trim().toLowerCase(Locale.ROOT), now);
+            if (wait > 0) {
+                rejectedByEmail.increment();
+                return wait;
+            }
+        }
+        return 0;
+    }
+
+    @Scheduled(fixedDelayString = "${security.login-rate-limit.sweep-interval:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        byIp.evictIdle(now);
+        byEmail.evictIdle(now);
+    }
+}
@@ -0,0 +1,180 @@
+package org.webvibecourse.be.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.webvibecourse.be.dto.response.SubjectResponse;
+import org.webvibecourse.be.dto.response.SubjectSearchResponse;
+import org.webvibecourse.be.dto.response.SubjectSummaryResponse;
+import org.webvibecourse.be.repository.SubjectRepository;
+import org.webvibecourse.be.search.InvertedIndex;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * =====================================================================================
+ * SubjectSearchIndex
+ * -------------------------
+ * Full-text search / autocomplete over Subject.name and Subject.description, served from
+ * an in-memory InvertedIndex instead of LIKE '%q%' scans of the subjects table.
+ * <p>
+ * ✔ Build       : after startup, on a background thread, by scanning subjects in id order
+ * (search.subjects.build-batch-size rows per query). A failed scan (database down, ...)
+ * resumes from the last indexed id after a backoff (1 s doubling up to 1 min), so search
+ * comes up once the database does instead of staying "warming up" until a restart
+ * ✔ Incremental : CatalogEntityListener calls upsert / remove after each commit
+ * ✔ Build race  : rows written during the scan are indexed by the entity event and the
+ * scan skips them (addIfAbsent); ids removed during the scan are never re-added
+ * ✔ Metrics     : search.subjects{type} timer, search.subjects.docs / terms / postings.bytes
+ * <p>
+ * Local to the instance, like the second-level cache: writes made by another instance
+ * are picked up at the next restart.
+ * =====================================================================================
+ */
+@Slf4j
+@Component
+public class SubjectSearchIndex {
+
+    public static final int MAX_LIMIT = 50;
+    private static final int MAX_QUERY_LENGTH = 200;
+    private static final long INITIAL_RETRY_DELAY_MS = 1_000;
+    private static final long MAX_RETRY_DELAY_MS = 60_000;
+
+    private final SubjectRepository subjectRepository;
+    private final InvertedIndex index;
+    private final int buildBatchSize;
+
+    private final Set<Long> removedDuringBuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean ready;
+
+    private final Timer searchTimer;
+    private final Timer autocompleteTimer;
+
+    public SubjectSearchIndex(SubjectRepository subjectRepository,
+                              @Value("${search.subjects.min-gram:1}") int minGram,
+                              @Value("${search.subjects.max-gram:12}") int maxGram,
+                              @Value("${search.subjects.build-batch-size:5000}") int buildBatchSize,
+                              MeterRegistry meterRegistry) {
+        this.subjectRepository = subjectRepository;
+        this.index = new InvertedIndex(minGram, maxGram);
+        this.buildBatchSize = buildBatchSize;
+
+        this.searchTimer = Timer.builder("search.subjects").tag("type", "search").register(meterRegistry);
+        this.autocompleteTimer = Timer.builder("search.subjects").tag("type", "autocomplete").register(meterRegistry);
+        Gauge.builder("search.subjects.docs", index, InvertedIndex::size).register(meterRegistry);
+        Gauge.builder("search.subjects.terms", index, InvertedIndex::terms).register(meterRegistry);
+        Gauge.builder("search.subjects.postings.bytes", index, InvertedIndex::postingsBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startBuild() {
+        Thread.ofVirtual().name("subject-search-index").start(this::build);
+    }
+
+    /**
+     * @param query free text, every word must match (the last one may be a prefix)
+     * @throws IllegalArgumentException for an empty or too long query
+     * @throws IllegalStateException    while the index is being built
+     */
+    public SubjectSearchResponse search(String query, int limit) {
+        checkQuery(query);
+        long start = System.nanoTime();
+        InvertedIndex.Hits hits = index.search(query, clamp(limit));
+        searchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return new SubjectSearchResponse(hits.ids(), hits.total());
+    }
+
+    /**
+     * @param query beginning of the subject name (each word as a prefix)
+     * @throws IllegalArgumentException for an empty or too long query
+     * @throws IllegalStateException    while the index is being built
+     */
+    public List<SubjectSummaryResponse> autocomplete(String query, int limit) {
+        checkQuery(query);
+        long start = System.nanoTime();
+        List<InvertedIndex.Suggestion> suggestions = index.autocomplete(query, clamp(limit));
+        autocompleteTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return suggestions.stream()
+                .map(suggestion -> new SubjectSummaryResponse(suggestion.id(), suggestion.name()))
+                .toList();
+    }
+
+    public void upsert(Long id, String name, String description) {
+        removedDuringBuild.remove(id);
+        index.upsert(id, name, description);
+    }
+
+    public void remove(Long id) {
+        if (!ready) {
+            removedDuringBuild.add(id);
+        }
+        index.remove(id);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    void build() {
+        long start = System.currentTimeMillis();
+        long afterId = 0;
+        long retryDelayMs = INITIAL_RETRY_DELAY_MS;
+        while (true) {
+            try {
+                List<SubjectResponse> batch;
+                do {
+                    batch = subjectRepository.findDetailPageById(afterId, PageRequest.of(0, buildBatchSize));
+                    for (SubjectResponse subject : batch) {
+                        if (!removedDuringBuild.contains(subject.getId())) {
+                            index.addIfAbsent(subject.getId(), subject.getName(), subject.getDescription());
+                        }
+                        afterId = subject.getId();
+                    }
+                } while (batch.size() == buildBatchSize);
+                break;
+            } catch (RuntimeException e) {
+                log.error("Subject search index build failed after id {}, retrying in {} ms", afterId, retryDelayMs, e);
+                try {
+                    Thread.sleep(retryDelayMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return; // shutting down
+                }
+                retryDelayMs = Math.min(retryDelayMs * 2, MAX_RETRY_DELAY_MS);
+            }
+        }
+
+        index.trimToSize();
+        ready = true;
+        removedDuringBuild.clear();
+        log.info("Subject search index built: {} subjects, {} terms, {} KB of postings in {} ms",
+                index.size(), index.terms(), index.postingsBytes() / 1024, System.currentTimeMillis() - start);
+    }
+
+    private void checkQuery(String query) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Query is required");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Query is too long (max " + MAX_QUERY_LENGTH + " characters)");
+        }
+        if (!ready) {
+            throw new IllegalStateException("Search index is warming up");
+        }
+    }
+
+    private static int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
@@ -0,0 +1,18 @@
+package org.webvibecourse.be.service;
+
+import org.webvibecourse.be.dto.response.TokenIntrospectionResponse;
+
+import java.util.List;
+
+public interface TokenIntrospectionService {
+
+    /**
+     * Verify a batch of tokens (signature, expiration, revocation).
+     * Identical tokens are verified once; distinct tokens are verified in parallel.
+     *
+     * @param tokens raw tokens
+     * @return one result per input token, in input order
+     * @throws IllegalArgumentException empty batch, null token or more than jwt.introspect.max-batch tokens
+     */
+    List<TokenIntrospectionResponse> introspect(List<String> tokens);
+}
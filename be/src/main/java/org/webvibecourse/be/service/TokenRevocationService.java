@@ -0,0 +1,23 @@
+package org.webvibecourse.be.service;
+
+import org.webvibecourse.be.config.ParsedToken;
+
+public interface TokenRevocationService {
+
+    /**
+     * Revoke a single token (logout). Remembered until the token would have expired anyway.
+     */
+    void revokeToken(String tokenId, Long userId, long expiresAt);
+
+    /**
+     * Revoke every token of a user issued up to now (admin "revoke user"). "iat" has second
+     * precision, so the whole current second is revoked and the call returns once it is
+     * over: tokens issued after it returns (e.g. a re-login) are valid.
+     */
+    void revokeUser(Long userId);
+
+    /**
+     * Hot-path check executed for every authenticated request.
+     */
+    boolean isRevoked(ParsedToken token);
+}
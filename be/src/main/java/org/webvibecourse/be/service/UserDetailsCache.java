@@ -0,0 +1,115 @@
+package org.webvibecourse.be.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.webvibecourse.be.entity.User;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * =====================================================================================
+ * UserDetailsCache
+ * -------------------------
+ * Bounded, TTL-based cache of the user lookup done on every authentication
+ * (email → User), in front of UserRepository.findByEmail.
+ * <p>
+ * ✔ Positive entries   : live security.user-cache.ttl-ms
+ * ✔ Negative entries   : unknown emails are cached as empty for
+ * security.user-cache.negative-ttl-ms, so credential-stuffing
+ * traffic against non-existent accounts stops hitting MySQL
+ * ✔ Invalidation       : UserEntityListener evicts on insert / update / delete, so
+ * status, role and password changes are visible immediately. An id → email index
+ * of the cached users makes eviction by id a key lookup too (email changes)
+ * ✔ Metrics            : "users.details" cache metrics (hits, misses, size, evictions)
+ * =====================================================================================
+ */
+@Component
+public class UserDetailsCache {
+
+    private final Cache<String, Optional<User>> cache;
+    // id → email of every positive entry; updated under the entry's lock (load / eviction)
+    private final Map<Long, String> emailsById = new ConcurrentHashMap<>();
+
+    public UserDetailsCache(@Value("${security.user-cache.max-size:10000}") long maxSize,
+                            @Value("${security.user-cache.ttl-ms:300000}") long ttlMs,
+                            @Value("${security.user-cache.negative-ttl-ms:30000}") long negativeTtlMs,
+                            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new PositiveNegativeExpiry(
+                        TimeUnit.MILLISECONDS.toNanos(ttlMs), TimeUnit.MILLISECONDS.toNanos(negativeTtlMs)))
+                .evictionListener((String email, Optional<User> user, RemovalCause cause) -> unindex(email, user))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "users.details");
+    }
+
+    /**
+     * @param email  login email
+     * @param loader DB lookup, called on miss only
+     * @return cached lookup result (empty = unknown email)
+     */
+    public Optional<User> get(String email, Function<String, Optional<User>> loader) {
+        return cache.get(email, key -> {
+            Optional<User> user = loader.apply(key);
+            user.ifPresent(found -> emailsById.put(found.getId(), key));
+            return user;
+        });
+    }
+
+    /**
+     * Evict a user by email (covers negative entries, e.g. right after registration).
+     */
+    public void evict(String email) {
+        if (email != null) {
+            Optional<User> removed = cache.asMap().remove(email);
+            if (removed != null) {
+                unindex(email, removed);
+            }
+        }
+    }
+
+    /**
+     * Evict a user by id (covers an email change, where the old key is unknown).
+     */
+    public void evictById(Long userId) {
+        if (userId != null) {
+            evict(emailsById.get(userId));
+        }
+    }
+
+    private void unindex(String email, Optional<User> user) {
+        if (user != null && user.isPresent()) {
+            emailsById.remove(user.get().getId(), email);
+        }
+    }
+
+    private record PositiveNegativeExpiry(long ttlNanos, long negativeTtlNanos)
+            implements Expiry<String, Optional<User>> {
+
+        @Override
+        public long expireAfterCreate(String key, Optional<User> value, long currentTime) {
+            return value.isPresent() ? ttlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Optional<User> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Optional<User> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.webvibecourse.be.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.webvibecourse.be.dto.response.CursorPageResponse;
+import org.webvibecourse.be.dto.response.UserSummaryResponse;
+import org.webvibecourse.be.entity.User;
+import org.webvibecourse.be.repository.KeysetQueryRepository;
+import org.webvibecourse.be.rsql.FilterWhitelists;
+import org.webvibecourse.be.rsql.RsqlFilterService;
+import org.webvibecourse.be.service.AdminUserService;
+import org.webvibecourse.be.util.KeysetCursor;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AdminUserServiceImpl implements AdminUserService {
+
+    private static final List<String> LIST_COLUMNS =
+            List.of("id", "email", "fullName", "role", "status", "createdAt");
+
+    private final KeysetQueryRepository keysetQueryRepository;
+
+    private final RsqlFilterService rsqlFilterService;
+
+    @Override
+    public CursorPageResponse<UserSummaryResponse> listUsers(String filter, String cursor, int size) {
+        int pageSize = CursorPageResponse.pageSize(size);
+        KeysetCursor after = cursor == null ? null : KeysetCursor.decode(cursor, false);
+        List<UserSummaryResponse> rows = keysetQueryRepository.findPage(
+                User.class, UserSummaryResponse.class, LIST_COLUMNS,
+                filter == null || filter.isBlank()
+                        ? null
+                        : rsqlFilterService.toSpecification(FilterWhitelists.USER, filter),
+                after, null, pageSize + 1);
+        return CursorPageResponse.fromLookahead(rows, pageSize, last -> KeysetCursor.ofId(last.getId()).encode());
+    }
+}
@@ -0,0 +1,160 @@
+package org.webvibecourse.be.service.impl;
+
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Service;
+import org.webvibecourse.be.Enum.Role;
+import org.webvibecourse.be.config.JwtService;
+import org.webvibecourse.be.config.ParsedToken;
+import org.webvibecourse.be.config.TokenDigest;
+import org.webvibecourse.be.dto.response.TokenResponse;
+import org.webvibecourse.be.entity.User;
+import org.webvibecourse.be.repository.RefreshTokenStore;
+import org.webvibecourse.be.repository.UserRepository;
+import org.webvibecourse.be.repository.RefreshTokenStore.Consumption;
+import org.webvibecourse.be.repository.RefreshTokenStore.RefreshToken;
+import org.webvibecourse.be.service.AuthService;
+import org.webvibecourse.be.service.TokenRevocationService;
+import org.webvibecourse.be.service.UserService;
+
+import java.util.UUID;
+
+/**
+ * =====================================================================================
+ * AuthServiceImpl
+ * -------------------------
+ * Issues token pairs and rotates refresh tokens.
+ * <p>
+ * Refresh flow (no password, no BCrypt):
+ * 1. Verify the refresh token signature / expiration (JwtService), that it is a
+ * refresh token (not an access token) and that the user's tokens have not been
+ * revoked by an admin
+ * 2. Consume it in the RefreshTokenStore (one-time use)
+ * - CONSUMED → continue
+ * - REUSED   → replay of a rotated token: revoke the whole family, reject
+ * - REVOKED / UNKNOWN → reject
+ * 3. Reload the user so a disabled / locked account cannot keep refreshing
+ * 4. Issue a new pair in the same family
+ * <p>
+ * Every failure is reported as an AuthenticationException (→ 401 in the controller).
+ * <p>
+ * Logout revokes the access token (jti) and the refresh family of the session;
+ * "revoke user" invalidates every token issued to the user before now.
+ * =====================================================================================
+ */
+@Service
+@RequiredArgsConstructor
+public class AuthServiceImpl implements AuthService {
+
+    private final JwtService jwtService;
+
+    private final RefreshTokenStore refreshTokenStore;
+
+    private final UserService userService;
+
+    private final UserRepository userRepository;
+
+    private final TokenRevocationService tokenRevocationService;
+
+    @Override
+    public TokenResponse issueTokens(User user) {
+        return issueTokens(user, UUID.randomUUID().toString());
+    }
+
+    @Override
+    public TokenResponse refresh(String refreshToken) {
+        ParsedToken parsed;
+        try {
+            parsed = jwtService.parse(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new BadCredentialsException("Invalid refresh token", e);
+        }
+        if (parsed.use() != ParsedToken.Use.REFRESH) {
+            throw new BadCredentialsException("Not a refresh token");
+        }
+        if (tokenRevocationService.isRevoked(parsed)) {
+            throw new BadCredentialsException("Refresh token has been revoked");
+        }
+
+        Consumption consumption = refreshTokenStore.consume(
+                TokenDigest.sha256(refreshToken), System.currentTimeMillis());
+
+        switch (consumption.status()) {
+            case CONSUMED -> {
+                // continue below
+            }
+            case REUSED -> {
+                refreshTokenStore.revokeFamily(consumption.token().familyId());
+                throw new BadCredentialsException("Refresh token reuse detected");
+            }
+            default -> throw new BadCredentialsException("Invalid refresh token");
+        }
+
+        // compact tokens carry the user id only
+        User user = parsed.email() != null
+                ? (User) userService.loadUserByUsername(parsed.email())
+                : userRepository.findById(parsed.userId())
+                        .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+        if (!user.isEnabled() || !user.isAccountNonLocked()) {
+            refreshTokenStore.revokeFamily(consumption.token().familyId());
+            throw new DisabledException("Account is disabled");
+        }
+
+        return issueTokens(user, consumption.token().familyId());
+    }
+
+    @Override
+    public void logout(Jwt accessToken, String refreshToken) {
+        Long userId = accessToken.getClaim(JwtService.USER_ID_CLAIM);
+        tokenRevocationService.revokeToken(
+                accessToken.getId(), userId, accessToken.getExpiresAt().toEpochMilli());
+
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenStore.find(TokenDigest.sha256(refreshToken))
+                    // a session may only end its own refresh family
+                    .filter(token -> token.userId().equals(userId))
+                    .ifPresent(token -> refreshTokenStore.revokeFamily(token.familyId()));
+        }
+    }
+
+    @Override
+    public void revokeUser(Long userId) {
+        // Covers access and refresh tokens: both are checked against the user's not-before
+        tokenRevocationService.revokeUser(userId);
+    }
+
+    /**
+     * Generate access + refresh token and register the refresh token in its family.
+     *
+     * INPUT
+     * @param user      authenticated user
+     * @param familyId  rotation family (new for a login, inherited for a refresh)
+     *
+     * OUTPUT
+     * @return token pair returned to FE
+     */
+    private TokenResponse issueTokens(User user, String familyId) {
+        // Role dạng String (ví dụ: "STUDENT", "TEACHER", "ADMIN")
+        String role = Role.fromCode(user.getRole()).name();
+
+        String accessToken = jwtService.generateAccessToken(user.getEmail(), user.getId(), role);
+        String refreshToken = jwtService.generateRefreshToken(user.getEmail(), user.getId(), role);
+
+        long accessTokenExpiryAt = jwtService.getAccessExpiration();
+        long refreshTokenExpiryAt = jwtService.getRefreshExpiration();
+
+        refreshTokenStore.save(new RefreshToken(
+                TokenDigest.sha256(refreshToken), familyId, user.getId(), refreshTokenExpiryAt));
+
+        return TokenResponse.builder()
+                .accessToken(accessToken)
+                .refreshToken(refreshToken)
+                .accessTokenExpiryAt(accessTokenExpiryAt)
+                .refreshTokenExpiryAt(refreshTokenExpiryAt)
+                .role(role)
+                .build();
+    }
+}
@@ -0,0 +1,631 @@
+package org.webvibecourse.be.service.impl;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.TreeNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.webvibecourse.be.Enum.Role;
+import org.webvibecourse.be.dto.request.SubjectImportRow;
+import org.webvibecourse.be.dto.request.UserImportRow;
+import org.webvibecourse.be.dto.response.ImportReport;
+import org.webvibecourse.be.entity.Subject;
+import org.webvibecourse.be.entity.User;
+import org.webvibecourse.be.exception.ImportInProgressException;
+import org.webvibecourse.be.repository.UserRepository;
+import org.webvibecourse.be.service.BulkImportService;
+import org.webvibecourse.be.util.CsvFormulaGuard;
+import org.webvibecourse.be.util.CsvReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * =====================================================================================
+ * BulkImportServiceImpl
+ * -------------------------
+ * Streaming bulk import of users / subjects from CSV or a JSON array.
+ * <p>
+ * Pipeline, chunk by chunk (import.chunk-size rows):
+ * ✔ read     : rows are parsed one at a time from the request stream (CsvReader /
+ * Jackson streaming parser), the input is never held in memory
+ * ✔ validate : per-row checks; an invalid row is reported and skipped, never fatal
+ * ✔ hash     : user passwords are BCrypt-hashed in parallel on a dedicated pool
+ * (import.hash-threads, at most half the cores so logins keep the rest) while the
+ * previous chunk is written
+ * ✔ write    : one transaction per chunk; pooled sequence ids + hibernate.jdbc.batch_size
+ * turn the chunk into batched INSERTs. If the chunk fails (e.g. a unique key taken in
+ * the meantime) it is replayed row by row to find and report the failing rows.
+ * <p>
+ * Entity listeners still run, so the user cache, catalog ETags and search index follow.
+ * One import at a time per instance. An ADMIN may only import STUDENT / TEACHER
+ * accounts; staff roles (ADMIN, SUPERADMIN, SUPPORT) need a SUPERADMIN importer.
+ * Input that becomes unreadable midway ends the import; the report says where, and
+ * the chunks committed before it stay imported.
+ * <p>
+ * Metrics: import.rows{type, result}
+ * =====================================================================================
+ */
+@Slf4j
+@Service
+public class BulkImportServiceImpl implements BulkImportService {
+
+    private static final int MIN_PASSWORD_LENGTH = 6;
+    private static final int MAX_PASSWORD_BYTES = 72; // BCrypt input limit
+    private static final int MAX_TEXT_LENGTH = 255;
+
+    private static final Map<String, BiConsumer<UserImportRow, String>> USER_COLUMNS = new LinkedHashMap<>();
+    private static final Map<String, BiConsumer<SubjectImportRow, String>> SUBJECT_COLUMNS = new LinkedHashMap<>();
+
+    static {
+        USER_COLUMNS.put("email", UserImportRow::setEmail);
+        USER_COLUMNS.put("password", UserImportRow::setPassword);
+        USER_COLUMNS.put("fullname", UserImportRow::setFullName);
+        USER_COLUMNS.put("phone", UserImportRow::setPhone);
+        USER_COLUMNS.put("role", UserImportRow::setRole);
+        USER_COLUMNS.put("status", (row, value) -> row.setStatus(parseInt("status", value)));
+        SUBJECT_COLUMNS.put("name", SubjectImportRow::setName);
+        SUBJECT_COLUMNS.put("description", SubjectImportRow::setDescription);
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final BCryptPasswordEncoder hashEncoder;
+    private final ExecutorService hashExecutor;
+    private final int chunkSize;
+    private final int maxRows;
+    private final int maxReportedErrors;
+    private final MeterRegistry meterRegistry;
+
+    private final ReentrantLock importLock = new ReentrantLock();
+
+    public BulkImportServiceImpl(UserRepository userRepository,
+                                 ObjectMapper objectMapper,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${security.password.bcrypt-strength:10}") int bcryptStrength,
+                                 @Value("${import.hash-threads:0}") int hashThreads,
+                                 @Value("${import.chunk-size:1000}") int chunkSize,
+                                 @Value("${import.max-rows:200000}") int maxRows,
+                                 @Value("${import.max-reported-errors:1000}") int maxReportedErrors,
+                                 MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.hashEncoder = new BCryptPasswordEncoder(bcryptStrength);
+        int maxHashThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.hashExecutor = Executors.newFixedThreadPool(
+                hashThreads > 0 ? Math.min(hashThreads, maxHashThreads) : maxHashThreads,
+                Thread.ofPlatform().name("import-hash-", 1).daemon().factory());
+        this.chunkSize = chunkSize;
+        this.maxRows = maxRows;
+        this.maxReportedErrors = maxReportedErrors;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hashExecutor.shutdownNow();
+    }
+
+    @Override
+    public ImportReport importUsers(InputStream input, Format format, Role importer) throws IOException {
+        lock();
+        try {
+            Report report = new Report("users");
+            RowSource<UserImportRow> source = format == Format.CSV
+                    ? csvSource(input, UserImportRow::new, USER_COLUMNS, Set.of("email", "password"))
+                    : jsonSource(input, UserImportRow.class);
+            Set<String> seenEmails = new HashSet<>();
+
+            List<Prepared> previous = null;
+            List<Row<UserImportRow>> rows;
+            while (!(rows = readChunk(source, report)).isEmpty()) {
+                List<Prepared> current = prepareUsers(rows, seenEmails, importer, report);
+                if (previous != null) {
+                    write(previous, report); // hashes of the current chunk are computed meanwhile
+                }
+                previous = current;
+            }
+            if (previous != null) {
+                write(previous, report);
+            }
+            return report.finish();
+        } finally {
+            importLock.unlock();
+        }
+    }
+
+    @Override
+    public ImportReport importSubjects(InputStream input, Format format) throws IOException {
+        lock();
+        try {
+            Report report = new Report("subjects");
+            RowSource<SubjectImportRow> source = format == Format.CSV
+                    ? csvSource(input, SubjectImportRow::new, SUBJECT_COLUMNS, Set.of("name"))
+                    : jsonSource(input, SubjectImportRow.class);
+
+            List<Row<SubjectImportRow>> rows;
+            while (!(rows = readChunk(source, report)).isEmpty()) {
+                write(prepareSubjects(rows, report), report);
+            }
+            return report.finish();
+        } finally {
+            importLock.unlock();
+        }
+    }
+
+    // ---------------------------------------------------------------- validation
+
+    /**
+     * Validate a chunk of users and start hashing their passwords.
+     */
+    private List<Prepared> prepareUsers(List<Row<UserImportRow>> rows, Set<String> seenEmails,
+                                        Role importer, Report report) {
+        List<Row<UserImportRow>> valid = new ArrayList<>(rows.size());
+        for (Row<UserImportRow> row : rows) {
+            String error = validateUser(row.value(), seenEmails, importer);
+            if (error != null) {
+                report.fail(row, error);
+            } else {
+                valid.add(row);
+            }
+        }
+        if (valid.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> existing = new HashSet<>(userRepository.findExistingEmails(
+                valid.stream().map(row -> row.value().getEmail()).toList()));
+        List<Prepared> prepared = new ArrayList<>(valid.size());
+        for (Row<UserImportRow> row : valid) {
+            UserImportRow user = row.value();
+            if (existing.contains(user.getEmail())) {
+                report.fail(row, "Email already exists");
+                continue;
+            }
+            String rawPassword = user.getPassword();
+            Future<String> hash = hashExecutor.submit(() -> hashEncoder.encode(rawPassword));
+            int role = parseRole(user.getRole()).getCode();
+            int status = user.getStatus() == null ? 1 : user.getStatus();
+            prepared.add(new Prepared(row.number(), row.line(), hash, password -> User.builder()
+                    .email(user.getEmail())
+                    .password(password)
+                    .fullName(trimToNull(user.getFullName()))
+                    .phone(trimToNull(user.getPhone()))
+                    .role(role)
+                    .status(status)
+                    .build()));
+        }
+        return prepared;
+    }
+
+    private static String validateUser(UserImportRow user, Set<String> seenEmails, Role importer) {
+        String email = user.getEmail() == null ? null : user.getEmail().trim();
+        if (email == null || email.isEmpty()) {
+            return "email is required";
+        }
+        if (email.length() > MAX_TEXT_LENGTH || email.indexOf('@') <= 0 || email.endsWith("@")) {
+            return "Invalid email";
+        }
+        user.setEmail(email);
+        String password = user.getPassword();
+        if (password == null || password.length() < MIN_PASSWORD_LENGTH) {
+            return "password must be at least " + MIN_PASSWORD_LENGTH + " characters";
+        }
+        if (password.getBytes(StandardCharsets.UTF_8).length > MAX_PASSWORD_BYTES) {
+            return "password must be at most " + MAX_PASSWORD_BYTES + " bytes";
+        }
+        Role role = parseRole(user.getRole());
+        if (role == null) {
+            return "Unknown role " + user.getRole();
+        }
+        if (!mayAssign(importer, role)) {
+            return "Role " + role + " cannot be assigned by an " + importer + " import";
+        }
+        if (user.getStatus() != null && user.getStatus() < 0) {
+            return "Invalid status " + user.getStatus();
+        }
+        if (tooLong(user.getFullName()) || tooLong(user.getPhone())) {
+            return "fullName / phone longer than " + MAX_TEXT_LENGTH + " characters";
+        }
+        // Checked last: a rejected row must not reserve its email
+        if (!seenEmails.add(email.toLowerCase(Locale.ROOT))) {
+            return "Duplicate email in the import";
+        }
+        return null;
+    }
+
+    private List<Prepared> prepareSubjects(List<Row<SubjectImportRow>> rows, Report report) {
+        List<Prepared> prepared = new ArrayList<>(rows.size());
+        for (Row<SubjectImportRow> row : rows) {
+            SubjectImportRow subject = row.value();
+            String name = trimToNull(subject.getName());
+            if (name == null) {
+                report.fail(row, "name is required");
+            } else if (name.length() > MAX_TEXT_LENGTH || tooLong(subject.getDescription())) {
+                report.fail(row, "name / description longer than " + MAX_TEXT_LENGTH + " characters");
+            } else {
+                prepared.add(new Prepared(row.number(), row.line(), null, ignored -> Subject.builder()
+                        .name(name)
+                        .description(trimToNull(subject.getDescription()))
+                        .build()));
+            }
+        }
+        return prepared;
+    }
+
+    // ---------------------------------------------------------------- write
+
+    /**
+     * Insert one chunk in one transaction; on failure replay it row by row so only the
+     * offending rows are rejected.
+     */
+    private void write(List<Prepared> chunk, Report report) {
+        List<Prepared> ready = new ArrayList<>(chunk.size());
+        List<Object> entities = new ArrayList<>(chunk.size());
+        for (Prepared row : chunk) {
+            try {
+                entities.add(row.entity());
+                ready.add(row);
+            } catch (ExecutionException e) {
+                report.fail(row.number(), row.line(), "Password hashing failed");
+            }
+        }
+        if (ready.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> entities.forEach(entityManager::persist));
+            report.imported(ready.size());
+            return;
+        } catch (RuntimeException e) {
+            log.debug("Import chunk failed, replaying row by row: {}", e.getMessage());
+        }
+
+        for (Prepared row : ready) {
+            try {
+                Object entity = row.entity(); // fresh instance: the failed one already got an id
+                transactionTemplate.executeWithoutResult(status -> entityManager.persist(entity));
+                report.imported(1);
+            } catch (ExecutionException e) {
+                report.fail(row.number(), row.line(), "Password hashing failed");
+            } catch (RuntimeException e) {
+                report.fail(row.number(), row.line(), "Rejected by the database: "
+                        + abbreviate(NestedExceptionUtils.getMostSpecificCause(e).getMessage()));
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------- input
+
+    private <T> List<Row<T>> readChunk(RowSource<T> source, Report report) throws IOException {
+        List<Row<T>> rows = new ArrayList<>(chunkSize);
+        while (rows.size() < chunkSize && report.unreadableInput == null) {
+            Row<T> row;
+            try {
+                if (report.total == maxRows) {
+                    if (source.next() != null) {
+                        report.truncatedInput = true;
+                    }
+                    break;
+                }
+                row = source.next();
+            } catch (IllegalArgumentException e) {
+                // Earlier chunks are committed: end here and report it instead of failing the import
+                report.unreadableInput = e.getMessage();
+                break;
+            }
+            if (row == null) {
+                break;
+            }
+            report.total++;
+            if (row.error() != null) {
+                report.fail(row, row.error());
+            } else {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * CSV with a header row naming the columns (any order, case-insensitive).
+     */
+    private static <T> RowSource<T> csvSource(InputStream input, Supplier<T> factory,
+                                              Map<String, BiConsumer<T, String>> columns,
+                                              Set<String> required) throws IOException {
+        CsvReader csv = new CsvReader(new BufferedReader(
+                new InputStreamReader(input, StandardCharsets.UTF_8), 64 * 1024));
+        String[] header;
+        try {
+            header = csv.next();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed CSV header: " + e.getMessage());
+        }
+        if (header == null) {
+            throw new IllegalArgumentException("Empty input");
+        }
+        List<BiConsumer<T, String>> setters = new ArrayList<>(header.length);
+        Set<String> present = new HashSet<>();
+        for (String column : header) {
+            String name = column.trim().toLowerCase(Locale.ROOT);
+            BiConsumer<T, String> setter = columns.get(name);
+            if (setter == null || !present.add(name)) {
+                throw new IllegalArgumentException("Unknown or repeated column '" + column.trim()
+                        + "', expected " + columns.keySet());
+            }
+            setters.add(setter);
+        }
+        if (!present.containsAll(required)) {
+            throw new IllegalArgumentException("Missing column(s), required: " + required);
+        }
+
+        int[] number = {0};
+        return () -> {
+            String[] fields;
+            try {
+                fields = csv.next();
+            } catch (IllegalArgumentException e) {
+                return new Row<>(++number[0], csv.recordLine(), null, e.getMessage());
+            }
+            if (fields == null) {
+                return null;
+            }
+            int row = ++number[0];
+            if (fields.length != setters.size()) {
+                return new Row<>(row, csv.recordLine(), null,
+                        "Expected " + setters.size() + " fields, got " + fields.length);
+            }
+            T value = factory.get();
+            try {
+                for (int i = 0; i < fields.length; i++) {
+                    if (!fields[i].isEmpty()) {
+                        // undo the export's formula quoting ("'+84..." → "+84...")
+                        setters.get(i).accept(value, CsvFormulaGuard.restore(fields[i]));
+                    }
+                }
+            } catch (IllegalArgumentException e) {
+                return new Row<>(row, csv.recordLine(), null, e.getMessage());
+            }
+            return new Row<>(row, csv.recordLine(), value, null);
+        };
+    }
+
+    /**
+     * JSON array of objects, bound one element at a time. A syntax error ends the input
+     * (the stream cannot be resynchronized); rows before it are still imported.
+     */
+    private <T> RowSource<T> jsonSource(InputStream input, Class<T> type) throws IOException {
+        JsonParser parser = objectMapper.getFactory().createParser(input);
+        try {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("JSON input must be an array of objects");
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed JSON: " + e.getOriginalMessage());
+        }
+
+        int[] number = {0};
+        boolean[] ended = {false};
+        return () -> {
+            if (ended[0]) {
+                return null;
+            }
+            int row = number[0] + 1;
+            TreeNode node;
+            try {
+                JsonToken token = parser.nextToken();
+                if (token == null || token == JsonToken.END_ARRAY) {
+                    ended[0] = true;
+                    return null;
+                }
+                node = parser.readValueAsTree();
+            } catch (JsonProcessingException e) {
+                ended[0] = true;
+                number[0] = row;
+                return new Row<>(row, 0, null, "Malformed JSON, rest of the input ignored: "
+                        + e.getOriginalMessage());
+            }
+            number[0] = row;
+            if (!node.isObject()) {
+                return new Row<>(row, 0, null, "Expected a JSON object");
+            }
+            try {
+                return new Row<>(row, 0, objectMapper.treeToValue(node, type), null);
+            } catch (JsonProcessingException e) {
+                return new Row<>(row, 0, null, "Invalid value: " + e.getOriginalMessage());
+            }
+        };
+    }
+
+    // ---------------------------------------------------------------- helpers
+
+    private void lock() {
+        if (!importLock.tryLock()) {
+            throw new ImportInProgressException("Another import is running");
+        }
+    }
+
+    /**
+     * @return whether an import run by importer may create accounts with the role
+     */
+    static boolean mayAssign(Role importer, Role role) {
+        return importer == Role.SUPERADMIN || role == Role.STUDENT || role == Role.TEACHER;
+    }
+
+    /**
+     * @return role by name (case-insensitive) or numeric code, STUDENT when empty, null if unknown
+     */
+    private static Role parseRole(String value) {
+        if (value == null || value.isBlank()) {
+            return Role.STUDENT;
+        }
+        String role = value.trim();
+        if (!role.isEmpty() && Character.isDigit(role.charAt(0))) {
+            try {
+                return Role.fromCode(Integer.parseInt(role));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        return Role.fromName(role.toUpperCase(Locale.ROOT));
+    }
+
+    private static Integer parseInt(String field, String value) {
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + field + " '" + value + "'");
+        }
+    }
+
+    private static boolean tooLong(String value) {
+        return value != null && value.length() > MAX_TEXT_LENGTH;
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private static String abbreviate(String message) {
+        return message == null || message.length() <= 200 ? message : message.substring(0, 200) + "...";
+    }
+
+    @FunctionalInterface
+    private interface RowSource<T> {
+        /**
+         * @return next input row (with its parse error, if any), null at end of input
+         */
+        Row<T> next() throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface EntityFactory {
+        Object create(String passwordHash);
+    }
+
+    /**
+     * One input row: number from 1, CSV line (0 for JSON), bound value or parse error.
+     */
+    private record Row<T>(int number, int line, T value, String error) {
+    }
+
+    /**
+     * A validated row, turned into a new entity on demand (once per write attempt).
+     */
+    private record Prepared(int number, int line, Future<String> passwordHash, EntityFactory factory) {
+
+        Object entity() throws ExecutionException {
+            if (passwordHash == null) {
+                return factory.create(null);
+            }
+            try {
+                return factory.create(passwordHash.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+            }
+        }
+    }
+
+    /**
+     * Counts and the first maxReportedErrors row errors of one import.
+     */
+    private final class Report {
+        private final String type;
+        private final long start = System.nanoTime();
+        private final List<ImportReport.RowError> errors = new ArrayList<>();
+        private int total;
+        private int imported;
+        private int failed;
+        private boolean truncatedInput;
+        private String unreadableInput;
+
+        Report(String type) {
+            this.type = type;
+        }
+
+        void fail(Row<?> row, String message) {
+            fail(row.number(), row.line(), message);
+        }
+
+        void fail(int row, int line, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ImportReport.RowError(row, line, message));
+            }
+        }
+
+        void imported(int rows) {
+            imported += rows;
+        }
+
+        ImportReport finish() {
+            int rowErrors = errors.size();
+            if (truncatedInput) {
+                errors.add(new ImportReport.RowError(total + 1, 0,
+                        "Row limit (" + maxRows + ") reached, rest of the input ignored"));
+            }
+            if (unreadableInput != null) {
+                errors.add(new ImportReport.RowError(total + 1, 0,
+                        "Unreadable input, rest of the input ignored: " + unreadableInput));
+            }
+            errors.sort(Comparator.comparingInt(ImportReport.RowError::getRow));
+            long durationNanos = System.nanoTime() - start;
+            Counter.builder("import.rows").tag("type", type).tag("result", "imported")
+                    .register(meterRegistry).increment(imported);
+            Counter.builder("import.rows").tag("type", type).tag("result", "failed")
+                    .register(meterRegistry).increment(failed);
+            log.info("Import of {}: {} rows, {} imported, {} failed in {} ms",
+                    type, total, imported, failed, durationNanos / 1_000_000);
+            return ImportReport.builder()
+                    .total(total)
+                    .imported(imported)
+                    .failed(failed)
+                    .durationMs(durationNanos / 1_000_000)
+                    .rowsPerSecond(durationNanos == 0 ? 0 : total * 1e9 / durationNanos)
+                    .errors(errors)
+                    .errorsTruncated(failed > rowErrors)
+                    .build();
+        }
+    }
+}
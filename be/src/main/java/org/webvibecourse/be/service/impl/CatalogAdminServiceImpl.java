@@ -0,0 +1,106 @@
+package org.webvibecourse.be.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.webvibecourse.be.dto.request.CategoryRequest;
+import org.webvibecourse.be.dto.request.SubjectRequest;
+import org.webvibecourse.be.dto.response.CategoryResponse;
+import org.webvibecourse.be.dto.response.SubjectResponse;
+import org.webvibecourse.be.entity.Category;
+import org.webvibecourse.be.entity.Subject;
+import org.webvibecourse.be.repository.CategoryRepository;
+import org.webvibecourse.be.repository.SubjectRepository;
+import org.webvibecourse.be.service.CatalogAdminService;
+
+import java.util.Optional;
+
+/**
+ * =====================================================================================
+ * CatalogAdminServiceImpl
+ * -------------------------
+ * Create / update / delete of categories and subjects.
+ * <p>
+ * Invalidation is done by Hibernate and CatalogEntityListener, not here:
+ * ✔ entity region   : READ_WRITE, entry replaced / removed with the write
+ * ✔ query cache     : every cached list of the table is stale once the update timestamp
+ * of the table moves (any insert / update / delete)
+ * ✔ ETag            : CatalogVersion bumped at flush and after commit
+ * =====================================================================================
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class CatalogAdminServiceImpl implements CatalogAdminService {
+
+    private final CategoryRepository categoryRepository;
+
+    private final SubjectRepository subjectRepository;
+
+    @Override
+    public CategoryResponse createCategory(CategoryRequest request) {
+        Category category = categoryRepository.save(Category.builder()
+                .name(requireName(request.getName()))
+                .build());
+        return toResponse(category);
+    }
+
+    @Override
+    public Optional<CategoryResponse> updateCategory(Long id, CategoryRequest request) {
+        String name = requireName(request.getName());
+        return categoryRepository.findById(id).map(category -> {
+            category.setName(name);
+            return toResponse(category);
+        });
+    }
+
+    @Override
+    public boolean deleteCategory(Long id) {
+        return categoryRepository.findById(id).map(category -> {
+            categoryRepository.delete(category);
+            return true;
+        }).orElse(false);
+    }
+
+    @Override
+    public SubjectResponse createSubject(SubjectRequest request) {
+        Subject subject = subjectRepository.save(Subject.builder()
+                .name(requireName(request.getName()))
+                .description(request.getDescription())
+                .build());
+        return toResponse(subject);
+    }
+
+    @Override
+    public Optional<SubjectResponse> updateSubject(Long id, SubjectRequest request) {
+        String name = requireName(request.getName());
+        return subjectRepository.findById(id).map(subject -> {
+            subject.setName(name);
+            subject.setDescription(request.getDescription());
+            return toResponse(subject);
+        });
+    }
+
+    @Override
+    public boolean deleteSubject(Long id) {
+        return subjectRepository.findById(id).map(subject -> {
+            subjectRepository.delete(subject);
+            return true;
+        }).orElse(false);
+    }
+
+    private static String requireName(String name) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Name is required");
+        }
+        return name.trim();
+    }
+
+    private static CategoryResponse toResponse(Category category) {
+        return new CategoryResponse(category.getId(), category.getName());
+    }
+
+    private static SubjectResponse toResponse(Subject subject) {
+        return new SubjectResponse(subject.getId(), subject.getName(), subject.getDescription());
+    }
+}
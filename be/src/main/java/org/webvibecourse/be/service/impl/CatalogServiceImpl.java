@@ -0,0 +1,116 @@
+package org.webvibecourse.be.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.webvibecourse.be.dto.response.CategoryResponse;
+import org.webvibecourse.be.dto.response.CursorPageResponse;
+import org.webvibecourse.be.dto.response.SubjectResponse;
+import org.webvibecourse.be.dto.response.SubjectSummaryResponse;
+import org.webvibecourse.be.entity.Category;
+import org.webvibecourse.be.entity.Subject;
+import org.webvibecourse.be.repository.CategoryRepository;
+import org.webvibecourse.be.repository.KeysetQueryRepository;
+import org.webvibecourse.be.repository.SubjectRepository;
+import org.webvibecourse.be.rsql.FilterWhitelists;
+import org.webvibecourse.be.rsql.RsqlFilterService;
+import org.webvibecourse.be.service.CatalogService;
+import org.webvibecourse.be.util.KeysetCursor;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * =====================================================================================
+ * CatalogServiceImpl
+ * -------------------------
+ * Read side of the catalog (categories, subjects).
+ * <p>
+ * Listings use keyset pagination instead of OFFSET:
+ * ✔ sort=id   : WHERE id > :lastId ORDER BY id                      (primary key)
+ * ✔ sort=name : WHERE (name, id) > (:lastName, :lastId) ORDER BY name, id
+ * (idx_<table>_name_id)
+ * ✔ filter=   : RSQL filter (RsqlFilterService, cached), same keyset query built
+ * with the Criteria API (KeysetQueryRepository)
+ * <p>
+ * size + 1 rows are fetched to know whether a next page exists without a COUNT query.
+ * Lists select only the list-view columns (projection DTOs, no entity hydration).
+ * =====================================================================================
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CatalogServiceImpl implements CatalogService {
+
+    private static final List<String> LIST_COLUMNS = List.of("id", "name");
+
+    private final CategoryRepository categoryRepository;
+
+    private final SubjectRepository subjectRepository;
+
+    private final KeysetQueryRepository keysetQueryRepository;
+
+    private final RsqlFilterService rsqlFilterService;
+
+    @Override
+    public CursorPageResponse<CategoryResponse> listCategories(String filter, String cursor, int size,
+                                                               SortBy sortBy) {
+        int pageSize = CursorPageResponse.pageSize(size);
+        boolean byName = sortBy == SortBy.NAME;
+        KeysetCursor after = cursor == null ? null : KeysetCursor.decode(cursor, byName);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<CategoryResponse> rows;
+        if (filter != null && !filter.isBlank()) {
+            rows = keysetQueryRepository.findPage(Category.class, CategoryResponse.class, LIST_COLUMNS,
+                    rsqlFilterService.toSpecification(FilterWhitelists.CATEGORY, filter),
+                    after, byName ? "name" : null, pageSize + 1);
+        } else if (byName) {
+            rows = after == null
+                    ? categoryRepository.findFirstPageByName(limit)
+                    : categoryRepository.findPageByName(after.name(), after.id(), limit);
+        } else {
+            rows = categoryRepository.findPageById(after == null ? 0L : after.id(), limit);
+        }
+        return CursorPageResponse.fromLookahead(rows, pageSize, byName
+                ? last -> KeysetCursor.ofName(last.getName(), last.getId()).encode()
+                : last -> KeysetCursor.ofId(last.getId()).encode());
+    }
+
+    @Override
+    public Optional<CategoryResponse> getCategory(Long id) {
+        return categoryRepository.findDetailById(id);
+    }
+
+    @Override
+    public CursorPageResponse<SubjectSummaryResponse> listSubjects(String filter, String cursor, int size,
+                                                                   SortBy sortBy) {
+        int pageSize = CursorPageResponse.pageSize(size);
+        boolean byName = sortBy == SortBy.NAME;
+        KeysetCursor after = cursor == null ? null : KeysetCursor.decode(cursor, byName);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<SubjectSummaryResponse> rows;
+        if (filter != null && !filter.isBlank()) {
+            rows = keysetQueryRepository.findPage(Subject.class, SubjectSummaryResponse.class, LIST_COLUMNS,
+                    rsqlFilterService.toSpecification(FilterWhitelists.SUBJECT, filter),
+                    after, byName ? "name" : null, pageSize + 1);
+        } else if (byName) {
+            rows = after == null
+                    ? subjectRepository.findFirstPageByName(limit)
+                    : subjectRepository.findPageByName(after.name(), after.id(), limit);
+        } else {
+            rows = subjectRepository.findPageById(after == null ? 0L : after.id(), limit);
+        }
+        return CursorPageResponse.fromLookahead(rows, pageSize, byName
+                ? last -> KeysetCursor.ofName(last.getName(), last.getId()).encode()
+                : last -> KeysetCursor.ofId(last.getId()).encode());
+    }
+
+    @Override
+    public Optional<SubjectResponse> getSubject(Long id) {
+        return subjectRepository.findDetailById(id);
+    }
+}
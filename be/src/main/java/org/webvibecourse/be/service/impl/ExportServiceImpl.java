@@ -0,0 +1,236 @@
+package org.webvibecourse.be.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.webvibecourse.be.exception.ExportsBusyException;
+import org.webvibecourse.be.service.ExportService;
+import org.webvibecourse.be.util.CsvFormulaGuard;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * =====================================================================================
+ * ExportServiceImpl
+ * -------------------------
+ * Full-table exports that never hold the table in memory (unlike findAll()):
+ * ✔ scalar projection (no entities): nothing is added to the persistence context
+ * or the second-level cache, so there is nothing to clear or detach along the way
+ * ✔ forward-only result stream (Query.getResultStream → ScrollableResults) with
+ * export.fetch-size rows per JDBC round trip
+ * ✔ each row is written to the response as soon as it is read (CSV or NDJSON)
+ * ✔ at most export.max-concurrent exports at a time (each holds a connection and a
+ * read-only transaction for the whole download); more fail fast instead of draining
+ * the pool
+ * ✔ CSV text cells starting with = + - @ (or tab / CR) are prefixed with ' so a
+ * spreadsheet shows them as text instead of evaluating a formula (CsvFormulaGuard;
+ * the bulk import strips it again)
+ * <p>
+ * Memory per export = one fetch batch + the writer buffer, whatever the table size.
+ * MySQL: Connector/J buffers the whole result set unless useCursorFetch=true is set on
+ * the JDBC URL (then the fetch size is honoured).
+ * <p>
+ * Metrics: export.rows{dataset, format}, export.active, export.rejected
+ * =====================================================================================
+ */
+@Slf4j
+@Service
+public class ExportServiceImpl implements ExportService {
+
+    private static final int WRITE_BUFFER = 64 * 1024;
+
+    private static final Map<Dataset, Definition> DEFINITIONS = Map.of(
+            Dataset.USERS, new Definition(
+                    "select u.id, u.email, u.fullName, u.phone, u.role, u.status, u.createdAt, u.updatedAt "
+                            + "from User u order by u.id",
+                    "id", "email", "fullName", "phone", "role", "status", "createdAt", "updatedAt"),
+            Dataset.SUBJECTS, new Definition(
+                    "select s.id, s.name, s.description from Subject s order by s.id",
+                    "id", "name", "description"),
+            Dataset.CATEGORIES, new Definition(
+                    "select c.id, c.name from Category c order by c.id",
+                    "id", "name"));
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+    private final MeterRegistry meterRegistry;
+    private final int maxConcurrent;
+    private final Semaphore slots;
+    private final Counter rejectedCounter;
+
+    public ExportServiceImpl(PlatformTransactionManager transactionManager,
+                             ObjectMapper objectMapper,
+                             @Value("${export.fetch-size:1000}") int fetchSize,
+                             @Value("${export.max-concurrent:2}") int maxConcurrent,
+                             MeterRegistry meterRegistry) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+        this.meterRegistry = meterRegistry;
+        this.maxConcurrent = Math.max(maxConcurrent, 1);
+        this.slots = new Semaphore(this.maxConcurrent);
+        Gauge.builder("export.active", slots, s -> this.maxConcurrent - s.availablePermits())
+                .description("Exports currently streaming")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("export.rejected")
+                .description("Exports refused because export.max-concurrent were running")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Slot acquireSlot() {
+        if (!slots.tryAcquire()) {
+            rejectedCounter.increment();
+            throw new ExportsBusyException(maxConcurrent + " exports already running, please retry later");
+        }
+        AtomicBoolean released = new AtomicBoolean();
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                slots.release();
+            }
+        };
+    }
+
+    @Override
+    public long export(Dataset dataset, Format format, OutputStream output) throws IOException {
+        Definition definition = DEFINITIONS.get(dataset);
+        long start = System.nanoTime();
+        long rows;
+        try {
+            rows = readOnlyTransaction.execute(status -> {
+                try (Stream<Object[]> stream = entityManager.createQuery(definition.jpql(), Object[].class)
+                        .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                        .setHint(HibernateHints.HINT_CACHEABLE, false)
+                        .getResultStream()) {
+                    return write(definition.columns(), stream.iterator(), format, output);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e); // client gone: stops the query, rolls back
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        Counter.builder("export.rows").tag("dataset", dataset.name().toLowerCase())
+                .tag("format", format.getExtension())
+                .register(meterRegistry).increment(rows);
+        log.info("Export of {} ({}): {} rows in {} ms",
+                dataset, format, rows, (System.nanoTime() - start) / 1_000_000);
+        return rows;
+    }
+
+    private long write(String[] columns, Iterator<Object[]> rows, Format format, OutputStream output)
+            throws IOException {
+        return format == Format.CSV
+                ? writeCsv(columns, rows, output)
+                : writeNdjson(columns, rows, output);
+    }
+
+    private static long writeCsv(String[] columns, Iterator<Object[]> rows, OutputStream output)
+            throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), WRITE_BUFFER);
+        writeCsvRecord(writer, columns);
+        long count = 0;
+        while (rows.hasNext()) {
+            writeCsvRecord(writer, rows.next());
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    static void writeCsvRecord(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] instanceof String text) {
+                writeCsvField(writer, CsvFormulaGuard.neutralize(text));
+            } else if (values[i] != null) {
+                writeCsvField(writer, values[i].toString()); // numbers / timestamps: never a formula
+            }
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * RFC 4180: quote fields containing a separator, quote or line break (read back by CsvReader).
+     */
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private long writeNdjson(String[] columns, Iterator<Object[]> rows, OutputStream output) throws IOException {
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            // keep the servlet stream open, the container closes it
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            while (rows.hasNext()) {
+                Object[] values = rows.next();
+                generator.writeStartObject();
+                for (int i = 0; i < columns.length; i++) {
+                    generator.writeFieldName(columns[i]);
+                    writeJsonValue(generator, values[i]);
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static void writeJsonValue(JsonGenerator generator, Object value) throws IOException {
+        switch (value) {
+            case null -> generator.writeNull();
+            case Long number -> generator.writeNumber(number);
+            case Integer number -> generator.writeNumber(number);
+            case String text -> generator.writeString(text);
+            default -> generator.writeString(value.toString()); // timestamps: ISO-8601
+        }
+    }
+
+    /**
+     * Projection query of one dataset; columns are the selected values, in order.
+     */
+    private record Definition(String jpql, String... columns) {
+    }
+}
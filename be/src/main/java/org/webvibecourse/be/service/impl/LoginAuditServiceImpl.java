@@ -0,0 +1,200 @@
+package org.webvibecourse.be.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.webvibecourse.be.config.LoginTrace;
+import org.webvibecourse.be.repository.LoginAuditStore;
+import org.webvibecourse.be.repository.LoginAuditStore.LoginAuditEvent;
+import org.webvibecourse.be.service.LoginAuditService;
+import org.webvibecourse.be.util.MpscRingBuffer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * =====================================================================================
+ * LoginAuditServiceImpl
+ * -------------------------
+ * Login audit trail (who, from where, with which outcome, when) kept off the login path.
+ * <p>
+ * ✔ capture : record() only offers the event to a bounded lock-free ring buffer
+ * (MpscRingBuffer, audit.login.buffer-size); no lock, no I/O on the request thread
+ * ✔ write   : one background thread drains the buffer into batches of up to
+ * audit.login.batch-size events. A partial batch waits up to
+ * audit.login.flush-interval-ms for more events, then the whole batch is stored in one
+ * transaction (multi-row INSERT + last-login UPDATE): one commit for many logins
+ * ✔ overflow: audit.login.overflow=drop loses the event at once; block makes the caller
+ * wait up to audit.login.block-timeout-ms for room, then drops it
+ * ✔ shutdown: new events are refused, the writer flushes what is buffered (bounded by
+ * audit.login.shutdown-timeout-ms)
+ * <p>
+ * Metrics: audit.login.queue.depth, audit.login.lag (oldest event of a batch -> commit),
+ * audit.login.flush (time per batch), audit.login.written,
+ * audit.login.dropped{reason=overflow|write_error|closed}
+ * =====================================================================================
+ */
+@Slf4j
+@Service
+public class LoginAuditServiceImpl implements LoginAuditService {
+
+    public enum Overflow {
+        DROP, BLOCK
+    }
+
+    private static final int MAX_EMAIL_LENGTH = 255;
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final LoginAuditStore store;
+    private final MpscRingBuffer<LoginAuditEvent> buffer;
+    private final Overflow overflow;
+    private final long blockTimeoutNanos;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long shutdownTimeoutMs;
+    private final Thread writer;
+    private volatile boolean closed;
+
+    private final Counter writtenCounter;
+    private final Counter overflowCounter;
+    private final Counter writeErrorCounter;
+    private final Counter closedCounter;
+    private final Timer lagTimer;
+    private final Timer flushTimer;
+
+    public LoginAuditServiceImpl(LoginAuditStore store,
+                                 @Value("${audit.login.buffer-size:8192}") int bufferSize,
+                                 @Value("${audit.login.batch-size:500}") int batchSize,
+                                 @Value("${audit.login.flush-interval-ms:50}") long flushIntervalMs,
+                                 @Value("${audit.login.overflow:drop}") Overflow overflow,
+                                 @Value("${audit.login.block-timeout-ms:100}") long blockTimeoutMs,
+                                 @Value("${audit.login.shutdown-timeout-ms:5000}") long shutdownTimeoutMs,
+                                 MeterRegistry meterRegistry) {
+        this.store = store;
+        this.buffer = new MpscRingBuffer<>(bufferSize);
+        this.batchSize = Math.max(batchSize, 1);
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(flushIntervalMs, 1));
+        this.overflow = overflow;
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(blockTimeoutMs);
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+
+        Gauge.builder("audit.login.queue.depth", buffer, MpscRingBuffer::size)
+                .description("Login attempts waiting to be written")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("audit.login.written")
+                .description("Login attempts written to the audit trail")
+                .register(meterRegistry);
+        this.overflowCounter = droppedCounter(meterRegistry, "overflow");
+        this.writeErrorCounter = droppedCounter(meterRegistry, "write_error");
+        this.closedCounter = droppedCounter(meterRegistry, "closed");
+        this.lagTimer = Timer.builder("audit.login.lag")
+                .description("Time from the oldest attempt of a batch to its commit")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("audit.login.flush")
+                .description("Time to write one batch of login attempts")
+                .register(meterRegistry);
+
+        this.writer = Thread.ofPlatform().name("login-audit-writer").daemon().start(this::run);
+    }
+
+    private static Counter droppedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("audit.login.dropped").tag("reason", reason)
+                .description("Login attempts not written to the audit trail, by reason")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void record(Long userId, String email, String ip, LoginTrace.Outcome outcome) {
+        if (closed) {
+            closedCounter.increment();
+            return;
+        }
+        if (email != null && email.length() > MAX_EMAIL_LENGTH) {
+            email = email.substring(0, MAX_EMAIL_LENGTH);
+        }
+        LoginAuditEvent event = new LoginAuditEvent(userId, email, ip, outcome.tag(), System.currentTimeMillis());
+        if (!buffer.offer(event) && !(overflow == Overflow.BLOCK && offerBlocking(event))) {
+            overflowCounter.increment();
+            return;
+        }
+        if (buffer.size() >= batchSize) {
+            LockSupport.unpark(writer); // a full batch is ready, no need to wait for the interval
+        }
+    }
+
+    private boolean offerBlocking(LoginAuditEvent event) {
+        long deadline = System.nanoTime() + blockTimeoutNanos;
+        do {
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+            if (buffer.offer(event)) {
+                return true;
+            }
+        } while (System.nanoTime() - deadline < 0 && !closed);
+        return false;
+    }
+
+    private void run() {
+        List<LoginAuditEvent> batch = new ArrayList<>(batchSize);
+        while (true) {
+            // read before draining: once closed is seen, one more drain gets every accepted event
+            boolean closing = closed;
+            buffer.drain(batch, batchSize - batch.size());
+            if (batch.isEmpty()) {
+                if (closing) {
+                    return;
+                }
+                LockSupport.parkNanos(this, flushIntervalNanos);
+                continue;
+            }
+            // measured from the oldest event, so no event waits much longer than the interval
+            long waited = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis() - batch.getFirst().occurredAt());
+            if (batch.size() < batchSize && !closing && waited < flushIntervalNanos) {
+                LockSupport.parkNanos(this, flushIntervalNanos - waited); // group commit: let the batch fill
+                continue;
+            }
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void flush(List<LoginAuditEvent> batch) {
+        long start = System.nanoTime();
+        try {
+            store.write(batch);
+        } catch (RuntimeException e) {
+            writeErrorCounter.increment(batch.size());
+            log.warn("Could not write {} login audit events", batch.size(), e);
+            return;
+        }
+        long now = System.currentTimeMillis();
+        flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        lagTimer.record(Math.max(0, now - batch.getFirst().occurredAt()), TimeUnit.MILLISECONDS);
+        writtenCounter.increment(batch.size());
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        closed = true;
+        LockSupport.unpark(writer);
+        writer.join(shutdownTimeoutMs);
+        if (writer.isAlive()) {
+            log.warn("Login audit writer did not finish in {} ms, {} events not written",
+                    shutdownTimeoutMs, buffer.size());
+            return;
+        }
+        // offered by callers that checked closed just before it was set
+        List<LoginAuditEvent> late = new ArrayList<>();
+        buffer.drain(late, Integer.MAX_VALUE);
+        if (!late.isEmpty()) {
+            flush(late);
+        }
+    }
+}
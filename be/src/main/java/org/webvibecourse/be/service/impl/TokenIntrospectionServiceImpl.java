@@ -0,0 +1,236 @@
+package org.webvibecourse.be.service.impl;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.webvibecourse.be.config.JwtService;
+import org.webvibecourse.be.config.ParsedToken;
+import org.webvibecourse.be.dto.response.TokenIntrospectionResponse;
+import org.webvibecourse.be.service.TokenIntrospectionService;
+import org.webvibecourse.be.service.TokenRevocationService;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * =====================================================================================
+ * TokenIntrospectionServiceImpl
+ * -------------------------
+ * Batch token verification for the gateway and worker jobs (one call instead of one
+ * HTTP request per token).
+ * <p>
+ * ✔ de-duplication : identical tokens of a batch are verified once and share the result
+ * ✔ parallelism    : distinct tokens are split into chunks (at least
+ * jwt.introspect.min-chunk tokens each, at most one per thread); the calling thread and
+ * the jwt.introspect.threads pool (default: number of cores) claim chunks until none are
+ * left. When the pool is busy with other batches the caller simply does the work itself
+ * and the queued helpers are cancelled, so a batch never waits for a free pool thread
+ * (only for chunks a helper has already started).
+ * ✔ same checks as a Bearer request: JwtService.parse (verified-token cache included),
+ * access tokens only, then TokenRevocationService.isRevoked
+ * <p>
+ * Metrics: jwt.introspect.batch (time per batch), jwt.introspect.tokens{result}
+ * (distinct tokens by active / invalid / expired / revoked; refresh tokens count as invalid)
+ * =====================================================================================
+ */
+@Service
+public class TokenIntrospectionServiceImpl implements TokenIntrospectionService {
+
+    private final JwtService jwtService;
+    private final TokenRevocationService tokenRevocationService;
+    private final ExecutorService executor;
+    private final int threads;
+    private final int maxBatch;
+    private final int minChunk;
+
+    private final Timer batchTimer;
+    private final Counter activeCounter;
+    private final Counter invalidCounter;
+    private final Counter expiredCounter;
+    private final Counter revokedCounter;
+
+    public TokenIntrospectionServiceImpl(JwtService jwtService,
+                                         TokenRevocationService tokenRevocationService,
+                                         @Value("${jwt.introspect.threads:0}") int threads,
+                                         @Value("${jwt.introspect.max-batch:1000}") int maxBatch,
+                                         @Value("${jwt.introspect.min-chunk:16}") int minChunk,
+                                         MeterRegistry meterRegistry) {
+        this.jwtService = jwtService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = Executors.newFixedThreadPool(this.threads,
+                Thread.ofPlatform().name("jwt-introspect-", 1).daemon().factory());
+        this.maxBatch = maxBatch;
+        this.minChunk = Math.max(minChunk, 1);
+
+        this.batchTimer = Timer.builder("jwt.introspect.batch")
+                .description("Time to introspect one batch of tokens")
+                .register(meterRegistry);
+        this.activeCounter = tokenCounter(meterRegistry, "active");
+        this.invalidCounter = tokenCounter(meterRegistry, "invalid");
+        this.expiredCounter = tokenCounter(meterRegistry, "expired");
+        this.revokedCounter = tokenCounter(meterRegistry, "revoked");
+    }
+
+    private static Counter tokenCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("jwt.introspect.tokens").tag("result", result)
+                .description("Distinct tokens introspected, by result")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public List<TokenIntrospectionResponse> introspect(List<String> tokens) {
+        if (tokens == null || tokens.isEmpty()) {
+            throw new IllegalArgumentException("tokens must not be empty");
+        }
+        if (tokens.size() > maxBatch) {
+            throw new IllegalArgumentException("At most " + maxBatch + " tokens per batch");
+        }
+        if (tokens.contains(null)) {
+            throw new IllegalArgumentException("tokens must not contain null");
+        }
+        long start = System.nanoTime();
+        try {
+            // token → index of its distinct slot; slots[i] = slot of the i-th input token
+            Map<String, Integer> distinctIndex = new HashMap<>(tokens.size() * 2);
+            List<String> distinct = new ArrayList<>(tokens.size());
+            int[] slots = new int[tokens.size()];
+            for (int i = 0; i < tokens.size(); i++) {
+                String token = tokens.get(i);
+                Integer slot = distinctIndex.get(token);
+                if (slot == null) {
+                    slot = distinct.size();
+                    distinctIndex.put(token, slot);
+                    distinct.add(token);
+                }
+                slots[i] = slot;
+            }
+
+            TokenIntrospectionResponse[] results = verifyAll(distinct);
+
+            List<TokenIntrospectionResponse> ordered = new ArrayList<>(slots.length);
+            for (int slot : slots) {
+                ordered.add(results[slot]);
+            }
+            return ordered;
+        } finally {
+            batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Verify distinct tokens, chunk by chunk, on the calling thread and the pool.
+     */
+    private TokenIntrospectionResponse[] verifyAll(List<String> distinct) {
+        TokenIntrospectionResponse[] results = new TokenIntrospectionResponse[distinct.size()];
+        int chunkSize = Math.max(minChunk, (distinct.size() + threads - 1) / threads);
+        int chunks = (distinct.size() + chunkSize - 1) / chunkSize;
+        AtomicInteger nextChunk = new AtomicInteger();
+        // counted down once per finished chunk, whoever ran it: also publishes its results
+        CountDownLatch done = new CountDownLatch(chunks);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        Runnable worker = () -> {
+            int chunk;
+            while ((chunk = nextChunk.getAndIncrement()) < chunks) {
+                try {
+                    int end = Math.min((chunk + 1) * chunkSize, distinct.size());
+                    for (int i = chunk * chunkSize; i < end; i++) {
+                        results[i] = verify(distinct.get(i));
+                    }
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    done.countDown();
+                }
+            }
+        };
+
+        Future<?>[] helpers = new Future<?>[chunks - 1];
+        for (int i = 0; i < helpers.length; i++) {
+            helpers[i] = executor.submit(worker);
+        }
+        worker.run();
+
+        // every chunk is claimed by now: helpers still queued have nothing left to do.
+        // A helper may still be running its last chunk (cancel does not tell), so wait
+        // for the chunks themselves rather than for the futures.
+        for (Future<?> helper : helpers) {
+            helper.cancel(false);
+        }
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while introspecting tokens", e);
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        return results;
+    }
+
+    /**
+     * Verify one token: signature + expiration (JwtService), then revocation.
+     */
+    private TokenIntrospectionResponse verify(String token) {
+        ParsedToken parsed;
+        try {
+            parsed = jwtService.parse(token);
+        } catch (ExpiredJwtException e) {
+            expiredCounter.increment();
+            return TokenIntrospectionResponse.builder()
+                    .active(false)
+                    .expiresAt(e.getClaims().getExpiration().getTime())
+                    .reason("expired")
+                    .build();
+        } catch (JwtException | IllegalArgumentException e) {
+            invalidCounter.increment();
+            return TokenIntrospectionResponse.builder()
+                    .active(false)
+                    .reason("invalid")
+                    .build();
+        }
+        if (parsed.use() != ParsedToken.Use.ACCESS) {
+            invalidCounter.increment();
+            return TokenIntrospectionResponse.builder()
+                    .active(false)
+                    .expiresAt(parsed.expiresAt())
+                    .reason("not_access_token")
+                    .build();
+        }
+        if (tokenRevocationService.isRevoked(parsed)) {
+            revokedCounter.increment();
+            return TokenIntrospectionResponse.builder()
+                    .active(false)
+                    .expiresAt(parsed.expiresAt())
+                    .reason("revoked")
+                    .build();
+        }
+        activeCounter.increment();
+        return TokenIntrospectionResponse.builder()
+                .active(true)
+                .userId(parsed.userId())
+                .role(parsed.role())
+                .expiresAt(parsed.expiresAt())
+                .build();
+    }
+}
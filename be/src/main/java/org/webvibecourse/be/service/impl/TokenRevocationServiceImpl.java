@@ -0,0 +1,196 @@
+package org.webvibecourse.be.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.webvibecourse.be.config.ParsedToken;
+import org.webvibecourse.be.service.TokenRevocationService;
+import org.webvibecourse.be.util.BloomFilter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * =====================================================================================
+ * TokenRevocationServiceImpl
+ * -------------------------
+ * In-memory token denylist with a Bloom filter in front of it.
+ * <p>
+ * Two kinds of revocation:
+ * ✔ token    : jti → exp             (logout of one session)
+ * ✔ user     : userId → not-before   (every token with iat < not-before is revoked)
+ * <p>
+ * Not-before has the precision of "iat": whole seconds. It is set to the second after
+ * the revocation, so a token issued earlier in the same second is revoked too, and
+ * revokeUser waits for that second to start before returning: a re-login after the
+ * revoke gets an iat of at least not-before and is accepted.
+ * <p>
+ * Hot path (isRevoked, every authenticated request):
+ * 1. Probe the Bloom filter for the jti and for the userId → almost every token is
+ * cleared here, lock-free and without any map lookup
+ * 2. Only on a Bloom hit, confirm with the exact maps
+ * <p>
+ * Bounded memory:
+ * - entries are dropped once the token would have expired anyway (exp / max TTL)
+ * - the filter is rebuilt from the live entries periodically (Bloom filters can't delete)
+ * - the jti denylist holds at most jwt.revocation.max-entries; beyond that a logout
+ * escalates to a user-level revocation (coarser but still correct)
+ * <p>
+ * State is local to the instance.
+ * =====================================================================================
+ */
+@Service
+public class TokenRevocationServiceImpl implements TokenRevocationService {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final int maxEntries;
+    private final long userRevocationTtl;
+
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();   // jti → exp
+    private final Map<Long, Long> userNotBefore = new ConcurrentHashMap<>();     // userId → not-before (epoch s)
+    private final Map<Long, Long> userRevocationExpiry = new ConcurrentHashMap<>(); // userId → drop after
+
+    // Writers (rare: logout / admin) serialize on this lock; readers never lock
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile BloomFilter bloom;
+
+    private final Counter bloomHits;
+    private final Counter falsePositives;
+
+    public TokenRevocationServiceImpl(@Value("${jwt.revocation.max-entries:100000}") int maxEntries,
+                                      @Value("${jwt.access-expiration}") long accessExpiration,
+                                      @Value("${jwt.refresh-expiration}") long refreshExpiration,
+                                      MeterRegistry meterRegistry) {
+        this.maxEntries = maxEntries;
+        // refresh tokens are checked against user revocations too → keep for the longest TTL
+        this.userRevocationTtl = Math.max(accessExpiration, refreshExpiration);
+        this.bloom = newFilter();
+
+        this.bloomHits = Counter.builder("jwt.revocation.bloom.hits")
+                .description("Tokens that needed an exact denylist lookup")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("jwt.revocation.bloom.false.positives")
+                .description("Bloom hits that turned out not to be revoked")
+                .register(meterRegistry);
+        Gauge.builder("jwt.revocation.tokens", revokedTokens, Map::size).register(meterRegistry);
+        Gauge.builder("jwt.revocation.users", userNotBefore, Map::size).register(meterRegistry);
+    }
+
+    @Override
+    public void revokeToken(String tokenId, Long userId, long expiresAt) {
+        if (expiresAt <= System.currentTimeMillis()) {
+            return; // already unusable
+        }
+        if (tokenId == null || revokedTokens.size() >= maxEntries) {
+            // Denylist full (or legacy token without jti): fall back to revoking the user
+            revokeUser(userId);
+            return;
+        }
+        writeLock.lock();
+        try {
+            revokedTokens.put(tokenId, expiresAt);
+            bloom.put(tokenKey(tokenId));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void revokeUser(Long userId) {
+        long now = System.currentTimeMillis();
+        long notBefore = TimeUnit.MILLISECONDS.toSeconds(now) + 1;
+        writeLock.lock();
+        try {
+            userNotBefore.merge(userId, notBefore, Math::max);
+            userRevocationExpiry.put(userId, now + userRevocationTtl);
+            bloom.put(userKey(userId));
+        } finally {
+            writeLock.unlock();
+        }
+        awaitSecond(notBefore);
+    }
+
+    @Override
+    public boolean isRevoked(ParsedToken token) {
+        BloomFilter filter = bloom;
+        boolean tokenCandidate = token.tokenId() != null && filter.mightContain(tokenKey(token.tokenId()));
+        boolean userCandidate = token.userId() != null && filter.mightContain(userKey(token.userId()));
+        if (!tokenCandidate && !userCandidate) {
+            return false;
+        }
+
+        bloomHits.increment();
+        if (tokenCandidate && revokedTokens.containsKey(token.tokenId())) {
+            return true;
+        }
+        if (userCandidate) {
+            Long notBefore = userNotBefore.get(token.userId());
+            if (notBefore != null && TimeUnit.MILLISECONDS.toSeconds(token.issuedAt()) < notBefore) {
+                return true;
+            }
+        }
+        falsePositives.increment();
+        return false;
+    }
+
+    /**
+     * Drop entries whose tokens have expired and rebuild the filter from the live set,
+     * so the false positive rate does not grow over time.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval:60000}")
+    void purgeAndRebuild() {
+        long now = System.currentTimeMillis();
+        writeLock.lock();
+        try {
+            revokedTokens.values().removeIf(exp -> exp <= now);
+            userRevocationExpiry.entrySet().removeIf(e -> {
+                if (e.getValue() <= now) {
+                    userNotBefore.remove(e.getKey());
+                    return true;
+                }
+                return false;
+            });
+
+            BloomFilter rebuilt = newFilter();
+            revokedTokens.keySet().forEach(jti -> rebuilt.put(tokenKey(jti)));
+            userNotBefore.keySet().forEach(userId -> rebuilt.put(userKey(userId)));
+            bloom = rebuilt;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Block until the given epoch second has started (at most one second).
+     */
+    private static void awaitSecond(long epochSecond) {
+        long remaining = TimeUnit.SECONDS.toMillis(epochSecond) - System.currentTimeMillis();
+        while (remaining > 0) {
+            try {
+                Thread.sleep(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            remaining = TimeUnit.SECONDS.toMillis(epochSecond) - System.currentTimeMillis();
+        }
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(maxEntries, FALSE_POSITIVE_RATE);
+    }
+
+    private static long tokenKey(String tokenId) {
+        return BloomFilter.hash(tokenId);
+    }
+
+    private static long userKey(Long userId) {
+        return BloomFilter.hash(userId.longValue());
+    }
+}
@@ -1,14 +1,19 @@
 package org.webvibecourse.be.service.impl;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.webvibecourse.be.config.LoginTrace;
 import org.webvibecourse.be.entity.User;
 import org.webvibecourse.be.repository.UserRepository;
+import org.webvibecourse.be.service.UserDetailsCache;
 import org.webvibecourse.be.service.UserService;
 
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * =====================================================================================
@@ -24,9 +29,12 @@ import java.util.Optional;
  * to read password, roles, and account status for authentication.
  * <p>
  * Responsibilities:
- * ✔ Load user by email for authentication
+ * ✔ Load user by email for authentication (cached, unknown emails cached negatively)
  * ✔ Throw exception if user does not exist
  * ✔ Provide UserDetails object used by AuthenticationManager
+ * ✔ Persist the re-hashed password when the BCrypt cost changed (rehash-on-login)
+ * <p>
+ * Metrics: auth.user.load{result=found|not_found} (user cache included)
  * <p>
  * ==> This service is a core component for Spring Security login process.
  * =====================================================================================
@@ -34,13 +42,27 @@ import java.util.Optional;
 
 
 @Service
-@RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
 
+    private final UserDetailsCache userDetailsCache;
+
+    private final Timer loadFound;
+
+    private final Timer loadNotFound;
+
+    public UserServiceImpl(UserRepository userRepository, UserDetailsCache userDetailsCache,
+                           MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.userDetailsCache = userDetailsCache;
+        this.loadFound = Timer.builder("auth.user.load").tag("result", "found").register(meterRegistry);
+        this.loadNotFound = Timer.builder("auth.user.load").tag("result", "not_found").register(meterRegistry);
+    }
+
     /**
      * Load user information by username (email).
+     * Served from UserDetailsCache; MySQL is only queried on a miss.
      *
      * @param username
      * @return UserDetails (User entity implementing UserDetails)
@@ -48,9 +70,31 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        Optional<User> user = userRepository.findByEmail(username);
+        long start = System.nanoTime();
+        Optional<User> user = userDetailsCache.get(username, userRepository::findByEmail);
+        long elapsed = System.nanoTime() - start;
+        (user.isPresent() ? loadFound : loadNotFound).record(elapsed, TimeUnit.NANOSECONDS);
+        LoginTrace.record(LoginTrace.Phase.USER, elapsed);
+        LoginTrace.userFound(user.isPresent());
         // If user is missing → authentication fails
         return user.orElseThrow(
                 () -> new UsernameNotFoundException("User not found"));
     }
+
+    /**
+     * Store a password re-hashed with the current BCrypt cost.
+     * Called by DaoAuthenticationProvider after a successful login when
+     * PasswordEncoder.upgradeEncoding() reports the stored hash as outdated.
+     *
+     * @param user        authenticated user
+     * @param newPassword new encoded password
+     * @return user with the updated password
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        User account = (User) user;
+        account.setPassword(newPassword);
+        return userRepository.save(account);
+    }
 }
@@ -0,0 +1,109 @@
+package org.webvibecourse.be.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * =====================================================================================
+ * BloomFilter
+ * -------------------------
+ * Fixed-size, thread-safe Bloom filter over 64-bit hashes.
+ * <p>
+ * - mightContain() == false → the element was definitely never added (no false negatives)
+ * - mightContain() == true  → the element was probably added (false positive rate ≈ fpp)
+ * <p>
+ * Reads are lock-free (volatile reads of an AtomicLongArray), so checking an element
+ * costs k bit probes and no allocation. Elements cannot be removed: owners rebuild a
+ * fresh filter from their live set and swap it in.
+ * <p>
+ * Probes use double hashing (h1 + i * h2) derived from one 64-bit hash.
+ * =====================================================================================
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * Size the filter for an expected number of elements and false positive probability.
+     *
+     * @param expectedElements max number of elements the filter is built for
+     * @param fpp              target false positive probability (e.g. 0.01)
+     */
+    public BloomFilter(long expectedElements, double fpp) {
+        long n = Math.max(1, expectedElements);
+        long bits = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (bits + 63) >>> 6);
+        this.words = new AtomicLongArray(words);
+        this.bitCount = (long) words << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+    }
+
+    /**
+     * @param hash 64-bit hash of the element (see {@link #hash(CharSequence)} / {@link #hash(long)})
+     */
+    public void put(long hash) {
+        long h1 = hash;
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long word;
+            do {
+                word = words.get(index);
+                if ((word & mask) != 0) {
+                    break;
+                }
+            } while (!words.compareAndSet(index, word, word | mask));
+        }
+    }
+
+    /**
+     * @param hash 64-bit hash of the element
+     * @return false if the element was definitely never added
+     */
+    public boolean mightContain(long hash) {
+        long h1 = hash;
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return memory used by the bit set, in bytes
+     */
+    public long sizeInBytes() {
+        return bitCount >>> 3;
+    }
+
+    /**
+     * 64-bit hash of a string (FNV-1a over the chars, then a murmur3 finalizer).
+     */
+    public static long hash(CharSequence value) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0, len = value.length(); i < len; i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        return mix(h);
+    }
+
+    /**
+     * 64-bit hash of a long value.
+     */
+    public static long hash(long value) {
+        return mix(value * 0xC2B2AE3D27D4EB4FL + 0x165667B19E3779F9L);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+}
@@ -0,0 +1,46 @@
+package org.webvibecourse.be.util;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * =====================================================================================
+ * CoarseClock
+ * -------------------------
+ * Shared, millisecond-granularity ISO-8601 timestamp for response envelopes
+ * (e.g. "2025-08-22T09:05:46.698+07:00").
+ * <p>
+ * The formatted string is cached and re-formatted at most once per millisecond, whatever
+ * the number of threads: every other call is a volatile read + a long compare and
+ * allocates nothing. Racing threads may format the same millisecond twice, which is
+ * harmless (last write wins, both strings are equal).
+ * =====================================================================================
+ */
+public final class CoarseClock {
+
+    private static final DateTimeFormatter FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX").withZone(ZoneId.systemDefault());
+
+    private static volatile Snapshot current = new Snapshot(Long.MIN_VALUE, "");
+
+    private CoarseClock() {
+    }
+
+    /**
+     * @return current time, formatted, in the system time zone
+     */
+    public static String now() {
+        long millis = System.currentTimeMillis();
+        Snapshot snapshot = current;
+        if (snapshot.millis == millis) {
+            return snapshot.text;
+        }
+        String text = FORMAT.format(Instant.ofEpochMilli(millis));
+        current = new Snapshot(millis, text);
+        return text;
+    }
+
+    private record Snapshot(long millis, String text) {
+    }
+}
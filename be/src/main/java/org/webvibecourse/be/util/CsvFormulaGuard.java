@@ -0,0 +1,31 @@
+package org.webvibecourse.be.util;
+
+/**
+ * =====================================================================================
+ * CsvFormulaGuard
+ * -------------------------
+ * OWASP CSV injection guard shared by the CSV export and import.
+ * <p>
+ * ✔ neutralize : a cell starting with = + - @ (or tab / CR) is evaluated by spreadsheets,
+ * so it is exported as text with a leading ' ("+84 90..." → "'+84 90...")
+ * ✔ restore    : the import drops that quote again, so export → import round-trips
+ * (a value that really starts with ' followed by one of those characters loses the ')
+ * =====================================================================================
+ */
+public final class CsvFormulaGuard {
+
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private CsvFormulaGuard() {
+    }
+
+    public static String neutralize(String value) {
+        return !value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+    }
+
+    public static String restore(String value) {
+        return value.length() > 1 && value.charAt(0) == '\'' && FORMULA_PREFIXES.indexOf(value.charAt(1)) >= 0
+                ? value.substring(1)
+                : value;
+    }
+}
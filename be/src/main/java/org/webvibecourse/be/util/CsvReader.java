@@ -0,0 +1,151 @@
+package org.webvibecourse.be.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * =====================================================================================
+ * CsvReader
+ * -------------------------
+ * Streaming RFC 4180 reader: one record per next() call, nothing else is buffered.
+ * <p>
+ * ✔ separator ',' ; fields may be quoted, "" inside quotes = one quote
+ * ✔ quoted fields may contain separators and line breaks
+ * ✔ LF and CRLF line endings, UTF-8 BOM skipped
+ * <p>
+ * A malformed record (unterminated quote, text after a closing quote, oversized field)
+ * throws IllegalArgumentException; the reader then resumes at the next line, so the caller
+ * can report the row and go on.
+ * =====================================================================================
+ */
+public class CsvReader {
+
+    private static final int MAX_FIELD_LENGTH = 64 * 1024;
+
+    private final Reader reader;
+    private int pending = -2; // one char of look-ahead, -2 = none
+    private int line = 1;     // line of the next record
+    private int recordLine;
+    private boolean first = true;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * @return fields of the next record, null at end of input (blank lines are skipped)
+     * @throws IllegalArgumentException malformed record (see recordLine())
+     */
+    public String[] next() throws IOException {
+        int c = read();
+        if (first) {
+            first = false;
+            if (c == '\uFEFF') {
+                c = read();
+            }
+        }
+        while (c == '\n' || c == '\r') {
+            if (c == '\n') {
+                line++;
+            }
+            c = read();
+        }
+        if (c == -1) {
+            return null;
+        }
+        recordLine = line;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        while (true) {
+            if (c == '"') {
+                readQuoted(field);
+                c = read();
+                if (c != ',' && c != '\n' && c != '\r' && c != -1) {
+                    skipLine(c);
+                    throw new IllegalArgumentException("Unexpected character after closing quote");
+                }
+            } else {
+                while (c != ',' && c != '\n' && c != '\r' && c != -1) {
+                    append(field, c);
+                    c = read();
+                }
+            }
+            fields.add(field.toString());
+            field.setLength(0);
+
+            if (c == ',') {
+                c = read();
+                continue;
+            }
+            if (c == '\r') {
+                c = read();
+                if (c != '\n') {
+                    unread(c);
+                }
+            }
+            if (c == '\n') {
+                line++;
+            }
+            return fields.toArray(String[]::new);
+        }
+    }
+
+    /**
+     * @return first line of the record returned (or rejected) by the last next() call
+     */
+    public int recordLine() {
+        return recordLine;
+    }
+
+    private void readQuoted(StringBuilder field) throws IOException {
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                throw new IllegalArgumentException("Unterminated quoted field");
+            }
+            if (c == '"') {
+                int after = read();
+                if (after != '"') {
+                    unread(after);
+                    return;
+                }
+            } else if (c == '\n') {
+                line++;
+            }
+            append(field, c);
+        }
+    }
+
+    private void append(StringBuilder field, int c) throws IOException {
+        if (field.length() == MAX_FIELD_LENGTH) {
+            skipLine(c);
+            throw new IllegalArgumentException("Field longer than " + MAX_FIELD_LENGTH + " characters");
+        }
+        field.append((char) c);
+    }
+
+    private void skipLine(int c) throws IOException {
+        while (c != '\n' && c != -1) {
+            c = read();
+        }
+        if (c == '\n') {
+            line++;
+        }
+    }
+
+    private int read() throws IOException {
+        if (pending != -2) {
+            int c = pending;
+            pending = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void unread(int c) {
+        pending = c;
+    }
+}
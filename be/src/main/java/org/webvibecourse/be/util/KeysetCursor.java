@@ -0,0 +1,60 @@
+package org.webvibecourse.be.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * =====================================================================================
+ * KeysetCursor
+ * -------------------------
+ * Position of the last row of a keyset page, exchanged with clients as an opaque
+ * base64url token.
+ * <p>
+ * ✔ id sort   : "i:<id>"
+ * ✔ name sort : "n:<id>:<name>"
+ * <p>
+ * decode() throws IllegalArgumentException for a malformed token (→ 400).
+ * =====================================================================================
+ */
+public record KeysetCursor(String name, long id) {
+
+    public static KeysetCursor ofId(long id) {
+        return new KeysetCursor(null, id);
+    }
+
+    public static KeysetCursor ofName(String name, long id) {
+        return new KeysetCursor(name, id);
+    }
+
+    public String encode() {
+        String raw = name == null ? "i:" + id : "n:" + id + ":" + name;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param token   cursor from a previous page
+     * @param byName  expected sort of the listing
+     */
+    public static KeysetCursor decode(String token, boolean byName) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+        try {
+            if (!byName && raw.startsWith("i:")) {
+                return ofId(Long.parseLong(raw.substring(2)));
+            }
+            if (byName && raw.startsWith("n:")) {
+                int separator = raw.indexOf(':', 2);
+                if (separator > 0) {
+                    return ofName(raw.substring(separator + 1), Long.parseLong(raw.substring(2, separator)));
+                }
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+        throw new IllegalArgumentException("Invalid cursor");
+    }
+}
@@ -0,0 +1,107 @@
+package org.webvibecourse.be.util;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * =====================================================================================
+ * MpscRingBuffer
+ * -------------------------
+ * Bounded, lock-free multi-producer / single-consumer queue over a power-of-two array
+ * (sequence-per-slot ring, as in Vyukov's bounded queue).
+ * <p>
+ * - offer() : claims the next slot with one CAS on the tail, writes the element, then
+ * publishes it by advancing the slot's sequence. Never blocks, never allocates;
+ * returns false when the ring is full (the caller decides: drop or retry).
+ * - drain() : single consumer only. Takes published elements in order until the first
+ * unpublished slot, and hands each slot back to producers.
+ * <p>
+ * Slot i is free for ticket t when sequence[i] == t, and holds the element of ticket t
+ * when sequence[i] == t + 1. A producer that claimed a slot but has not published it yet
+ * only delays the consumer at that slot, it never loses elements.
+ * =====================================================================================
+ */
+public final class MpscRingBuffer<E> {
+
+    private final Object[] elements;
+    private final AtomicLongArray sequences;
+    private final int mask;
+
+    private final AtomicLong tail = new AtomicLong(); // next ticket for producers
+    private volatile long head;                       // next ticket for the consumer (written by it only)
+
+    /**
+     * @param capacity max number of pending elements, rounded up to a power of two
+     */
+    public MpscRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.elements = new Object[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * @param element element to enqueue (not null)
+     * @return false if the ring is full
+     */
+    public boolean offer(E element) {
+        long ticket;
+        int index;
+        while (true) {
+            ticket = tail.get();
+            index = (int) (ticket & mask);
+            long diff = sequences.get(index) - ticket;
+            if (diff == 0) {
+                if (tail.compareAndSet(ticket, ticket + 1)) {
+                    break;
+                }
+            } else if (diff < 0) {
+                return false; // slot still holds the element of the previous lap
+            }
+            // else: another producer claimed this ticket, retry with the new tail
+        }
+        elements[index] = element;
+        sequences.set(index, ticket + 1); // publish
+        return true;
+    }
+
+    /**
+     * Move up to max published elements to the sink, in enqueue order.
+     * Must only be called by the single consumer thread.
+     *
+     * @return number of elements moved
+     */
+    @SuppressWarnings("unchecked")
+    public int drain(List<? super E> sink, int max) {
+        long ticket = head;
+        int count = 0;
+        while (count < max) {
+            int index = (int) (ticket & mask);
+            if (sequences.get(index) != ticket + 1) {
+                break; // empty, or claimed but not yet published
+            }
+            sink.add((E) elements[index]);
+            elements[index] = null;
+            sequences.set(index, ticket + elements.length); // free for the next lap
+            ticket++;
+            count++;
+        }
+        head = ticket;
+        return count;
+    }
+
+    /**
+     * @return approximate number of pending elements (claimed slots included)
+     */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    public int capacity() {
+        return elements.length;
+    }
+}
@@ -0,0 +1,114 @@
+package org.webvibecourse.be.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * =====================================================================================
+ * RateLimiter
+ * -------------------------
+ * Keyed, lock-free rate limiter (GCRA — the "virtual scheduling" form of a token bucket).
+ * <p>
+ * Each key holds a single long: its theoretical arrival time (TAT). A request is allowed
+ * when TAT − now ≤ burst × interval, and advances TAT by one interval with a CAS loop,
+ * so concurrent requests for the same key never take a lock and never allocate.
+ * <p>
+ * - rate  : permits per period (sustained)
+ * - burst : permits available at once to an idle key
+ * <p>
+ * Bounded memory: at most maxKeys dedicated entries. Once full, unseen keys share a small
+ * fixed array of overflow buckets (hashed), so they are still limited, only coarser.
+ * A key whose TAT is in the past is indistinguishable from a fresh key, so evictIdle()
+ * can drop it at any time.
+ * =====================================================================================
+ */
+public final class RateLimiter {
+
+    private static final int OVERFLOW_BUCKETS = 1024;
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLongArray overflow = new AtomicLongArray(OVERFLOW_BUCKETS);
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final int maxKeys;
+
+    /**
+     * @param permits  permits per period
+     * @param period   period length
+     * @param unit     period unit
+     * @param burst    permits an idle key may use at once (≥ 1)
+     * @param maxKeys  max number of dedicated per-key entries
+     */
+    public RateLimiter(int permits, long period, TimeUnit unit, int burst, int maxKeys) {
+        this.intervalNanos = Math.max(1, unit.toNanos(period) / Math.max(1, permits));
+        this.toleranceNanos = intervalNanos * Math.max(1, burst);
+        this.maxKeys = maxKeys;
+        // nanoTime has an arbitrary origin and may be negative: start overflow buckets "long ago"
+        for (int i = 0; i < OVERFLOW_BUCKETS; i++) {
+            overflow.set(i, Long.MIN_VALUE / 2);
+        }
+    }
+
+    /**
+     * Try to take one permit for the key.
+     *
+     * @param key       limited key (email, IP, ...)
+     * @param nowNanos  current System.nanoTime()
+     * @return 0 when allowed, otherwise the nanos to wait before the next permit
+     */
+    public long tryAcquire(String key, long nowNanos) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys) {
+                return tryAcquireOverflow(key, nowNanos);
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(nowNanos));
+        }
+
+        while (true) {
+            long tat = bucket.get();
+            long next = Math.max(tat, nowNanos) + intervalNanos;
+            long wait = next - nowNanos - toleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(tat, next)) {
+                return 0;
+            }
+        }
+    }
+
+    private long tryAcquireOverflow(String key, long nowNanos) {
+        int index = (int) (BloomFilter.hash(key) & (OVERFLOW_BUCKETS - 1));
+        while (true) {
+            long tat = overflow.get(index);
+            long next = Math.max(tat, nowNanos) + intervalNanos;
+            long wait = next - nowNanos - toleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (overflow.compareAndSet(index, tat, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Drop keys that are fully refilled (TAT in the past).
+     * A request racing with the removal may update a dropped entry, which at worst grants
+     * that key one extra permit.
+     *
+     * @return number of evicted keys
+     */
+    public int evictIdle(long nowNanos) {
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.get() - nowNanos <= 0);
+        return Math.max(0, before - buckets.size());
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+}
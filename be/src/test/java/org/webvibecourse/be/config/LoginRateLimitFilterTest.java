@@ -0,0 +1,105 @@
+package org.webvibecourse.be.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.webvibecourse.be.service.LoginRateLimiter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoginRateLimitFilterTest {
+
+    // generous per-IP limit, one attempt per email
+    private final LoginRateLimitFilter filter = new LoginRateLimitFilter(
+            new LoginRateLimiter(1000, 1000, 1, 1, 100, new SimpleMeterRegistry()), new ObjectMapper());
+
+    @Test
+    void limitsPerEmailAcrossAddresses() throws Exception {
+        String body = "{\"email\":\"victim@example.com\",\"password\":\"x\"}";
+        assertThat(login(body, "10.0.0.1").getStatus()).isEqualTo(200);
+        MockHttpServletResponse second = login(body, "10.0.0.2");
+        assertThat(second.getStatus()).isEqualTo(429);
+        assertThat(second.getHeader("Retry-After")).isNotNull();
+    }
+
+    @Test
+    void rejectsBodiesTooLargeToReadTheEmailFrom() throws Exception {
+        String padded = "{\"pad\":\"" + "x".repeat(9 * 1024) + "\",\"email\":\"victim@example.com\"}";
+        assertThat(login(padded, "10.0.0.1").getStatus()).isEqualTo(413);
+    }
+
+    @Test
+    void replaysTheBodyThroughOneStream() throws Exception {
+        String body = "{\"email\":\"a@example.com\"}";
+        List<String> seen = new ArrayList<>();
+        MockFilterChain chain = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) throws IOException {
+                ServletInputStream in = request.getInputStream();
+                assertThat(request.getInputStream()).isSameAs(in);
+                assertThat(in.isFinished()).isFalse();
+                seen.add(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+                assertThat(in.isFinished()).isTrue();
+                // a second read does not replay the body
+                assertThat(request.getInputStream().read()).isEqualTo(-1);
+            }
+        };
+        filter.doFilter(request(body, "10.0.0.1"), new MockHttpServletResponse(), chain);
+        assertThat(seen).containsExactly(body);
+    }
+
+    @Test
+    void readListenerIsToldTheBodyIsAvailableAndComplete() throws Exception {
+        List<String> events = new ArrayList<>();
+        MockFilterChain chain = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) throws IOException {
+                ServletInputStream in = request.getInputStream();
+                in.setReadListener(new ReadListener() {
+                    @Override
+                    public void onDataAvailable() throws IOException {
+                        events.add(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+                    }
+
+                    @Override
+                    public void onAllDataRead() {
+                        events.add("done");
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        events.add("error");
+                    }
+                });
+            }
+        };
+        filter.doFilter(request("{}", "10.0.0.1"), new MockHttpServletResponse(), chain);
+        assertThat(events).containsExactly("{}", "done");
+    }
+
+    private MockHttpServletResponse login(String body, String ip) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(body, ip), response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String body, String ip) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        request.setRemoteAddr(ip);
+        return request;
+    }
+}
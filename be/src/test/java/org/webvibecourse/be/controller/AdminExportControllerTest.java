@@ -0,0 +1,57 @@
+package org.webvibecourse.be.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.webvibecourse.be.exception.ExportsBusyException;
+import org.webvibecourse.be.service.ExportService;
+import org.webvibecourse.be.service.impl.ExportServiceImpl;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class AdminExportControllerTest {
+
+    // a single slot: one leak would block every later export
+    private final ExportService exportService = new ExportServiceImpl(
+            mock(PlatformTransactionManager.class), new ObjectMapper(), 1000, 1, new SimpleMeterRegistry());
+    private final AdminExportController controller = new AdminExportController(exportService);
+
+    @Test
+    void slotIsReleasedWhenTheStreamingBodyNeverRuns() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/admin/export/users");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(request);
+        asyncManager.setAsyncWebRequest(new StandardServletAsyncWebRequest(request, response));
+        asyncManager.setTaskExecutor(new SimpleAsyncTaskExecutor() {
+            @Override
+            public void execute(Runnable task) {
+                throw new TaskRejectedException("executor saturated");
+            }
+        });
+
+        ResponseEntity<StreamingResponseBody> entity = controller.export("users", "csv", request);
+        assertThatThrownBy(exportService::acquireSlot).isInstanceOf(ExportsBusyException.class);
+
+        // what StreamingResponseBodyReturnValueHandler does with the body
+        asyncManager.startCallableProcessing(() -> {
+            entity.getBody().writeTo(response.getOutputStream());
+            return null;
+        });
+        request.getAsyncContext().complete();
+
+        assertThatCode(exportService::acquireSlot).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,103 @@
+package org.webvibecourse.be.repository.impl;
+
+import org.junit.jupiter.api.Test;
+import org.webvibecourse.be.repository.RefreshTokenStore.Consumption;
+import org.webvibecourse.be.repository.RefreshTokenStore.RefreshToken;
+import org.webvibecourse.be.repository.RefreshTokenStore.Status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryRefreshTokenStoreTest {
+
+    private static final long HOUR = 3_600_000;
+
+    private final InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore(4, 24 * HOUR);
+    private final long now = System.currentTimeMillis();
+
+    @Test
+    void tokenCanBeConsumedOnce() {
+        store.save(token("t1", "family", now + HOUR));
+
+        Consumption first = store.consume("t1", now);
+        assertThat(first.status()).isEqualTo(Status.CONSUMED);
+        assertThat(first.token().userId()).isEqualTo(7L);
+        assertThat(store.consume("t1", now).status()).isEqualTo(Status.REUSED);
+    }
+
+    @Test
+    void rotationKeepsTheFamilyAndDetectsReplayOfTheOldToken() {
+        store.save(token("t1", "family", now + HOUR));
+        assertThat(store.consume("t1", now).status()).isEqualTo(Status.CONSUMED);
+        store.save(token("t2", "family", now + HOUR));
+
+        // the stolen t1 is replayed: the caller revokes the family
+        Consumption replay = store.consume("t1", now);
+        assertThat(replay.status()).isEqualTo(Status.REUSED);
+        store.revokeFamily(replay.token().familyId());
+
+        assertThat(store.consume("t2", now).status()).isEqualTo(Status.REVOKED);
+    }
+
+    @Test
+    void revokingAFamilyLeavesOtherFamiliesAlone() {
+        store.save(token("a", "family-a", now + HOUR));
+        store.save(token("b", "family-b", now + HOUR));
+        store.revokeFamily("family-a");
+
+        assertThat(store.consume("a", now).status()).isEqualTo(Status.REVOKED);
+        assertThat(store.consume("b", now).status()).isEqualTo(Status.CONSUMED);
+    }
+
+    @Test
+    void unknownAndExpiredTokensAreUnknown() {
+        store.save(token("t1", "family", now + HOUR));
+
+        assertThat(store.consume("missing", now)).isEqualTo(Consumption.unknown());
+        assertThat(store.consume("t1", now + HOUR).status()).isEqualTo(Status.UNKNOWN);
+    }
+
+    @Test
+    void purgeDropsOnlyExpiredTokens() {
+        store.save(token("old", "family", now - 1));
+        store.save(token("live", "family", now + HOUR));
+
+        assertThat(store.purgeExpired(now)).isEqualTo(1);
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.find("live")).isPresent();
+        assertThat(store.find("old")).isEmpty();
+    }
+
+    @Test
+    void concurrentRefreshesConsumeATokenExactlyOnce() throws InterruptedException {
+        store.save(token("t1", "family", now + HOUR));
+        AtomicInteger consumed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (store.consume("t1", now).status() == Status.CONSUMED) {
+                    consumed.incrementAndGet();
+                }
+            }));
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(consumed).hasValue(1);
+    }
+
+    private static RefreshToken token(String hash, String family, long expiresAt) {
+        return new RefreshToken(hash, family, 7L, expiresAt);
+    }
+}
@@ -0,0 +1,74 @@
+package org.webvibecourse.be.rsql;
+
+import org.junit.jupiter.api.Test;
+import org.webvibecourse.be.exception.InvalidFilterException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RsqlFilterCompilerTest {
+
+    @Test
+    void acceptsIndexedComparisons() {
+        assertThat(compile("email=like=admin*;role==ADMIN;id=gt=10;status=in=(0,1)")).isNotNull();
+        assertThat(compile("createdAt=ge=2025-01-01T00:00:00Z,email==a@b.c")).isNotNull();
+    }
+
+    @Test
+    void rejectsFieldsOutsideTheWhitelist() {
+        assertRejected("password==secret", "field");
+        assertRejected("fullName=like=An*", "field");
+    }
+
+    @Test
+    void rejectsLeadingWildcards() {
+        assertRejected("email=like=*@gmail.com", "wildcard");
+        assertRejected("email==*@gmail.com", "wildcard");
+        assertRejected("email=like=%gmail", "wildcard");
+    }
+
+    @Test
+    void rejectsLikeOnNonTextFields() {
+        assertRejected("status=like=1*", "operator");
+        assertRejected("id==1*", "operator");
+    }
+
+    @Test
+    void rejectsNegations() {
+        assertRejected("role!=STUDENT", "operator");
+        assertRejected("status=out=(0,1)", "operator");
+    }
+
+    @Test
+    void rejectsUnconvertibleValuesAndBadSyntax() {
+        assertRejected("id==abc", "value");
+        assertRejected("role==OWNER", "value");
+        assertRejected("email==", "syntax");
+    }
+
+    @Test
+    void rejectsTooManyConditions() {
+        assertRejected("id==1;".repeat(RsqlFilterCompiler.MAX_COMPARISONS) + "id==2", "complexity");
+    }
+
+    @Test
+    void likePatternEscapesSqlWildcardsAndAddsAPrefixMatch() {
+        assertThat(RsqlFilterCompiler.likePattern("Java")).isEqualTo("Java%");
+        assertThat(RsqlFilterCompiler.likePattern("Ja*va")).isEqualTo("Ja%va%");
+        assertThat(RsqlFilterCompiler.likePattern("Java*")).isEqualTo("Java%");
+        assertThat(RsqlFilterCompiler.likePattern("100%_off")).isEqualTo("100\\%\\_off%");
+        assertThat(RsqlFilterCompiler.likePattern("100%")).isEqualTo("100\\%%");
+        assertThat(RsqlFilterCompiler.likePattern("a\\b")).isEqualTo("a\\\\b%");
+    }
+
+    private static Object compile(String filter) {
+        return RsqlFilterCompiler.compile(RsqlFilterCompiler.parse(filter), FilterWhitelists.USER);
+    }
+
+    private static void assertRejected(String filter, String reason) {
+        assertThatThrownBy(() -> compile(filter))
+                .isInstanceOf(InvalidFilterException.class)
+                .extracting(e -> ((InvalidFilterException) e).getReason())
+                .isEqualTo(reason);
+    }
+}
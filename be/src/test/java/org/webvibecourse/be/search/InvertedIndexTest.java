@@ -0,0 +1,112 @@
+package org.webvibecourse.be.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    @Test
+    void searchRanksNameWordsAboveDescriptionWords() {
+        InvertedIndex index = new InvertedIndex(1, 12);
+        index.upsert(1, "Cooking basics", "Learn java on the side");
+        index.upsert(2, "Java programming", "Objects and classes");
+
+        InvertedIndex.Hits hits = index.search("java", 10);
+        assertThat(hits.total()).isEqualTo(2);
+        assertThat(hits.ids()).containsExactly(2, 1);
+        assertThat(index.autocomplete("jav", 10)).extracting(InvertedIndex.Suggestion::id).containsExactly(2L);
+    }
+
+    @Test
+    void upsertReplacesThePreviousVersion() {
+        InvertedIndex index = new InvertedIndex(1, 12);
+        index.upsert(1, "Java programming", null);
+        index.upsert(1, "Kotlin programming", null);
+
+        assertThat(index.search("java", 10).total()).isZero();
+        assertThat(index.search("kotlin", 10).ids()).containsExactly(1);
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.addIfAbsent(1, "Java again", null)).isFalse();
+    }
+
+    @Test
+    void compactionDropsRemovedDocumentsAndKeepsTheLiveOnesSearchable() {
+        InvertedIndex index = new InvertedIndex(1, 12);
+        int documents = 4000;
+        for (int id = 0; id < documents; id++) {
+            index.upsert(id, "course w" + id + "x", "common");
+        }
+        long bytesBefore = index.postingsBytes();
+        int termsBefore = index.terms();
+
+        // 3 of 4 removed: well past the compaction threshold
+        for (int id = 0; id < documents; id++) {
+            if (id % 4 != 0) {
+                index.remove(id);
+            }
+        }
+
+        assertThat(index.size()).isEqualTo(documents / 4);
+        assertThat(index.terms()).isLessThan(termsBefore);
+        assertThat(index.postingsBytes()).isLessThan(bytesBefore);
+        assertThat(index.search("common", 10).total()).isEqualTo(documents / 4);
+        for (int id = 0; id < documents; id++) {
+            InvertedIndex.Hits hits = index.search("w" + id + "x", 10);
+            if (id % 4 == 0) {
+                assertThat(hits.ids()).containsExactly(id);
+            } else {
+                assertThat(hits.total()).isZero();
+            }
+        }
+
+        // renumbered ordinals still map back to the right ids after further updates
+        index.upsert(8, "renamed", null);
+        assertThat(index.search("renamed", 10).ids()).containsExactly(8);
+        assertThat(index.search("w8x", 10).total()).isZero();
+        assertThat(index.search("w12x", 10).ids()).containsExactly(12);
+    }
+
+    @Test
+    void longIntMapMatchesAHashMapUnderRandomPutsAndRemoves() {
+        InvertedIndex.LongIntMap map = new InvertedIndex.LongIntMap();
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int op = 0; op < 200_000; op++) {
+            // small key space: long probe runs, many removals in the middle of a run
+            long key = random.nextInt(6000);
+            if (random.nextInt(3) == 0) {
+                Integer removed = expected.remove(key);
+                assertThat(map.remove(key)).isEqualTo(removed == null ? -1 : removed);
+            } else {
+                int value = random.nextInt(Integer.MAX_VALUE);
+                expected.put(key, value);
+                map.put(key, value);
+            }
+        }
+        for (long key = 0; key < 6000; key++) {
+            assertThat(map.get(key)).isEqualTo(expected.getOrDefault(key, -1));
+        }
+    }
+
+    @Test
+    void longIntMapRemoveShiftsBackCollidingKeys() {
+        InvertedIndex.LongIntMap map = new InvertedIndex.LongIntMap();
+        // multiples of the table size collide far more often than random keys
+        for (long key = 0; key < 512; key++) {
+            map.put(key << 11, (int) key);
+        }
+        for (long key = 0; key < 512; key += 2) {
+            assertThat(map.remove(key << 11)).isEqualTo((int) key);
+        }
+        for (long key = 0; key < 512; key++) {
+            assertThat(map.get(key << 11)).isEqualTo(key % 2 == 0 ? -1 : (int) key);
+        }
+        map.clear();
+        assertThat(map.get(1L << 11)).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,45 @@
+package org.webvibecourse.be.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Pageable;
+import org.webvibecourse.be.dto.response.SubjectResponse;
+import org.webvibecourse.be.repository.SubjectRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SubjectSearchIndexTest {
+
+    @Test
+    void failedBuildIsRetriedFromTheLastIndexedId() {
+        SubjectRepository repository = mock(SubjectRepository.class);
+        when(repository.findDetailPageById(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(subject(1, "Java programming"), subject(2, "Kotlin basics")));
+        when(repository.findDetailPageById(eq(2L), any(Pageable.class)))
+                .thenThrow(new DataAccessResourceFailureException("database down"))
+                .thenReturn(List.of(subject(3, "Java advanced")));
+        SubjectSearchIndex index = new SubjectSearchIndex(repository, 1, 12, 2, new SimpleMeterRegistry());
+
+        assertThatIllegalStateException().isThrownBy(() -> index.search("java", 10));
+        index.build();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.search("java", 10).getTotal()).isEqualTo(2);
+        assertThat(index.search("kotlin", 10).getTotal()).isEqualTo(1);
+    }
+
+    private static SubjectResponse subject(long id, String name) {
+        SubjectResponse subject = new SubjectResponse();
+        subject.setId(id);
+        subject.setName(name);
+        return subject;
+    }
+}
@@ -0,0 +1,70 @@
+package org.webvibecourse.be.service.impl;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.webvibecourse.be.Enum.Role;
+import org.webvibecourse.be.dto.response.ImportReport;
+import org.webvibecourse.be.repository.UserRepository;
+import org.webvibecourse.be.service.BulkImportService;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "security.password.bcrypt-strength=4")
+class BulkImportServiceImplTest {
+
+    @Autowired
+    private BulkImportService bulkImportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void adminCanOnlyImportStudentsAndTeachers() throws IOException {
+        ImportReport report = importUsers(Role.ADMIN, """
+                email,password,role
+                admin-import-student@test,secret1,STUDENT
+                admin-import-teacher@test,secret1,teacher
+                admin-import-admin@test,secret1,ADMIN
+                admin-import-superadmin@test,secret1,SUPERADMIN
+                admin-import-code@test,secret1,3
+                admin-import-support@test,secret1,SUPPORT
+                """);
+
+        assertThat(report.getImported()).isEqualTo(2);
+        assertThat(report.getFailed()).isEqualTo(4);
+        assertThat(report.getErrors()).extracting(ImportReport.RowError::getRow).containsExactly(3, 4, 5, 6);
+        assertThat(userRepository.findByEmail("admin-import-superadmin@test")).isEmpty();
+    }
+
+    @Test
+    void superadminCanImportStaffRoles() throws IOException {
+        ImportReport report = importUsers(Role.SUPERADMIN, """
+                email,password,role
+                superadmin-import-admin@test,secret1,ADMIN
+                superadmin-import-superadmin@test,secret1,SUPERADMIN
+                """);
+
+        assertThat(report.getImported()).isEqualTo(2);
+        assertThat(userRepository.findByEmail("superadmin-import-superadmin@test"))
+                .hasValueSatisfying(user -> assertThat(user.getRole()).isEqualTo(Role.SUPERADMIN.getCode()));
+    }
+
+    @Test
+    void onlySuperadminMayAssignStaffRoles() {
+        assertThat(BulkImportServiceImpl.mayAssign(Role.ADMIN, Role.STUDENT)).isTrue();
+        assertThat(BulkImportServiceImpl.mayAssign(Role.ADMIN, Role.TEACHER)).isTrue();
+        assertThat(BulkImportServiceImpl.mayAssign(Role.ADMIN, Role.ADMIN)).isFalse();
+        assertThat(BulkImportServiceImpl.mayAssign(Role.ADMIN, Role.SUPPORT)).isFalse();
+        assertThat(BulkImportServiceImpl.mayAssign(Role.SUPERADMIN, Role.SUPERADMIN)).isTrue();
+    }
+
+    private ImportReport importUsers(Role importer, String csv) throws IOException {
+        return bulkImportService.importUsers(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+                BulkImportService.Format.CSV, importer);
+    }
+}
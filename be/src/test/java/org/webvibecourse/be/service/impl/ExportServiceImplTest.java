@@ -0,0 +1,51 @@
+package org.webvibecourse.be.service.impl;
+
+import org.junit.jupiter.api.Test;
+import org.webvibecourse.be.util.CsvFormulaGuard;
+import org.webvibecourse.be.util.CsvReader;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExportServiceImplTest {
+
+    @Test
+    void quotesOnlyFieldsThatNeedIt() throws IOException {
+        assertThat(csv(1L, "plain", "a,b", "say \"hi\"", "two\nlines", null))
+                .isEqualTo("1,plain,\"a,b\",\"say \"\"hi\"\"\",\"two\nlines\",\n");
+    }
+
+    @Test
+    void neutralizesFormulasInTextCellsOnly() throws IOException {
+        assertThat(csv("=HYPERLINK(\"http://x\")", "+84 912 345 678", "-1", "@SUM(A1)", "\tx", "safe", -5L))
+                .isEqualTo("\"'=HYPERLINK(\"\"http://x\"\")\",'+84 912 345 678,'-1,'@SUM(A1),'\tx,safe,-5\n");
+    }
+
+    @Test
+    void exportedTextReadsBackUnchangedThroughTheImportReader() throws IOException {
+        Object[] values = {"+84 912 345 678", "=1+1", "Nguyễn, Văn \"A\"", "line 1\r\nline 2", "-", "'quoted"};
+        CsvReader reader = new CsvReader(new StringReader(csv(values)));
+
+        String[] fields = reader.next();
+        String[] restored = Arrays.stream(fields).map(CsvFormulaGuard::restore).toArray(String[]::new);
+        assertThat(restored).containsExactly(Arrays.copyOf(values, values.length, String[].class));
+    }
+
+    @Test
+    void timestampsAreWrittenAsIsoText() throws IOException {
+        OffsetDateTime createdAt = OffsetDateTime.parse("2025-01-02T03:04:05Z");
+
+        assertThat(csv(createdAt)).isEqualTo("2025-01-02T03:04:05Z\n");
+    }
+
+    private static String csv(Object... values) throws IOException {
+        StringWriter writer = new StringWriter();
+        ExportServiceImpl.writeCsvRecord(writer, values);
+        return writer.toString();
+    }
+}
@@ -0,0 +1,74 @@
+package org.webvibecourse.be.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.webvibecourse.be.config.ParsedToken;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenRevocationServiceImplTest {
+
+    private static final long HOUR = 3_600_000;
+
+    private final TokenRevocationServiceImpl service =
+            new TokenRevocationServiceImpl(1000, HOUR, 24 * HOUR, new SimpleMeterRegistry());
+
+    @Test
+    void revokeUserRevokesTokensIssuedEarlierInTheSameSecond() {
+        long issuedAt = iat(System.currentTimeMillis());
+        service.revokeUser(7L);
+
+        assertThat(service.isRevoked(token("a", 7L, issuedAt))).isTrue();
+        assertThat(service.isRevoked(token("b", 7L, issuedAt - 60_000))).isTrue();
+    }
+
+    @Test
+    void tokenIssuedAfterRevokeUserReturnsIsValid() {
+        service.revokeUser(7L);
+        long issuedAt = iat(System.currentTimeMillis());
+
+        assertThat(service.isRevoked(token("a", 7L, issuedAt))).isFalse();
+    }
+
+    @Test
+    void revokeUserLeavesOtherUsersAlone() {
+        long issuedAt = iat(System.currentTimeMillis());
+        service.revokeUser(7L);
+
+        assertThat(service.isRevoked(token("a", 8L, issuedAt))).isFalse();
+    }
+
+    @Test
+    void revokeTokenRevokesOnlyThatToken() {
+        long now = System.currentTimeMillis();
+        service.revokeToken("a", 7L, now + HOUR);
+
+        assertThat(service.isRevoked(token("a", 7L, iat(now)))).isTrue();
+        assertThat(service.isRevoked(token("b", 7L, iat(now)))).isFalse();
+    }
+
+    @Test
+    void revocationsSurviveAFilterRebuild() {
+        long now = System.currentTimeMillis();
+        service.revokeToken("a", 7L, now + HOUR);
+        service.revokeUser(8L);
+        service.purgeAndRebuild();
+
+        assertThat(service.isRevoked(token("a", 7L, iat(now)))).isTrue();
+        assertThat(service.isRevoked(token("b", 8L, iat(now)))).isTrue();
+    }
+
+    /**
+     * "iat" as a token carries it: whole seconds.
+     */
+    private static long iat(long millis) {
+        return TimeUnit.SECONDS.toMillis(TimeUnit.MILLISECONDS.toSeconds(millis));
+    }
+
+    private static ParsedToken token(String tokenId, Long userId, long issuedAt) {
+        return new ParsedToken(tokenId, "user@test", userId, "STUDENT", ParsedToken.Use.ACCESS,
+                issuedAt, issuedAt + HOUR, null);
+    }
+}
@@ -0,0 +1,74 @@
+package org.webvibecourse.be.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class CsvReaderTest {
+
+    @Test
+    void readsQuotedFieldsWithSeparatorsQuotesAndLineBreaks() throws IOException {
+        CsvReader csv = reader("name,description\r\n\"Java, advanced\",\"line 1\r\nline \"\"2\"\"\"\nplain,\n");
+
+        assertThat(csv.next()).containsExactly("name", "description");
+        assertThat(csv.next()).containsExactly("Java, advanced", "line 1\r\nline \"2\"");
+        assertThat(csv.recordLine()).isEqualTo(2);
+        assertThat(csv.next()).containsExactly("plain", "");
+        assertThat(csv.recordLine()).isEqualTo(4);
+        assertThat(csv.next()).isNull();
+    }
+
+    @Test
+    void skipsTheBomAndBlankLines() throws IOException {
+        CsvReader csv = reader("\uFEFFemail\n\n\na@test\n");
+
+        assertThat(csv.next()).containsExactly("email");
+        assertThat(csv.next()).containsExactly("a@test");
+        assertThat(csv.recordLine()).isEqualTo(4);
+        assertThat(csv.next()).isNull();
+    }
+
+    @Test
+    void bomIsOnlySkippedAtTheStart() throws IOException {
+        CsvReader csv = reader("a\n\uFEFFb\n");
+
+        assertThat(csv.next()).containsExactly("a");
+        assertThat(csv.next()).containsExactly("\uFEFFb");
+    }
+
+    @Test
+    void resumesAtTheNextLineAfterAMalformedRecord() throws IOException {
+        CsvReader csv = reader("\"ok\",1\n\"bad\"x,2\nnext,3\n");
+
+        assertThat(csv.next()).containsExactly("ok", "1");
+        assertThatIllegalArgumentException().isThrownBy(csv::next).withMessageContaining("closing quote");
+        assertThat(csv.recordLine()).isEqualTo(2);
+        assertThat(csv.next()).containsExactly("next", "3");
+        assertThat(csv.recordLine()).isEqualTo(3);
+    }
+
+    @Test
+    void rejectsOversizedFieldsAndGoesOn() throws IOException {
+        CsvReader csv = reader("x".repeat(64 * 1024 + 1) + ",1\nnext,2\n");
+
+        assertThatIllegalArgumentException().isThrownBy(csv::next).withMessageContaining("longer than");
+        assertThat(csv.next()).containsExactly("next", "2");
+    }
+
+    @Test
+    void unterminatedQuoteEndsTheInput() throws IOException {
+        CsvReader csv = reader("a\n\"never closed,1\n");
+
+        assertThat(csv.next()).containsExactly("a");
+        assertThatIllegalArgumentException().isThrownBy(csv::next).withMessageContaining("Unterminated");
+        assertThat(csv.next()).isNull();
+    }
+
+    private static CsvReader reader(String input) {
+        return new CsvReader(new StringReader(input));
+    }
+}
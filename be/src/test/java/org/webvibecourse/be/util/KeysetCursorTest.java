@@ -0,0 +1,51 @@
+package org.webvibecourse.be.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class KeysetCursorTest {
+
+    @Test
+    void idCursorRoundTrips() {
+        String token = KeysetCursor.ofId(42).encode();
+
+        assertThat(KeysetCursor.decode(token, false)).isEqualTo(KeysetCursor.ofId(42));
+    }
+
+    @Test
+    void nameCursorRoundTripsNamesWithSeparatorsAndUnicode() {
+        KeysetCursor cursor = KeysetCursor.ofName("Lập trình: Java 21", 7);
+        String token = cursor.encode();
+
+        assertThat(token).doesNotContain("+", "/", "=");
+        assertThat(KeysetCursor.decode(token, true)).isEqualTo(cursor);
+    }
+
+    @Test
+    void cursorOfTheOtherSortIsRejected() {
+        String idToken = KeysetCursor.ofId(42).encode();
+        String nameToken = KeysetCursor.ofName("Java", 42).encode();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> KeysetCursor.decode(idToken, true));
+        assertThatIllegalArgumentException().isThrownBy(() -> KeysetCursor.decode(nameToken, false));
+    }
+
+    @Test
+    void tamperedCursorsAreRejected() {
+        assertThatIllegalArgumentException().isThrownBy(() -> KeysetCursor.decode("not base64!", false));
+        assertThatIllegalArgumentException().isThrownBy(() -> KeysetCursor.decode(encode("i:42 OR 1=1"), false));
+        assertThatIllegalArgumentException().isThrownBy(() -> KeysetCursor.decode(encode("i:"), false));
+        assertThatIllegalArgumentException().isThrownBy(() -> KeysetCursor.decode(encode("n:x:Java"), true));
+        assertThatIllegalArgumentException().isThrownBy(() -> KeysetCursor.decode(encode("n:42"), true));
+        assertThatIllegalArgumentException().isThrownBy(() -> KeysetCursor.decode(encode("x:42"), false));
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
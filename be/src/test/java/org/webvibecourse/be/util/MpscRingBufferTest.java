@@ -0,0 +1,115 @@
+package org.webvibecourse.be.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MpscRingBufferTest {
+
+    @Test
+    void capacityIsRoundedUpToAPowerOfTwo() {
+        assertThat(new MpscRingBuffer<>(1).capacity()).isEqualTo(2);
+        assertThat(new MpscRingBuffer<>(5).capacity()).isEqualTo(8);
+        assertThat(new MpscRingBuffer<>(8).capacity()).isEqualTo(8);
+    }
+
+    @Test
+    void offerReturnsFalseWhenFullUntilTheConsumerDrains() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+
+        List<Integer> sink = new ArrayList<>();
+        assertThat(buffer.drain(sink, 1)).isEqualTo(1);
+        assertThat(buffer.offer(4)).isTrue();
+        assertThat(buffer.offer(5)).isFalse();
+
+        buffer.drain(sink, Integer.MAX_VALUE);
+        assertThat(sink).containsExactly(0, 1, 2, 3, 4);
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    void drainTakesAtMostMaxElements() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(8);
+        for (int i = 0; i < 5; i++) {
+            buffer.offer(i);
+        }
+        List<Integer> sink = new ArrayList<>();
+        assertThat(buffer.drain(sink, 3)).isEqualTo(3);
+        assertThat(sink).containsExactly(0, 1, 2);
+        assertThat(buffer.drain(sink, 3)).isEqualTo(2);
+        assertThat(buffer.drain(sink, 3)).isZero();
+    }
+
+    @Test
+    void keepsOrderAcrossManyWrapArounds() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        List<Integer> sink = new ArrayList<>();
+        int next = 0;
+        for (int lap = 0; lap < 1000; lap++) {
+            // 3 per lap: the slots in use shift at every lap
+            for (int i = 0; i < 3; i++) {
+                assertThat(buffer.offer(next++)).isTrue();
+            }
+            buffer.drain(sink, Integer.MAX_VALUE);
+        }
+        assertThat(sink).hasSize(next);
+        for (int i = 0; i < next; i++) {
+            assertThat(sink.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @Timeout(value = 60, unit = TimeUnit.SECONDS)
+    void concurrentProducersLoseNothingAndKeepTheirOwnOrder() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 20_000;
+        MpscRingBuffer<Long> buffer = new MpscRingBuffer<>(256);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            long producer = p;
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int seq = 0; seq < perProducer; seq++) {
+                    Long element = producer << 32 | seq;
+                    while (!buffer.offer(element)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            }));
+        }
+
+        long[] nextSeq = new long[producers];
+        List<Long> sink = new ArrayList<>(256);
+        long received = 0;
+        while (received < (long) producers * perProducer) {
+            sink.clear();
+            int count = buffer.drain(sink, 256);
+            if (count == 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            for (long element : sink) {
+                int producer = (int) (element >>> 32);
+                assertThat(element & 0xFFFFFFFFL).isEqualTo(nextSeq[producer]);
+                nextSeq[producer]++;
+            }
+            received += count;
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(nextSeq).containsOnly(perProducer);
+        assertThat(buffer.size()).isZero();
+    }
+}
@@ -0,0 +1,108 @@
+package org.webvibecourse.be.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long T0 = 1_000 * SECOND;
+
+    // 60 per minute = one permit per second, 5 at once
+    private final RateLimiter limiter = new RateLimiter(60, 1, TimeUnit.MINUTES, 5, 100);
+
+    @Test
+    void idleKeyGetsTheBurstThenWaitsOneInterval() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("a", T0)).isZero();
+        }
+        assertThat(limiter.tryAcquire("a", T0)).isEqualTo(SECOND);
+    }
+
+    @Test
+    void refillsOnePermitPerInterval() {
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("a", T0);
+        }
+        assertThat(limiter.tryAcquire("a", T0 + SECOND / 2)).isEqualTo(SECOND / 2);
+        assertThat(limiter.tryAcquire("a", T0 + SECOND)).isZero();
+        assertThat(limiter.tryAcquire("a", T0 + SECOND)).isEqualTo(SECOND);
+
+        // fully refilled after burst × interval: the whole burst again, not more
+        long later = T0 + 10 * SECOND;
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("a", later)).isZero();
+        }
+        assertThat(limiter.tryAcquire("a", later)).isPositive();
+    }
+
+    @Test
+    void keysAreLimitedIndependently() {
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("a", T0);
+        }
+        assertThat(limiter.tryAcquire("a", T0)).isPositive();
+        assertThat(limiter.tryAcquire("b", T0)).isZero();
+    }
+
+    @Test
+    void keysBeyondMaxKeysAreStillLimited() {
+        RateLimiter small = new RateLimiter(60, 1, TimeUnit.MINUTES, 5, 1);
+        small.tryAcquire("dedicated", T0);
+        for (int i = 0; i < 5; i++) {
+            assertThat(small.tryAcquire("overflow", T0)).isZero();
+        }
+        assertThat(small.tryAcquire("overflow", T0)).isPositive();
+        assertThat(small.size()).isEqualTo(1);
+    }
+
+    @Test
+    void overflowBucketsAcceptANegativeClock() {
+        RateLimiter small = new RateLimiter(60, 1, TimeUnit.MINUTES, 5, 0);
+        assertThat(small.tryAcquire("overflow", -T0)).isZero();
+    }
+
+    @Test
+    void evictsOnlyRefilledKeys() {
+        limiter.tryAcquire("idle", T0);
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("busy", T0 + 5 * SECOND);
+        }
+        assertThat(limiter.evictIdle(T0 + 5 * SECOND)).isEqualTo(1);
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentCallersNeverGetMoreThanTheBurst() throws InterruptedException {
+        int threads = 8;
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            workers.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 1000; i++) {
+                    if (limiter.tryAcquire("shared", T0) == 0) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        assertThat(allowed).hasValue(5);
+    }
+}